@@ -10,32 +10,44 @@ import org.springframework.stereotype.Component;
  * 스레드 풀에서 실행되는 Task에 MDC(Context Map)를 전파하기 위한 TaskDecorator 구현체
  * MDC 정보를 부모 스레드에서 자식 스레드로 복사하여 로그 추적 정보를 유지하도록 한다.
  *
+ * MDC는 작업을 제출하는 시점에 복사되므로, 작업마다 새로 만들어지는 가상 스레드에도 그대로 전파된다.
+ *
  * @since 2025-05-10
+ * @modified 2025-05-22 실행 후 이전 MDC 복원
  */
 @Component
 public class MdcTaskDecorator implements TaskDecorator {
 
 	/**
 	 * Runnable 실행 시 부모 스레드의 MDC(Context Map)를 자식 스레드로 복사하여 설정한다.
-	 * 실행 후 MDC를 반드시 clear하여 메모리 누수를 방지한다.
+	 * 실행 후에는 실행 전의 MDC로 되돌린다.
+	 * 큐가 가득 차 제출한 스레드가 직접 실행(CallerRunsPolicy)하는 경우에도 호출한 쪽의 MDC가 지워지지 않는다.
 	 *
 	 * @param runnable 실행할 원본 Runnable
 	 * @return MDC context를 설정한 새로운 Runnable
 	 * @author 정안식
 	 * @since 2025-05-10
+	 * @modified 2025-05-22 실행 후 MDC를 비우지 않고 이전 상태로 복원
 	 */
 	@Override
 	public Runnable decorate(Runnable runnable) {
 		Map<String, String> contextMap = MDC.getCopyOfContextMap();
 		return () -> {
-			if (contextMap != null) {
-				MDC.setContextMap(contextMap);
-			}
+			Map<String, String> previous = MDC.getCopyOfContextMap();
+			setContextMap(contextMap);
 			try {
 				runnable.run();
 			} finally {
-				MDC.clear();
+				setContextMap(previous);
 			}
 		};
 	}
-}
\ No newline at end of file
+
+	private void setContextMap(Map<String, String> contextMap) {
+		if (contextMap == null) {
+			MDC.clear();
+			return;
+		}
+		MDC.setContextMap(contextMap);
+	}
+}
@@ -0,0 +1,102 @@
+package com.likelion.backendplus4.talkpick.batch.common.monitoring.thread;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 가상 스레드가 synchronized 블록이나 네이티브 호출 안에서 블로킹되어
+ * 캐리어 스레드를 점유(pinning)하는 경우를 JFR 이벤트로 감지하여 경고 로그를 남긴다.
+ *
+ * Java 21의 가상 스레드는 synchronized 안에서 블로킹되면 캐리어 스레드에서 분리되지 못한다.
+ * 스크래핑, LLM 호출, 가상 스레드 파티션 Step에서 이런 경로가 생기면
+ * 동시 실행 수가 캐리어 스레드 수(CPU 코어 수)로 줄어들므로, 발생 위치를 로그로 확인하여
+ * ReentrantLock으로 바꾸는 데 사용한다.
+ *
+ * - {@code jdk.VirtualThreadPinned} 이벤트 중 threshold 이상 점유한 경우만 기록
+ * - 스택은 상위 max-frames개 프레임만 출력
+ * - 별도로 지정하지 않으면 배치 가상 스레드 모드({@code batch.virtual-threads.enabled})를 켰을 때만 동작
+ *
+ * @since 2025-05-22
+ * @modified 2025-05-22 기본값을 배치 가상 스레드 사용 여부로 변경
+ */
+@Slf4j
+@Component
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+	private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+	private final boolean enabled;
+	private final Duration threshold;
+	private final int maxFrames;
+	private RecordingStream recordingStream;
+	private volatile boolean running;
+
+	public VirtualThreadPinningMonitor(
+		@Value("${batch.virtual-threads.pinning-monitor.enabled:${batch.virtual-threads.enabled:false}}") boolean enabled,
+		@Value("${batch.virtual-threads.pinning-monitor.threshold:PT20MS}") Duration threshold,
+		@Value("${batch.virtual-threads.pinning-monitor.max-frames:8}") int maxFrames) {
+		this.enabled = enabled;
+		this.threshold = threshold;
+		this.maxFrames = maxFrames;
+	}
+
+	/**
+	 * JFR 이벤트 스트림을 별도 스레드에서 시작한다.
+	 *
+	 * @since 2025-05-22
+	 */
+	@Override
+	public void start() {
+		if (!enabled) {
+			return;
+		}
+		recordingStream = new RecordingStream();
+		recordingStream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+		recordingStream.onEvent(PINNED_EVENT, this::logPinnedEvent);
+		recordingStream.startAsync();
+		running = true;
+		log.info("가상 스레드 pinning 감지 시작 - threshold: {}", threshold);
+	}
+
+	@Override
+	public void stop() {
+		if (recordingStream != null) {
+			recordingStream.close();
+			recordingStream = null;
+		}
+		running = false;
+	}
+
+	@Override
+	public boolean isRunning() {
+		return running;
+	}
+
+	private void logPinnedEvent(RecordedEvent event) {
+		String threadName = event.getThread() == null ? "unknown" : event.getThread().getJavaName();
+		log.warn("가상 스레드 pinning 감지 - {}ms, thread: {}\n{}",
+			event.getDuration().toMillis(), threadName, formatStackTrace(event.getStackTrace()));
+	}
+
+	private String formatStackTrace(RecordedStackTrace stackTrace) {
+		if (stackTrace == null) {
+			return "\t(stack trace 없음)";
+		}
+		List<RecordedFrame> frames = stackTrace.getFrames();
+		return frames.stream()
+			.limit(maxFrames)
+			.map(frame -> "\tat " + frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+				+ ":" + frame.getLineNumber())
+			.collect(Collectors.joining("\n"));
+	}
+}
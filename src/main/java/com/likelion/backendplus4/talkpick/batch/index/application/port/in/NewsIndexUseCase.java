@@ -1,5 +1,5 @@
 package com.likelion.backendplus4.talkpick.batch.index.application.port.in;
 
 public interface NewsIndexUseCase {
-	int indexAllNewsInfo();
+	void requestIndexing();
 }
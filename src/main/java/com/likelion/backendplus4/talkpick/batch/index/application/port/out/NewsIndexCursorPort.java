@@ -0,0 +1,26 @@
+package com.likelion.backendplus4.talkpick.batch.index.application.port.out;
+
+import com.likelion.backendplus4.talkpick.batch.index.domain.model.NewsIndexCursor;
+
+/**
+ * 색인 진행 위치(커서)를 영속화하는 포트 인터페이스
+ *
+ * @since 2025-05-22
+ */
+public interface NewsIndexCursorPort {
+	/**
+	 * 저장된 커서를 조회한다. 저장된 커서가 없으면 초기 커서를 반환한다.
+	 *
+	 * @return 마지막 색인 커서
+	 * @since 2025-05-22
+	 */
+	NewsIndexCursor load();
+
+	/**
+	 * 커서를 저장한다.
+	 *
+	 * @param cursor 저장할 커서
+	 * @since 2025-05-22
+	 */
+	void save(NewsIndexCursor cursor);
+}
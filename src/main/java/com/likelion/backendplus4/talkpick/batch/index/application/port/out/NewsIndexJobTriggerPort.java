@@ -0,0 +1,16 @@
+package com.likelion.backendplus4.talkpick.batch.index.application.port.out;
+
+/**
+ * 뉴스 색인 배치 작업의 실행을 요청하는 포트 인터페이스
+ *
+ * @since 2025-05-22
+ */
+public interface NewsIndexJobTriggerPort {
+	/**
+	 * 색인 작업을 즉시 한 번 실행하도록 스케줄러에 요청한다.
+	 * 작업은 비동기로 실행되며, 이미 실행 중이면 이전 실행이 끝난 뒤 실행된다.
+	 *
+	 * @since 2025-05-22
+	 */
+	void trigger();
+}
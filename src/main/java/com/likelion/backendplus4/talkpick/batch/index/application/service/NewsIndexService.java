@@ -1,43 +1,39 @@
 package com.likelion.backendplus4.talkpick.batch.index.application.service;
 
-import java.util.List;
-
-import org.elasticsearch.index.IndexService;
 import org.springframework.stereotype.Service;
 
 import com.likelion.backendplus4.talkpick.batch.common.annotation.logging.EntryExitLog;
-import com.likelion.backendplus4.talkpick.batch.common.annotation.logging.TimeTracker;
 import com.likelion.backendplus4.talkpick.batch.index.application.port.in.NewsIndexUseCase;
-import com.likelion.backendplus4.talkpick.batch.index.application.port.out.NewsInfoIndexRepositoryPort;
-import com.likelion.backendplus4.talkpick.batch.index.application.port.out.NewsInfoProviderPort;
-import com.likelion.backendplus4.talkpick.batch.index.domain.model.NewsInfo;
+import com.likelion.backendplus4.talkpick.batch.index.application.port.out.NewsIndexJobTriggerPort;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 /**
- * 뉴스 정보를 조회하고 색인 저장소에 전달하는 비즈니스 로직 서비스
+ * 뉴스 색인 요청을 처리하는 비즈니스 로직 서비스
+ * 실제 색인은 newsIndexJob(Spring Batch)이 마지막 색인 커서 이후의 변경분을 파티션 단위로 수행한다.
  *
  * @since 2025-05-15
+ * @modified 2025-05-22
+ * 25-05-22 - 동기 색인 대신 색인 배치 작업 실행을 요청하도록 변경
  */
 @Slf4j
 @RequiredArgsConstructor
 @Service
 public class NewsIndexService implements NewsIndexUseCase {
-	private final NewsInfoProviderPort newsInfoProviderPort;
-	private final NewsInfoIndexRepositoryPort newsInfoIndexRepositoryPort;
+	private final NewsIndexJobTriggerPort newsIndexJobTriggerPort;
 
 	/**
-	 * 모든 뉴스 정보를 가져와 색인 저장소에 저장하고 저장된 건수를 반환한다.
+	 * 색인 배치 작업 실행을 요청한다.
 	 *
-	 * @return 색인된 뉴스 정보 건수
 	 * @author 정안식
 	 * @since 2025-05-15
+	 * @modified 2025-05-22
+	 * 25-05-22 - 요청 스레드에서 색인하지 않고 Quartz 작업 실행만 요청
 	 */
 	@EntryExitLog()
 	@Override
-	public int indexAllNewsInfo() {
-		List<NewsInfo> newsInfoList = newsInfoProviderPort.fetchAll();
-		return newsInfoIndexRepositoryPort.saveAll(newsInfoList);
+	public void requestIndexing() {
+		newsIndexJobTriggerPort.trigger();
 	}
 }
@@ -0,0 +1,34 @@
+package com.likelion.backendplus4.talkpick.batch.index.domain.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * 마지막으로 색인된 기사의 위치를 나타내는 커서.
+ * 기사 변경 시각(updatedAt)과 기사 ID의 순서쌍으로 키셋 조회의 시작점을 표현한다.
+ *
+ * @since 2025-05-22
+ */
+public record NewsIndexCursor(LocalDateTime lastUpdatedAt, long lastArticleId) {
+	private static final LocalDateTime INITIAL_UPDATED_AT = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+	/**
+	 * 아직 색인한 기사가 없을 때의 초기 커서를 반환한다.
+	 *
+	 * @return 모든 기사보다 앞선 커서
+	 * @since 2025-05-22
+	 */
+	public static NewsIndexCursor initial() {
+		return new NewsIndexCursor(INITIAL_UPDATED_AT, 0L);
+	}
+
+	/**
+	 * 변경 시각이 upperBound 이하인 모든 기사를 색인했음을 나타내는 커서를 반환한다.
+	 *
+	 * @param upperBound 색인이 완료된 변경 시각 상한
+	 * @return upperBound까지 전진한 커서
+	 * @since 2025-05-22
+	 */
+	public static NewsIndexCursor upTo(LocalDateTime upperBound) {
+		return new NewsIndexCursor(upperBound, Long.MAX_VALUE);
+	}
+}
@@ -28,6 +28,7 @@ import jakarta.annotation.PostConstruct;
  *
  * @since 2025-05-15
  * @modified 2025-05-19
+ * @modified 2025-05-22 summaryVector 차원 수와 HNSW 양자화 형식을 설정값으로 변경
  */
 @Component
 public class ElasticsearchNewsInfoAdapter implements NewsInfoIndexRepositoryPort {
@@ -35,14 +36,20 @@ public class ElasticsearchNewsInfoAdapter implements NewsInfoIndexRepositoryPort
 	private final ElasticsearchOperations esOperations;
 	private final NewsInfoDocumentMapper mapper;
 	private final String indexName;
+	private final int vectorDims;
+	private final String vectorIndexType;
 	private IndexOperations indexOperations;
 
 	public ElasticsearchNewsInfoAdapter(ElasticsearchOperations esOperations,
 		NewsInfoDocumentMapper mapper,
-		@Value("${news.index.name}") String indexName) {
+		@Value("${news.index.name}") String indexName,
+		@Value("${news.index.vector.dims:1536}") int vectorDims,
+		@Value("${news.index.vector.index-type:hnsw}") String vectorIndexType) {
 		this.esOperations = esOperations;
 		this.mapper = mapper;
 		this.indexName = indexName;
+		this.vectorDims = vectorDims;
+		this.vectorIndexType = vectorIndexType;
 	}
 
 	/**
@@ -75,10 +82,13 @@ public class ElasticsearchNewsInfoAdapter implements NewsInfoIndexRepositoryPort
 
 	/**
 	 * 인덱스가 없으면 생성하고 매핑을 설정한다.
+	 * 이미 있는 인덱스의 summaryVector 차원 수가 설정과 다르면, 색인이 실패하지 않도록 시작을 중단한다.
+	 * dense_vector의 차원 수는 바꿀 수 없으므로 news.index.name을 새 인덱스로 바꿔 전체 재색인해야 한다.
 	 *
 	 * @param ops 인덱스 운영 객체
 	 * @author 정안식
 	 * @since 2025-05-15
+	 * @modified 2025-05-22 기존 인덱스의 summaryVector 차원 수 확인
 	 */
 	private void ensureIndexExists(IndexOperations ops) {
 		try {
@@ -87,10 +97,34 @@ public class ElasticsearchNewsInfoAdapter implements NewsInfoIndexRepositoryPort
 				ops.putMapping(Document
 					.create()
 					.append("properties", mappingProperties()));
+				return;
 			}
 		} catch (Exception e) {
 			throw new RuntimeException("Failed to create or map index [" + indexName + "]", e);
 		}
+
+		Integer existingDims = existingVectorDims(ops);
+		if (null != existingDims && existingDims != vectorDims) {
+			throw new RuntimeException("Index [" + indexName + "] has " + NewsInfoDocument.FIELD_SUMMARY_VECTOR
+				+ " dims " + existingDims + " but news.index.vector.dims is " + vectorDims
+				+ "; set news.index.name to a new index to reindex");
+		}
+	}
+
+	/**
+	 * 기존 인덱스 매핑에서 summaryVector 필드의 차원 수를 조회한다.
+	 *
+	 * @param ops 인덱스 운영 객체
+	 * @return 차원 수, 필드가 없으면 null
+	 * @since 2025-05-22
+	 */
+	private Integer existingVectorDims(IndexOperations ops) {
+		if (ops.getMapping().get("properties") instanceof Map<?, ?> properties
+			&& properties.get(NewsInfoDocument.FIELD_SUMMARY_VECTOR) instanceof Map<?, ?> vectorField
+			&& vectorField.get("dims") instanceof Number dims) {
+			return dims.intValue();
+		}
+		return null;
 	}
 
 	/**
@@ -101,6 +135,7 @@ public class ElasticsearchNewsInfoAdapter implements NewsInfoIndexRepositoryPort
 	 * @since 2025-05-15
 	 * @modified 2025-05-19
 	 * 25-05-19 - summary 및 summary_vector 필드 추가
+	 * @modified 2025-05-22 summary_vector 차원 수와 index_options를 설정값으로 변경
 	 */
 	private Map<String, Object> mappingProperties() {
 		return Map.ofEntries(
@@ -126,9 +161,10 @@ public class ElasticsearchNewsInfoAdapter implements NewsInfoIndexRepositoryPort
 				"fields", Map.of(NewsInfoDocument.FIELD_KEYWORD, Map.of("type", "keyword")))),
 			Map.entry(NewsInfoDocument.FIELD_SUMMARY_VECTOR, Map.of(
 				"type", "dense_vector",
-				"dims", 1536,
+				"dims", vectorDims,
 				"index", true,
-				"similarity", "cosine"))
+				"similarity", "cosine",
+				"index_options", Map.of("type", vectorIndexType)))
 		);
 	}
 
@@ -1,5 +1,6 @@
 package com.likelion.backendplus4.talkpick.batch.index.infrastructure.adapter.mapper;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import com.likelion.backendplus4.talkpick.batch.index.domain.model.NewsInfo;
@@ -10,11 +11,19 @@ import com.likelion.backendplus4.talkpick.batch.index.infrastructure.adapter.doc
  *
  * @since 2025-05-15
  * @modified 2025-05-19
+ * @modified 2025-05-22 인덱스 차원 수와 다른 summaryVector 제외
  */
 @Component
 public class NewsInfoDocumentMapper {
+	private final int vectorDims;
+
+	public NewsInfoDocumentMapper(@Value("${news.index.vector.dims:1536}") int vectorDims) {
+		this.vectorDims = vectorDims;
+	}
+
 	/**
 	 * NewsInfo 도메인 객체를 NewsInfoDocument로 변환한다.
+	 * 재임베딩을 기다리는, 차원 수가 인덱스와 다른 벡터는 bulk 요청이 거부되지 않도록 제외한다.
 	 *
 	 * @param news 변환할 도메인 객체
 	 * @return 변환된 문서 객체
@@ -22,6 +31,7 @@ public class NewsInfoDocumentMapper {
 	 * @since 2025-05-15
 	 * @modified 2025-05-19
 	 * 25-05-19 - summary, summaryVector 필드 추가
+	 * @modified 2025-05-22 차원 수가 다른 summaryVector 제외
 	 */
 	public NewsInfoDocument toDocument(NewsInfo news) {
 		return new NewsInfoDocument(
@@ -32,8 +42,15 @@ public class NewsInfoDocumentMapper {
 			news.getImageUrl(),
 			news.getCategory(),
 			news.getSummary(),
-			news.getSummaryVector()
+			toIndexedVector(news.getSummaryVector())
 		);
 	}
+
+	private float[] toIndexedVector(float[] summaryVector) {
+		if (null == summaryVector || summaryVector.length != vectorDims) {
+			return null;
+		}
+		return summaryVector;
+	}
 }
 
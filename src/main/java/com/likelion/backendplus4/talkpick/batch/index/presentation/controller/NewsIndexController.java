@@ -16,6 +16,8 @@ import lombok.RequiredArgsConstructor;
  * 뉴스 데이터 일괄 색인을 위한 REST 컨트롤러
  *
  * @since 2025-05-15
+ * @modified 2025-05-22
+ * 25-05-22 - 동기 색인 대신 색인 배치 작업 실행 요청으로 변경
  */
 @RestController
 @RequestMapping("/news")
@@ -25,17 +27,19 @@ public class NewsIndexController {
 	private final NewsIndexUseCase indexUseCase;
 
 	/**
-	 * 전체 뉴스 정보를 색인하고 처리 건수를 반환한다.
+	 * 뉴스 색인 배치 작업 실행을 요청한다. 색인은 비동기로 수행된다.
 	 *
-	 * @return ApiResponse에 래핑된 색인된 뉴스 건수
+	 * @return 요청 성공 응답
 	 * @author 정안식
 	 * @since 2025-05-15
+	 * @modified 2025-05-22
+	 * 25-05-22 - 색인 건수 대신 실행 요청 결과만 반환
 	 */
 	@EntryExitLog
 	@TimeTracker
 	@PostMapping("/index")
-	public ResponseEntity<ApiResponse<Integer>> indexAllNews() {
-		int count = indexUseCase.indexAllNewsInfo();
-		return ApiResponse.success(count);
+	public ResponseEntity<ApiResponse<Void>> indexAllNews() {
+		indexUseCase.requestIndexing();
+		return ApiResponse.success();
 	}
 }
@@ -0,0 +1,20 @@
+package com.likelion.backendplus4.talkpick.batch.news.article.application.port.in;
+
+import java.util.List;
+
+import com.likelion.backendplus4.talkpick.batch.news.article.application.service.dto.TaskExecutorStatusResponse;
+
+/**
+ * 배치 작업용 TaskExecutor의 실행 현황을 조회하는 유스케이스 인터페이스.
+ *
+ * @since 2025-05-22
+ */
+public interface TaskExecutorStatusUseCase {
+
+	/**
+	 * 모든 TaskExecutor의 실행 현황을 조회한다.
+	 *
+	 * @return Executor별 실행 현황
+	 */
+	List<TaskExecutorStatusResponse> getStatuses();
+}
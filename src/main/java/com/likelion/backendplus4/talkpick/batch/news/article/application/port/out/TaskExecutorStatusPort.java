@@ -0,0 +1,20 @@
+package com.likelion.backendplus4.talkpick.batch.news.article.application.port.out;
+
+import java.util.List;
+
+import com.likelion.backendplus4.talkpick.batch.news.article.application.service.dto.TaskExecutorStatusResponse;
+
+/**
+ * 배치 작업용 TaskExecutor의 실행 현황을 제공하는 포트 인터페이스.
+ *
+ * @since 2025-05-22
+ */
+public interface TaskExecutorStatusPort {
+
+	/**
+	 * Executor별 실행 현황을 조회한다.
+	 *
+	 * @return Executor별 실행 현황 (이름순)
+	 */
+	List<TaskExecutorStatusResponse> findAll();
+}
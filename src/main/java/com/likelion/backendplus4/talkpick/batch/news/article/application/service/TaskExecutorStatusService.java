@@ -0,0 +1,33 @@
+package com.likelion.backendplus4.talkpick.batch.news.article.application.service;
+
+import java.util.List;
+
+import org.springframework.stereotype.Service;
+
+import com.likelion.backendplus4.talkpick.batch.news.article.application.port.in.TaskExecutorStatusUseCase;
+import com.likelion.backendplus4.talkpick.batch.news.article.application.port.out.TaskExecutorStatusPort;
+import com.likelion.backendplus4.talkpick.batch.news.article.application.service.dto.TaskExecutorStatusResponse;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * TaskExecutor 실행 현황 조회 유스케이스 구현체.
+ *
+ * @since 2025-05-22
+ */
+@Service
+@RequiredArgsConstructor
+public class TaskExecutorStatusService implements TaskExecutorStatusUseCase {
+	private final TaskExecutorStatusPort taskExecutorStatusPort;
+
+	/**
+	 * 모든 TaskExecutor의 실행 현황을 조회한다.
+	 *
+	 * @return Executor별 실행 현황
+	 * @since 2025-05-22
+	 */
+	@Override
+	public List<TaskExecutorStatusResponse> getStatuses() {
+		return taskExecutorStatusPort.findAll();
+	}
+}
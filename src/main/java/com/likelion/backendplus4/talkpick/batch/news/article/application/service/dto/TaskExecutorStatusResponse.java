@@ -0,0 +1,26 @@
+package com.likelion.backendplus4.talkpick.batch.news.article.application.service.dto;
+
+/**
+ * TaskExecutor 실행 현황을 클라이언트에 전달하기 위한 응답 DTO.
+ * 가상 스레드 Executor는 큐가 없으므로 queueSize에 동시 실행 한도로 대기 중인 제출 수를 담고,
+ * poolSize와 queueCapacity는 -1로 표시한다.
+ *
+ * @param name Executor 빈 이름
+ * @param virtualThreads 가상 스레드 사용 여부
+ * @param activeCount 실행 중인 작업 수
+ * @param poolSize 현재 스레드 수
+ * @param maxPoolSize 최대 스레드 수 또는 동시 실행 한도 (-1이면 제한 없음)
+ * @param queueSize 대기 중인 작업 수
+ * @param queueCapacity 대기 큐 크기
+ * @since 2025-05-22
+ */
+public record TaskExecutorStatusResponse(
+	String name,
+	boolean virtualThreads,
+	int activeCount,
+	int poolSize,
+	int maxPoolSize,
+	int queueSize,
+	int queueCapacity
+) {
+}
@@ -29,6 +29,7 @@ public enum ArticleCollectorErrorCode implements ErrorCode {
     SCHEDULER_START_FAIL(HttpStatus.INTERNAL_SERVER_ERROR, 550004, "[Quartz] 스케줄러 시작 실패"),
     SCHEDULER_STOP_FAIL(HttpStatus.INTERNAL_SERVER_ERROR, 550005, "[Quartz] 스케줄러 중지 실패"),
     STATUS_CHECK_FAIL(HttpStatus.INTERNAL_SERVER_ERROR, 550006, "상태 확인 실패"),
+    JOB_TRIGGER_FAIL(HttpStatus.INTERNAL_SERVER_ERROR, 550007, "[Quartz] Job 실행 요청 실패"),
 
     // RSS 정보 로드 관련 오류
     FEED_CONNECTION_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, 450001,"RSS 피드 연결 중 오류가 발생했습니다."),
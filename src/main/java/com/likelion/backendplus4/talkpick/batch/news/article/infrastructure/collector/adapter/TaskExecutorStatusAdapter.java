@@ -0,0 +1,75 @@
+package com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.collector.adapter;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import com.likelion.backendplus4.talkpick.batch.news.article.application.port.out.TaskExecutorStatusPort;
+import com.likelion.backendplus4.talkpick.batch.news.article.application.service.dto.TaskExecutorStatusResponse;
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.collector.config.executor.MonitoredVirtualThreadTaskExecutor;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 등록된 TaskExecutor 빈에서 실행 현황을 읽어오는 TaskExecutorStatusPort 구현체.
+ * ThreadPool 기반과 {@link MonitoredVirtualThreadTaskExecutor}만 집계한다.
+ *
+ * @since 2025-05-22
+ */
+@Component
+@RequiredArgsConstructor
+public class TaskExecutorStatusAdapter implements TaskExecutorStatusPort {
+	private static final int NOT_APPLICABLE = -1;
+
+	private final Map<String, TaskExecutor> taskExecutors;
+
+	/**
+	 * Executor별 실행 현황을 이름순으로 조회한다.
+	 *
+	 * @return Executor별 실행 현황
+	 * @since 2025-05-22
+	 */
+	@Override
+	public List<TaskExecutorStatusResponse> findAll() {
+		return taskExecutors.entrySet().stream()
+			.map(entry -> toStatus(entry.getKey(), entry.getValue()))
+			.flatMap(Optional::stream)
+			.sorted(Comparator.comparing(TaskExecutorStatusResponse::name))
+			.toList();
+	}
+
+	private Optional<TaskExecutorStatusResponse> toStatus(String name, TaskExecutor executor) {
+		if (executor instanceof ThreadPoolTaskExecutor pool) {
+			return Optional.of(toPlatformStatus(name, pool));
+		}
+		if (executor instanceof MonitoredVirtualThreadTaskExecutor virtual) {
+			return Optional.of(toVirtualStatus(name, virtual));
+		}
+		return Optional.empty();
+	}
+
+	private TaskExecutorStatusResponse toPlatformStatus(String name, ThreadPoolTaskExecutor executor) {
+		ThreadPoolExecutor pool = executor.getThreadPoolExecutor();
+		return new TaskExecutorStatusResponse(name, false,
+			pool.getActiveCount(),
+			pool.getPoolSize(),
+			pool.getMaximumPoolSize(),
+			pool.getQueue().size(),
+			executor.getQueueCapacity());
+	}
+
+	private TaskExecutorStatusResponse toVirtualStatus(String name, MonitoredVirtualThreadTaskExecutor executor) {
+		return new TaskExecutorStatusResponse(name, true,
+			executor.getActiveCount(),
+			NOT_APPLICABLE,
+			executor.getConcurrencyLimit(),
+			executor.getWaitingCount(),
+			NOT_APPLICABLE);
+	}
+}
@@ -1,11 +1,19 @@
 package com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.collector.config.batch;
 
+import org.quartz.JobDetail;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.Step;
+import org.springframework.batch.core.StepExecution;
 import org.springframework.batch.core.job.builder.JobBuilder;
 import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.collector.writer.ArticleWriter;
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.support.chain.NextStageTriggerListener;
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.support.chain.PipelineStageTrigger;
+
 /**
  * Spring Batch Job 설정 클래스. <p>
  * RSS 기사 수집을 위한 Batch Job 을 정의하며, 파티셔닝된 Step 을 시작 단계로 구성한다. <p>
@@ -15,31 +23,62 @@ import org.springframework.context.annotation.Configuration;
  *
  * 해당 Job 은 Quartz 또는 Spring Scheduler 를 통해 주기적으로 실행될 수 있다. <p>
  *
+ * 새로 저장한 기사가 있으면 완료 후 요약/임베딩 Job 실행을 요청한다. <p>
+ *
  * @since 2025-05-10
+ * @modified 2025-05-22 완료 후 요약/임베딩 단계 연쇄 실행
+ * @modified 2025-05-22 수집 후 유사 중복 기사 판별
  */
 @Configuration
 public class JobConfig {
 	private final String jobName = "articleCollectorBatchJob";
 	private final JobRepository jobRepository;
 	private final Step rssPartitionedStep;
+	private final Step nearDuplicateDetectionStep;
+	private final PipelineStageTrigger pipelineStageTrigger;
+	private final JobDetail articleEmbeddingJobDetail;
 
-	public JobConfig(JobRepository jobRepository, Step articleRssPartitionedStep) {
+	public JobConfig(JobRepository jobRepository, Step articleRssPartitionedStep,
+		Step nearDuplicateDetectionStep,
+		PipelineStageTrigger pipelineStageTrigger,
+		@Qualifier("articleEmbeddingJobDetail") JobDetail articleEmbeddingJobDetail) {
 		this.jobRepository = jobRepository;
 		this.rssPartitionedStep = articleRssPartitionedStep;
+		this.nearDuplicateDetectionStep = nearDuplicateDetectionStep;
+		this.pipelineStageTrigger = pipelineStageTrigger;
+		this.articleEmbeddingJobDetail = articleEmbeddingJobDetail;
 	}
 
 	/**
 	 * RSS 기사 수집용 Spring Batch Job Bean을 생성한다.
-	 * 파티셔닝 Step 을 실행하도록 구성한다.
+	 * 파티셔닝 Step 이후 유사 중복 판별 Step 을 실행하도록 구성한다.
 	 *
 	 * @return RSS 기사 수집 배치 Job
 	 * @author 함예정
 	 * @since 2025-05-10
+	 * @modified 2025-05-22 요약 단계 연쇄 리스너 등록
+	 * @modified 2025-05-22 유사 중복 판별 Step 추가
 	 */
 	@Bean
 	public Job articleCollectJob() {
 		return new JobBuilder(jobName, jobRepository)
 			.start(rssPartitionedStep)
+			.next(nearDuplicateDetectionStep)
+			.listener(summaryStageTriggerListener())
 			.build();
 	}
+
+	/**
+	 * 파티션 Step들이 새로 저장한 기사 수를 합산하여, 1건 이상이면 요약/임베딩 Job 실행을 요청하는 리스너.
+	 *
+	 * @return 다음 단계 요청 리스너
+	 * @since 2025-05-22
+	 */
+	private NextStageTriggerListener summaryStageTriggerListener() {
+		return new NextStageTriggerListener(pipelineStageTrigger, articleEmbeddingJobDetail.getKey(),
+			jobExecution -> jobExecution.getStepExecutions().stream()
+				.map(StepExecution::getExecutionContext)
+				.mapToLong(context -> context.getLong(ArticleWriter.INSERTED_COUNT_KEY, 0L))
+				.sum());
+	}
 }
@@ -119,6 +119,20 @@ public enum RssSource {
         return mapperType.toUpperCase();
     }
 
+    /**
+     * 언론사 코드 접두사와 카테고리 이름으로 소스 조회
+     *
+     * @param codePrefix 언론사 코드 접두사 (예: "KM")
+     * @param categoryName 카테고리 표시 이름
+     * @return 일치하는 소스
+     */
+    public static Optional<RssSource> findByCodePrefixAndCategoryName(String codePrefix, String categoryName) {
+        return Arrays.stream(values())
+                .filter(source -> source.getCodePrefix().equals(codePrefix))
+                .filter(source -> source.getCategoryName().equals(categoryName))
+                .findFirst();
+    }
+
     /**
      * 활성화된 모든 소스 반환
      */
@@ -16,6 +16,7 @@ import org.springframework.core.task.TaskExecutor;
 import org.springframework.transaction.PlatformTransactionManager;
 
 import com.likelion.backendplus4.talkpick.batch.news.article.exception.ArticleCollectorException;
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.collector.support.cache.ScrapedDocumentCache;
 import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.jpa.entity.ArticleEntity;
 
 /**
@@ -27,10 +28,12 @@ import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.jpa.
  * - parseRssStep: 각 파티션 단위에서 RSS 데이터를 읽고, 가공 후 저장
  *
  * @since 2025-05-10
+ * @modified 2025-05-21 parseRssStep에 스크래핑 Document 캐시 리스너 등록
+ * @modified 2025-05-22 수집 전용 파티션 Executor 사용
  */
 @Configuration
 public class StepConfig {
-	private final String executorName = "normalExecutor";
+	private final String executorName = "collectorPartitionExecutor";
 	private static final String partitionedStepName = "articleRssPartitionedStep";
 	private final String parseRssStepName = "parseRssStep";
 	private final int gridSize = 3;
@@ -43,6 +46,7 @@ public class StepConfig {
 	private final TaskExecutor taskExecutor;
 	private final ItemProcessor<RssSource, List<ArticleEntity>> processor;
 	private final ItemWriter<List<ArticleEntity>> writer;
+	private final ScrapedDocumentCache scrapedDocumentCache;
 
 	public StepConfig(JobRepository jobRepository,
 		Partitioner rssSourcePartitioner,
@@ -50,13 +54,15 @@ public class StepConfig {
 		@Qualifier(executorName)
 		TaskExecutor taskExecutor,
 		ItemProcessor<RssSource, List<ArticleEntity>> processor,
-		ItemWriter<List<ArticleEntity>> writer) {
+		ItemWriter<List<ArticleEntity>> writer,
+		ScrapedDocumentCache scrapedDocumentCache) {
 		this.jobRepository = jobRepository;
 		this.rssSourcePartitioner = rssSourcePartitioner;
 		this.transactionManager = platformTransactionManager;
 		this.taskExecutor = taskExecutor;
 		this.processor = processor;
 		this.writer = writer;
+		this.scrapedDocumentCache = scrapedDocumentCache;
 	}
 
 	/**
@@ -81,6 +87,7 @@ public class StepConfig {
 	/**
 	 * RSS 데이터를 청크 단위로 읽고, 가공하고, 저장하는 Step을 정의한다.
 	 * 예외 발생 시 지정된 예외 클래스는 skip 처리되며, {@code skipLimit} 이하까지 허용된다.
+	 * Step 종료 시 스크래핑 Document 캐시를 비운다.
 	 *
 	 * @param articleReader RSS 데이터 소스를 읽는 Reader
 	 * @return RSS 처리용 Step
@@ -99,6 +106,7 @@ public class StepConfig {
 			.retryLimit(retryLimit)
 			.skip(ArticleCollectorException.class)
 			.skipLimit(skipLimit)
+			.listener(scrapedDocumentCache)
 			.build();
 	}
 }
@@ -0,0 +1,51 @@
+package com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.collector.config.executor;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+
+/**
+ * 실행 중인 작업 수와 동시 실행 한도로 대기 중인 제출 수를 집계하는 가상 스레드 TaskExecutor.
+ * 작업마다 새 가상 스레드를 만들므로 큐가 없고, 한도를 넘으면 제출한 스레드가 대기한다.
+ *
+ * @since 2025-05-22
+ */
+public class MonitoredVirtualThreadTaskExecutor extends SimpleAsyncTaskExecutor {
+	private final AtomicInteger activeCount = new AtomicInteger();
+	private final AtomicInteger waitingCount = new AtomicInteger();
+
+	public MonitoredVirtualThreadTaskExecutor(String threadNamePrefix) {
+		super(threadNamePrefix);
+		setVirtualThreads(true);
+	}
+
+	@Override
+	public void execute(Runnable task) {
+		waitingCount.incrementAndGet();
+		try {
+			super.execute(task);
+		} finally {
+			waitingCount.decrementAndGet();
+		}
+	}
+
+	@Override
+	protected void doExecute(Runnable task) {
+		super.doExecute(() -> {
+			activeCount.incrementAndGet();
+			try {
+				task.run();
+			} finally {
+				activeCount.decrementAndGet();
+			}
+		});
+	}
+
+	public int getActiveCount() {
+		return activeCount.get();
+	}
+
+	public int getWaitingCount() {
+		return waitingCount.get();
+	}
+}
@@ -1,5 +1,9 @@
 package com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.collector.config.executor;
 
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.task.TaskExecutor;
@@ -8,42 +12,158 @@ import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import com.likelion.backendplus4.talkpick.batch.common.decorator.logging.MdcTaskDecorator;
 
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 
 /**
  * 비동기 작업 처리를 위한 TaskExecutor 설정 클래스.
  * Spring Batch 또는 기타 병렬 처리를 위한 ThreadPool 기반 Executor를 정의한다.
  *
  * - {@link MdcTaskDecorator}를 통해 각 스레드에 MDC 로그 컨텍스트를 유지
+ * - 기사 본문 스크래핑은 가상 스레드 기반 Executor에서 병렬 수행
+ * - 요약 API 호출은 가상 스레드 기반 Executor에서 비동기 수행
+ * - 파티션 Step은 작업 종류(수집, 요약, 임베딩, 색인)별 Executor에서 실행되어 서로의 큐를 점유하지 않음
+ *
+ * 파티션 Executor의 크기와 가상 스레드 사용 여부는 {@link TaskExecutorProperties}로 지정한다.
+ * 큐가 가득 차면 예외 대신 제출한 스레드가 직접 실행(CallerRunsPolicy)한다.
+ * {@code batch.virtual-threads.enabled=true}이면 따로 지정하지 않은 파티션 Executor는 가상 스레드로 실행된다.
+ * Tomcat 등 다른 구성 요소에 영향을 주지 않도록 Spring Boot 전역 설정({@code spring.threads.virtual.enabled}) 대신 배치 전용 설정을 사용한다.
  *
  * @since 2025-05-02
- * @modified 2025-05-10
+ * @modified 2025-05-21 기사 스크래핑용 가상 스레드 Executor 추가
+ * @modified 2025-05-21 LLM 호출용 가상 스레드 Executor 추가
+ * @modified 2025-05-22 공용 normalExecutor를 작업 종류별 파티션 Executor로 분리
+ * @modified 2025-05-22 전역 가상 스레드 설정에 따라 파티션 Executor 선택
+ * @modified 2025-05-22 전역 설정 대신 배치 전용 가상 스레드 설정 사용
  */
 @Configuration
-@RequiredArgsConstructor
+@EnableConfigurationProperties(TaskExecutorProperties.class)
 public class TaskExecutorConfig {
 	private final MdcTaskDecorator mdcTaskDecorator;
+	private final TaskExecutorProperties taskExecutorProperties;
+	private final boolean virtualThreadsEnabled;
 
 	@Getter
-	private static final String normalExecutorName = "normalExecutor";
+	private static final String collectorExecutorName = "collectorPartitionExecutor";
+	@Getter
+	private static final String summaryExecutorName = "summaryPartitionExecutor";
+	@Getter
+	private static final String embeddingExecutorName = "embeddingPartitionExecutor";
+	@Getter
+	private static final String indexExecutorName = "indexPartitionExecutor";
+	@Getter
+	private static final String scrapingExecutorName = "scrapingExecutor";
+	@Getter
+	private static final String llmExecutorName = "llmExecutor";
+
+	public TaskExecutorConfig(MdcTaskDecorator mdcTaskDecorator,
+		TaskExecutorProperties taskExecutorProperties,
+		@Value("${batch.virtual-threads.enabled:false}") boolean virtualThreadsEnabled) {
+		this.mdcTaskDecorator = mdcTaskDecorator;
+		this.taskExecutorProperties = taskExecutorProperties;
+		this.virtualThreadsEnabled = virtualThreadsEnabled;
+	}
+
+	/**
+	 * RSS 수집 파티션 Step을 위한 TaskExecutor 설정 (피드 요청 등 I/O 위주)
+	 *
+	 * @return TaskExecutor 인스턴스
+	 * @since 2025-05-22
+	 */
+	@Bean(collectorExecutorName)
+	public TaskExecutor collectorPartitionExecutor() {
+		return createPartitionExecutor(collectorExecutorName);
+	}
+
+	/**
+	 * 기사 요약 파티션 Step을 위한 TaskExecutor 설정 (LLM 호출 대기 위주)
+	 *
+	 * @return TaskExecutor 인스턴스
+	 * @since 2025-05-22
+	 */
+	@Bean(summaryExecutorName)
+	public TaskExecutor summaryPartitionExecutor() {
+		return createPartitionExecutor(summaryExecutorName);
+	}
+
+	/**
+	 * 기사 임베딩 파티션 Step을 위한 TaskExecutor 설정 (임베딩 API 호출 대기 위주)
+	 *
+	 * @return TaskExecutor 인스턴스
+	 * @since 2025-05-22
+	 */
+	@Bean(embeddingExecutorName)
+	public TaskExecutor embeddingPartitionExecutor() {
+		return createPartitionExecutor(embeddingExecutorName);
+	}
+
+	/**
+	 * 뉴스 색인 파티션 Step을 위한 TaskExecutor 설정 (DB 조회, ES 쓰기 위주)
+	 *
+	 * @return TaskExecutor 인스턴스
+	 * @since 2025-05-22
+	 */
+	@Bean(indexExecutorName)
+	public TaskExecutor indexPartitionExecutor() {
+		return createPartitionExecutor(indexExecutorName);
+	}
+
+	/**
+	 * 기사 단위 스크래핑을 위한 가상 스레드 기반 TaskExecutor 설정
+	 * 동시 실행 개수는 {@code collector.scraping.max-concurrency}로 제한하며,
+	 * 한도를 넘으면 제출한 스레드가 대기한다.
+	 *
+	 * @param maxConcurrency 전체 스크래핑 동시 실행 한도
+	 * @return TaskExecutor 인스턴스
+	 * @since 2025-05-21
+	 * @modified 2025-05-22 실행 현황 집계
+	 */
+	@Bean(scrapingExecutorName)
+	public TaskExecutor scrapingExecutor(@Value("${collector.scraping.max-concurrency:32}") int maxConcurrency) {
+		return createVirtualThreadExecutor(scrapingExecutorName, maxConcurrency);
+	}
 
 	/**
-	 * 일반적인 작업처리를 위한 ThreadPool 기반 TaskExecutor 설정
+	 * 요약 등 LLM API 호출을 비동기로 수행하기 위한 가상 스레드 기반 TaskExecutor 설정
+	 * 동시 요청 수는 호출하는 쪽의 in-flight 윈도우로 제한한다.
 	 *
 	 * @return TaskExecutor 인스턴스
-	 * @author 함예정
-	 * @since 2025-05-02
-	 * @modified 2025-05-10
+	 * @since 2025-05-21
+	 * @modified 2025-05-22 실행 현황 집계
 	 */
-	@Bean(normalExecutorName)
-	public TaskExecutor taskExecutor() {
+	@Bean(llmExecutorName)
+	public TaskExecutor llmExecutor() {
+		MonitoredVirtualThreadTaskExecutor executor = new MonitoredVirtualThreadTaskExecutor(llmExecutorName + "-");
+		executor.setTaskDecorator(mdcTaskDecorator);
+		return executor;
+	}
+
+	/**
+	 * 설정에 따라 ThreadPool 또는 가상 스레드 기반 파티션 Executor를 생성한다.
+	 *
+	 * @param name Executor 빈 이름
+	 * @return TaskExecutor 인스턴스
+	 * @since 2025-05-22
+	 */
+	private TaskExecutor createPartitionExecutor(String name) {
+		TaskExecutorProperties.Pool pool = taskExecutorProperties.get(name);
+		if (pool.useVirtualThreads(virtualThreadsEnabled)) {
+			return createVirtualThreadExecutor(name, pool.maxSize());
+		}
+
 		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-		executor.setCorePoolSize(5);
-		executor.setMaxPoolSize(10);
-		executor.setQueueCapacity(10);
+		executor.setCorePoolSize(pool.coreSize());
+		executor.setMaxPoolSize(pool.maxSize());
+		executor.setQueueCapacity(pool.queueCapacity());
+		executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
 		executor.setTaskDecorator(mdcTaskDecorator);
-		executor.setThreadNamePrefix("normalExecutor-");
+		executor.setThreadNamePrefix(name + "-");
 		executor.initialize();
 		return executor;
 	}
+
+	private TaskExecutor createVirtualThreadExecutor(String name, int concurrencyLimit) {
+		MonitoredVirtualThreadTaskExecutor executor = new MonitoredVirtualThreadTaskExecutor(name + "-");
+		executor.setConcurrencyLimit(concurrencyLimit);
+		executor.setTaskDecorator(mdcTaskDecorator);
+		return executor;
+	}
 }
@@ -0,0 +1,55 @@
+package com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.collector.config.executor;
+
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 작업 종류별 파티션 Executor 설정.
+ * {@code batch.executor.<executor 이름>} 아래에 크기와 스레드 종류를 지정한다.
+ * 설정이 없는 Executor는 {@link Pool#DEFAULT}를 사용한다.
+ * 가상 스레드 사용 여부를 지정하지 않으면 {@code batch.virtual-threads.enabled}를 따른다.
+ *
+ * @param executor Executor 이름별 설정
+ * @since 2025-05-22
+ * @modified 2025-05-22 가상 스레드 사용 여부 기본값을 전역 설정으로 변경
+ * @modified 2025-05-22 기본값을 배치 전용 가상 스레드 설정으로 변경
+ */
+@ConfigurationProperties(prefix = "batch")
+public record TaskExecutorProperties(Map<String, Pool> executor) {
+
+	/**
+	 * Executor 이름에 해당하는 설정을 반환한다.
+	 *
+	 * @param name Executor 빈 이름
+	 * @return 설정 값 또는 기본값
+	 * @since 2025-05-22
+	 */
+	public Pool get(String name) {
+		if (executor == null) {
+			return Pool.DEFAULT;
+		}
+		return executor.getOrDefault(name, Pool.DEFAULT);
+	}
+
+	/**
+	 * @param coreSize 기본 스레드 수 (가상 스레드 사용 시 무시)
+	 * @param maxSize 최대 스레드 수 (가상 스레드 사용 시 동시 실행 한도)
+	 * @param queueCapacity 대기 큐 크기 (가상 스레드 사용 시 무시)
+	 * @param virtualThreads 가상 스레드 사용 여부 (지정하지 않으면 전역 설정을 따름)
+	 */
+	public record Pool(int coreSize, int maxSize, int queueCapacity, Boolean virtualThreads) {
+		public static final Pool DEFAULT = new Pool(5, 10, 10, null);
+
+		/**
+		 * Executor별 지정값이 있으면 그 값을, 없으면 전역 설정을 반환한다.
+		 *
+		 * @param globalVirtualThreads {@code batch.virtual-threads.enabled} 값
+		 * @return 가상 스레드 사용 여부
+		 * @since 2025-05-22
+		 */
+		public boolean useVirtualThreads(boolean globalVirtualThreads) {
+			return virtualThreads == null ? globalVirtualThreads : virtualThreads;
+		}
+	}
+}
@@ -0,0 +1,136 @@
+package com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.collector.processor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Component;
+
+import com.likelion.backendplus4.talkpick.batch.news.article.exception.ArticleCollectorException;
+import com.likelion.backendplus4.talkpick.batch.news.article.exception.error.ArticleCollectorErrorCode;
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.collector.config.batch.RssSource;
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.collector.support.mapper.AbstractRssMapper;
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.jpa.entity.ArticleEntity;
+import com.rometools.rome.feed.synd.SyndEntry;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 하나의 피드에서 읽은 SyndEntry들을 가상 스레드로 분산하여 기사 엔티티로 매핑하는 컴포넌트.
+ * 기사 본문 스크래핑이 포함된 매핑을 병렬로 수행하되 다음 조건을 유지한다.
+ *
+ * - 언론사(mapperType)별 동시 요청 수 제한 (파티션 간 공유)
+ * - 원본 엔트리 순서 유지
+ * - 매핑 중 발생한 예외를 그대로 다시 던져 parseRssStep의 retry/skip 정책 유지
+ *
+ * @since 2025-05-21
+ */
+@Slf4j
+@Component
+public class ParallelEntryMapper {
+	private final TaskExecutor scrapingExecutor;
+	private final int defaultPublisherConcurrency;
+	private final Map<String, Integer> publisherConcurrency;
+	private final Map<String, Semaphore> publisherPermits = new ConcurrentHashMap<>();
+
+	public ParallelEntryMapper(@Qualifier("scrapingExecutor") TaskExecutor scrapingExecutor,
+		@Value("${collector.scraping.default-publisher-concurrency:4}") int defaultPublisherConcurrency,
+		@Value("#{${collector.scraping.publisher-concurrency:{:}}}") Map<String, Integer> publisherConcurrency) {
+		this.scrapingExecutor = scrapingExecutor;
+		this.defaultPublisherConcurrency = defaultPublisherConcurrency;
+		this.publisherConcurrency = publisherConcurrency;
+	}
+
+	/**
+	 * 엔트리 목록을 병렬로 매핑하고, 입력 순서와 동일한 순서의 기사 리스트를 반환한다.
+	 * 하나라도 실패하면 남은 작업을 취소하고 가장 앞선 실패 예외를 다시 던진다.
+	 *
+	 * @param entries 피드에서 파싱된 엔트리 리스트
+	 * @param source RSS 소스 정보
+	 * @param mapper 소스에 맞는 RSS 매퍼
+	 * @return 변환된 ArticleEntity 리스트
+	 * @since 2025-05-21
+	 */
+	public List<ArticleEntity> mapAll(List<SyndEntry> entries, RssSource source, AbstractRssMapper mapper) {
+		if (entries.size() <= 1) {
+			return entries.stream()
+				.map(entry -> mapper.mapToRssNews(entry, source))
+				.toList();
+		}
+
+		Semaphore permits = getPublisherPermits(source.getMapperType());
+		List<CompletableFuture<ArticleEntity>> futures = new ArrayList<>(entries.size());
+		for (SyndEntry entry : entries) {
+			futures.add(CompletableFuture.supplyAsync(
+				() -> mapWithPermit(entry, source, mapper, permits), scrapingExecutor));
+		}
+		return joinInOrder(futures);
+	}
+
+	/**
+	 * 언론사별 허용 개수 안에서 단일 엔트리를 매핑한다.
+	 *
+	 * @param entry 매핑할 엔트리
+	 * @param source RSS 소스 정보
+	 * @param mapper 소스에 맞는 RSS 매퍼
+	 * @param permits 언론사별 동시 실행 제한
+	 * @return 변환된 ArticleEntity
+	 * @since 2025-05-21
+	 */
+	private ArticleEntity mapWithPermit(SyndEntry entry, RssSource source, AbstractRssMapper mapper,
+		Semaphore permits) {
+		try {
+			permits.acquire();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new ArticleCollectorException(ArticleCollectorErrorCode.SCRAPER_CONNECTION_ERROR, e);
+		}
+		try {
+			return mapper.mapToRssNews(entry, source);
+		} finally {
+			permits.release();
+		}
+	}
+
+	/**
+	 * 제출 순서대로 결과를 수집한다. 실패가 발생하면 아직 끝나지 않은 작업을 취소하고
+	 * 원인 예외를 감싸지 않고 그대로 던진다.
+	 *
+	 * @param futures 엔트리 순서대로 제출된 작업 목록
+	 * @return 순서가 유지된 결과 리스트
+	 * @since 2025-05-21
+	 */
+	private List<ArticleEntity> joinInOrder(List<CompletableFuture<ArticleEntity>> futures) {
+		List<ArticleEntity> result = new ArrayList<>(futures.size());
+		for (CompletableFuture<ArticleEntity> future : futures) {
+			try {
+				result.add(future.join());
+			} catch (CompletionException e) {
+				futures.forEach(f -> f.cancel(true));
+				throw unwrap(e);
+			}
+		}
+		return result;
+	}
+
+	private RuntimeException unwrap(CompletionException e) {
+		Throwable cause = e.getCause();
+		if (cause instanceof RuntimeException runtimeException) {
+			return runtimeException;
+		}
+		log.error("기사 병렬 매핑 중 예외 발생", cause);
+		return new ArticleCollectorException(ArticleCollectorErrorCode.ITEM_MAPPING_ERROR, cause);
+	}
+
+	private Semaphore getPublisherPermits(String mapperType) {
+		return publisherPermits.computeIfAbsent(mapperType,
+			type -> new Semaphore(publisherConcurrency.getOrDefault(type, defaultPublisherConcurrency)));
+	}
+}
@@ -1,6 +1,5 @@
 package com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.collector.processor;
 
-import java.util.ArrayList;
 import java.util.List;
 
 import org.springframework.batch.core.configuration.annotation.StepScope;
@@ -20,11 +19,13 @@ import com.rometools.rome.feed.synd.SyndEntry;
  *
  * - RSS 파싱: {@link RssFeedReader}를 통해 피드를 읽어옴
  * - 데이터 매핑: {@link RssMappingFactory}에서 소스 타입에 따라 매퍼 선택
+ * - 기사 변환: {@link ParallelEntryMapper}를 통해 엔트리별 스크래핑을 병렬 수행
  *
  * 이 클래스는 Step 실행 시에만 생성되며, StepScope에 따라 각 파티션마다 독립적으로 주입된다.
  *
  * @since 2025-05-10
  * @modified 2025-05-13 RssMapper to AbstractRssMapper로 변경
+ * @modified 2025-05-21 엔트리 매핑을 병렬 처리하도록 변경
  */
 @Component
 @StepScope
@@ -32,10 +33,13 @@ public class RssEntryProcessor implements ItemProcessor<RssSource, List<ArticleE
 
 	private final RssFeedReader rssFeedReader;
 	private final RssMappingFactory mappingFactory;
+	private final ParallelEntryMapper parallelEntryMapper;
 
-	public RssEntryProcessor(RssFeedReader rssFeedReader, RssMappingFactory mappingFactory) {
+	public RssEntryProcessor(RssFeedReader rssFeedReader, RssMappingFactory mappingFactory,
+		ParallelEntryMapper parallelEntryMapper) {
 		this.rssFeedReader = rssFeedReader;
 		this.mappingFactory = mappingFactory;
+		this.parallelEntryMapper = parallelEntryMapper;
 	}
 
 	/**
@@ -65,9 +69,10 @@ public class RssEntryProcessor implements ItemProcessor<RssSource, List<ArticleE
 	 * @since 2025-05-10
 	 * @author 함예정
 	 * @modified 2025-05-18 매퍼 타입 전달하도록 수정
+	 * @modified 2025-05-21 조건부 요청을 위해 RssSource 전달하도록 수정
 	 */
 	private List<SyndEntry> parseRss(RssSource source) {
-		return rssFeedReader.getFeed(source.getUrl(), source.getMapperType());
+		return rssFeedReader.getFeed(source);
 	}
 
 	/**
@@ -85,6 +90,7 @@ public class RssEntryProcessor implements ItemProcessor<RssSource, List<ArticleE
 
 	/**
 	 * SyndEntry RSS 결과를 기반으로 ArticleEntity 리스트를 생성한다.
+	 * 엔트리별 매핑은 병렬로 수행되며, 결과는 피드의 엔트리 순서를 유지한다.
 	 *
 	 * @param source RSS 소스 정보
 	 * @param rssParseResult RSS 피드에서 파싱된 엔트리 리스트
@@ -93,11 +99,10 @@ public class RssEntryProcessor implements ItemProcessor<RssSource, List<ArticleE
 	 * @since 2025-05-10
 	 * @author 함예정
 	 * @modified 2025-05-13 AbstractRssMapper 타입으로 변경
+	 * @modified 2025-05-21 ParallelEntryMapper를 통한 병렬 매핑으로 변경
 	 */
 	private List<ArticleEntity> buildArticleEntityList(RssSource source, List<SyndEntry> rssParseResult,
 													   AbstractRssMapper mapper) {
-		return rssParseResult.stream()
-			.map(entry -> mapper.mapToRssNews(entry, source))
-			.toList();
+		return parallelEntryMapper.mapAll(rssParseResult, source, mapper);
 	}
 }
\ No newline at end of file
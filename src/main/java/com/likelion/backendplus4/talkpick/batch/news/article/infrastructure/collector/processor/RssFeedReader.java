@@ -1,23 +1,28 @@
 package com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.collector.processor;
 
 import java.io.IOException;
-import java.net.MalformedURLException;
-import java.net.URL;
-import java.net.URLConnection;
+import java.net.HttpURLConnection;
+import java.net.http.HttpTimeoutException;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import com.likelion.backendplus4.talkpick.batch.news.article.exception.ArticleCollectorException;
 import com.likelion.backendplus4.talkpick.batch.news.article.exception.error.ArticleCollectorErrorCode;
-import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.jpa.repository.NewsInfoJpaRepository;
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.collector.config.batch.RssSource;
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.collector.support.cache.FeedValidatorStore;
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.collector.support.cache.PubDateWatermarkStore;
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.collector.support.http.HttpFetchResponse;
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.collector.support.http.NewsHttpClient;
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.collector.support.parser.StreamingRssParser;
 import com.rometools.rome.feed.synd.SyndEntry;
 import com.rometools.rome.feed.synd.SyndFeed;
 import com.rometools.rome.io.SyndFeedInput;
@@ -27,64 +32,75 @@ import lombok.extern.slf4j.Slf4j;
  * RSS 피드 URL을 통해 XML 피드를 읽고 파싱하여 {@link SyndEntry} 목록으로 반환하는 Reader 클래스.
  * Rome 라이브러리를 이용하여 RSS를 파싱하며, 유효하지 않은 URL 또는 파싱 오류에 대해 예외를 처리한다.
  *
+ * {@code collector.rss.streaming-parser}가 true(기본값)이면 {@link StreamingRssParser}로
+ * 워터마크 이후 항목만 읽고 중단하며, false이면 Rome으로 피드 전체를 파싱한 뒤 필터링한다.
+ *
  * @modified 2025-05-18 최신 발행일 이후 데이터만 필터링하는 기능 추가
+ * @modified 2025-05-21 ETag/Last-Modified 기반 조건부 요청 추가
+ * @modified 2025-05-21 최신 발행일 조회를 RssSource 단위 워터마크 저장소로 변경
+ * @modified 2025-05-22 워터마크에서 중단하는 StAX 스트리밍 파싱 추가
+ * @modified 2025-05-22 URLConnection 대신 연결을 재사용하는 공용 HTTP 클라이언트 사용
  * @since 2025-05-10
  */
 @Slf4j
 @Component
 public class RssFeedReader {
-	private static final Map<String, LocalDateTime> lastProcessedDateMap = new ConcurrentHashMap<>();
-	private final NewsInfoJpaRepository rssNewsRepository;
+	private final PubDateWatermarkStore pubDateWatermarkStore;
+	private final FeedValidatorStore feedValidatorStore;
+	private final StreamingRssParser streamingRssParser;
+	private final boolean streamingParserEnabled;
+	private final NewsHttpClient newsHttpClient;
+	private final int maxFeedBytes;
 
 	@Autowired
-	public RssFeedReader(NewsInfoJpaRepository rssNewsRepository) {
-		this.rssNewsRepository = rssNewsRepository;
+	public RssFeedReader(PubDateWatermarkStore pubDateWatermarkStore, FeedValidatorStore feedValidatorStore,
+		StreamingRssParser streamingRssParser,
+		@Value("${collector.rss.streaming-parser:true}") boolean streamingParserEnabled,
+		NewsHttpClient newsHttpClient,
+		@Value("${collector.http.max-feed-bytes:5242880}") int maxFeedBytes) {
+		this.pubDateWatermarkStore = pubDateWatermarkStore;
+		this.feedValidatorStore = feedValidatorStore;
+		this.streamingRssParser = streamingRssParser;
+		this.streamingParserEnabled = streamingParserEnabled;
+		this.newsHttpClient = newsHttpClient;
+		this.maxFeedBytes = maxFeedBytes;
 	}
 
     /**
-     * 주어진 피드 URL로부터 RSS 피드를 파싱하고, 최신 발행일 이후의 {@link SyndEntry} 리스트를 반환한다.
+     * 주어진 RSS 소스의 피드를 파싱하고, 최신 발행일 이후의 {@link SyndEntry} 리스트를 반환한다.
+     * 이전 응답의 ETag/Last-Modified로 조건부 요청을 보내며, 304 응답이면 파싱 없이 빈 리스트를 반환한다.
      *
-     * @param feedUrl    RSS 피드의 URL 문자열
-     * @param mapperType 매퍼 타입 (언론사 코드)
+     * @param source RSS 피드 소스
      * @return 파싱 및 필터링된 SyndEntry 목록
      * @modified 2025-05-18 최신 발행일 이후 데이터만 필터링하는 기능 추가
+     * @modified 2025-05-21 RssSource 단위 조건부 요청 추가
+     * @modified 2025-05-22 스트리밍 파싱 시 워터마크 이후 항목만 파싱
+     * @modified 2025-05-22 공용 HTTP 클라이언트 응답 사용
      * @author 함예정
      * @since 2025-05-10
      */
-    public List<SyndEntry> getFeed(String feedUrl, String mapperType) {
-        URL url = getURL(feedUrl);
-        URLConnection connection = openConnectionWithTimeout(url);
-        List<SyndEntry> entries = parseRssEntries(connection);
-
-        LocalDateTime latestPubDate = getLatestPubDate(mapperType);
-
-        List<SyndEntry> filteredEntries = entries.stream()
-                .filter(entry -> isAfterLatestPubDate(entry, latestPubDate))
-                .collect(Collectors.toList());
+    public List<SyndEntry> getFeed(RssSource source) {
+        HttpFetchResponse response = fetchFeed(source);
 
-        return filteredEntries;
-    }
-
-    /**
-     * 언론사별 최신 발행일 조회 (캐싱 추가)
-     *
-     * @param mapperType 매퍼 타입 (언론사 코드)
-     * @return 최신 발행일 또는 기본값
-     */
-    private LocalDateTime getLatestPubDate(String mapperType) {
-        LocalDateTime latestPubDate = rssNewsRepository.findLatestPubDateByGuidPrefix(mapperType);
+        if (HttpURLConnection.HTTP_NOT_MODIFIED == response.statusCode()) {
+            log.debug("RSS 피드 변경 없음 (304) - source: {}", source.name());
+            return List.of();
+        }
+        if (response.statusCode() / 100 != 2) {
+            throw new ArticleCollectorException(ArticleCollectorErrorCode.FEED_CONNECTION_ERROR,
+                new IOException("HTTP " + response.statusCode() + ": " + source.getUrl()));
+        }
 
-		if (null == latestPubDate) {
-			latestPubDate = getDefaultPubDate();
-		}
+        LocalDateTime latestPubDate = pubDateWatermarkStore.get(source);
+        List<SyndEntry> filteredEntries = streamingParserEnabled
+                ? streamRssEntries(response, latestPubDate)
+                : parseRssEntries(response).stream()
+                    .filter(entry -> isAfterLatestPubDate(entry, latestPubDate))
+                    .collect(Collectors.toList());
 
-        lastProcessedDateMap.put(mapperType, latestPubDate);
-        return latestPubDate;
-    }
+        feedValidatorStore.updateAfterCommit(source, response.header("ETag"), response.header("Last-Modified"));
 
-    private LocalDateTime getDefaultPubDate() {
-        LocalDateTime latestPubDate = LocalDateTime.now().minusDays(1);
-        return latestPubDate;
+        return filteredEntries;
     }
 
     /**
@@ -118,53 +134,59 @@ public class RssFeedReader {
     }
 
 	/**
-	 * 문자열 형태의 URL을 {@link URL} 객체로 변환한다.
+	 * 공용 HTTP 클라이언트로 피드를 요청한다.
+	 * 이전 응답에서 받은 ETag/Last-Modified를 조건부 요청 헤더로 설정한다.
 	 *
-	 * @param feedUrl 문자열 형태의 URL
-	 * @return URL 객체
-	 * @throws RuntimeException 유효하지 않은 URL 형식일 경우
-	 * @since 2025-05-10
+	 * @param source RSS 피드 소스
+	 * @return 피드 응답
+	 * @throws ArticleCollectorException 시간 초과 시 FEED_TIMEOUT_ERROR, 그 외 연결 오류 시 FEED_CONNECTION_ERROR
 	 * @author 함예정
+	 * @since 2025-05-12
+	 * @modified 2025-05-21 조건부 요청 추가
+	 * @modified 2025-05-22 URLConnection 대신 공용 HTTP 클라이언트 사용
 	 */
-	private URL getURL(String feedUrl) {
+	private HttpFetchResponse fetchFeed(RssSource source) {
 		try {
-			return new URL(feedUrl);
-		} catch (MalformedURLException e) {
-			throw new RuntimeException(e);
+			return newsHttpClient.get(source.getUrl(), conditionalHeaders(source), maxFeedBytes);
+		} catch (HttpTimeoutException e) {
+			throw new ArticleCollectorException(ArticleCollectorErrorCode.FEED_TIMEOUT_ERROR, e);
+		} catch (IOException | IllegalArgumentException e) {
+			throw new ArticleCollectorException(ArticleCollectorErrorCode.FEED_CONNECTION_ERROR, e);
 		}
 	}
 
 	/**
-	 * 지정된 URL에 대해 연결 타임아웃과 읽기 타임아웃을 설정한 후 URLConnection을 반환합니다.
+	 * 이전 응답에서 받은 ETag/Last-Modified로 조건부 요청 헤더를 만든다.
 	 *
-	 * @param url 연결할 URL 객체
-	 * @return 설정된 타임아웃을 가진 URLConnection 객체
-	 * @throws RuntimeException 연결 중 IOException이 발생할 경우 런타임 예외로 래핑하여 던짐
-	 * @author 함예정
-	 * @since 2025-05-12
+	 * @param source RSS 피드 소스
+	 * @return 조건부 요청 헤더
+	 * @since 2025-05-21
 	 */
-	private URLConnection openConnectionWithTimeout(URL url) {
-		try {
-			URLConnection connection = url.openConnection();
-			connection.setConnectTimeout(3000);
-			connection.setReadTimeout(5000);
-			return connection;
-		} catch (IOException e) {
-			throw new ArticleCollectorException(ArticleCollectorErrorCode.FEED_CONNECTION_ERROR, e);
-		}
+	private Map<String, String> conditionalHeaders(RssSource source) {
+		Map<String, String> headers = new HashMap<>();
+		feedValidatorStore.find(source).ifPresent(validators -> {
+			if (null != validators.etag()) {
+				headers.put("If-None-Match", validators.etag());
+			}
+			if (null != validators.lastModified()) {
+				headers.put("If-Modified-Since", validators.lastModified());
+			}
+		});
+		return headers;
 	}
 
 	/**
-	 * 주어진 URLConnection으로부터 RSS 피드를 읽어 SyndEntry 목록으로 파싱합니다.
+	 * 피드 응답을 읽어 SyndEntry 목록으로 파싱합니다.
 	 *
-	 * @param connection RSS 피드를 제공하는 URLConnection 객체
+	 * @param response RSS 피드 응답
 	 * @return 파싱된 SyndEntry 객체 리스트
 	 * @throws ArticleCollectorException RSS 피드 파싱 중 오류가 발생한 경우 사용자 정의 예외로 래핑하여 던짐
 	 * @author 함예정
 	 * @since 2025-05-12
+	 * @modified 2025-05-22 URLConnection 대신 받은 응답 본문에서 파싱
 	 */
-	private List<SyndEntry> parseRssEntries(URLConnection connection) {
-		try (XmlReader reader = new XmlReader(connection)) {
+	private List<SyndEntry> parseRssEntries(HttpFetchResponse response) {
+		try (XmlReader reader = openXmlReader(response)) {
 			SyndFeedInput input = new SyndFeedInput();
 			SyndFeed syndFeed = input.build(reader);
 			return syndFeed.getEntries();
@@ -172,4 +194,33 @@ public class RssFeedReader {
 			throw new ArticleCollectorException(ArticleCollectorErrorCode.FEED_PARSING_ERROR, e);
 		}
 	}
-}
\ No newline at end of file
+
+	/**
+	 * 피드 응답을 스트리밍으로 읽어 워터마크 이후 항목만 반환한다.
+	 *
+	 * @param response RSS 피드 응답
+	 * @param latestPubDate 소스의 최신 발행일(워터마크)
+	 * @return 워터마크 이후에 발행된 SyndEntry 목록
+	 * @throws ArticleCollectorException RSS 피드 파싱 중 오류가 발생한 경우 사용자 정의 예외로 래핑하여 던짐
+	 * @since 2025-05-22
+	 */
+	private List<SyndEntry> streamRssEntries(HttpFetchResponse response, LocalDateTime latestPubDate) {
+		try (XmlReader reader = openXmlReader(response)) {
+			return streamingRssParser.parse(reader, latestPubDate);
+		} catch (Exception e) {
+			throw new ArticleCollectorException(ArticleCollectorErrorCode.FEED_PARSING_ERROR, e);
+		}
+	}
+
+	/**
+	 * Content-Type 헤더와 XML 선언으로 인코딩을 판별하는 Rome XmlReader를 연다.
+	 *
+	 * @param response RSS 피드 응답
+	 * @return 인코딩이 적용된 Reader
+	 * @throws IOException 인코딩 판별 중 오류가 발생한 경우
+	 * @since 2025-05-22
+	 */
+	private XmlReader openXmlReader(HttpFetchResponse response) throws IOException {
+		return new XmlReader(response.bodyStream(), response.header("Content-Type"), true);
+	}
+}
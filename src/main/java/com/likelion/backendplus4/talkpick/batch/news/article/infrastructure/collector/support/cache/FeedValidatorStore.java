@@ -0,0 +1,65 @@
+package com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.collector.support.cache;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.collector.config.batch.RssSource;
+
+/**
+ * RSS 소스별 HTTP 캐시 검증자(ETag, Last-Modified)를 보관하는 저장소.
+ * 조건부 요청(If-None-Match, If-Modified-Since)에 사용되며,
+ * 피드 내용이 저장된 트랜잭션이 커밋된 후에만 갱신되어 롤백된 피드를 304로 놓치지 않도록 한다.
+ *
+ * @since 2025-05-21
+ */
+@Component
+public class FeedValidatorStore {
+	private final Map<RssSource, FeedValidators> validators = new ConcurrentHashMap<>();
+
+	/**
+	 * 소스에 저장된 검증자를 조회한다.
+	 *
+	 * @param source RSS 소스
+	 * @return 저장된 검증자
+	 * @since 2025-05-21
+	 */
+	public Optional<FeedValidators> find(RssSource source) {
+		return Optional.ofNullable(validators.get(source));
+	}
+
+	/**
+	 * 소스의 검증자를 갱신한다. 트랜잭션 안에서 호출되면 커밋 이후에 반영된다.
+	 *
+	 * @param source RSS 소스
+	 * @param etag 응답의 ETag 헤더
+	 * @param lastModified 응답의 Last-Modified 헤더
+	 * @since 2025-05-21
+	 */
+	public void updateAfterCommit(RssSource source, String etag, String lastModified) {
+		if (null == etag && null == lastModified) {
+			validators.remove(source);
+			return;
+		}
+
+		FeedValidators feedValidators = new FeedValidators(etag, lastModified);
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			validators.put(source, feedValidators);
+			return;
+		}
+
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				validators.put(source, feedValidators);
+			}
+		});
+	}
+
+	public record FeedValidators(String etag, String lastModified) {
+	}
+}
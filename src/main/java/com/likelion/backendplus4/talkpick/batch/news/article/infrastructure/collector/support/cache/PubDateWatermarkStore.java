@@ -0,0 +1,121 @@
+package com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.collector.support.cache;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.collector.config.batch.RssSource;
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.jpa.entity.ArticleEntity;
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.jpa.projection.LatestPubDateProjection;
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.jpa.repository.NewsInfoJpaRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * RSS 소스별 최신 발행일(워터마크)을 메모리에 보관하는 저장소.
+ * 최초 조회 시 DB에서 소스별 최신 발행일을 한 번만 적재하고,
+ * 이후에는 ArticleWriter가 커밋한 기사들의 발행일로 전진시킨다.
+ *
+ * - 키: {@link RssSource} (언론사 접두어 + 카테고리)
+ * - 워터마크가 없는 소스는 현재 시각 기준 하루 전을 사용
+ *
+ * @since 2025-05-21
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PubDateWatermarkStore {
+	private final NewsInfoJpaRepository newsInfoJpaRepository;
+	private final Map<RssSource, LocalDateTime> watermarks = new ConcurrentHashMap<>();
+	private final ReentrantLock loadLock = new ReentrantLock();
+	private volatile boolean loaded;
+
+	/**
+	 * 소스의 워터마크를 조회한다.
+	 *
+	 * @param source RSS 소스
+	 * @return 최신 발행일 또는 기본값(하루 전)
+	 * @since 2025-05-21
+	 */
+	public LocalDateTime get(RssSource source) {
+		ensureLoaded();
+		LocalDateTime watermark = watermarks.get(source);
+		if (null == watermark) {
+			return LocalDateTime.now().minusDays(1);
+		}
+		return watermark;
+	}
+
+	/**
+	 * 저장된 기사들의 발행일로 워터마크를 전진시킨다.
+	 * 트랜잭션 안에서 호출되면 커밋 이후에 반영된다.
+	 *
+	 * @param articles 저장된 기사 목록
+	 * @since 2025-05-21
+	 */
+	public void advanceAfterCommit(Collection<ArticleEntity> articles) {
+		if (articles.isEmpty()) {
+			return;
+		}
+
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			advance(articles);
+			return;
+		}
+
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				advance(articles);
+			}
+		});
+	}
+
+	private void advance(Collection<ArticleEntity> articles) {
+		for (ArticleEntity article : articles) {
+			if (null == article.getPubDate() || null == article.getGuid() || article.getGuid().length() < 2) {
+				continue;
+			}
+			RssSource.findByCodePrefixAndCategoryName(article.getGuid().substring(0, 2), article.getCategory())
+				.ifPresent(source -> merge(source, article.getPubDate()));
+		}
+	}
+
+	private void merge(RssSource source, LocalDateTime pubDate) {
+		watermarks.merge(source, pubDate, (current, candidate) -> candidate.isAfter(current) ? candidate : current);
+	}
+
+	private void ensureLoaded() {
+		if (loaded) {
+			return;
+		}
+
+		loadLock.lock();
+		try {
+			if (!loaded) {
+				load();
+				loaded = true;
+			}
+		} finally {
+			loadLock.unlock();
+		}
+	}
+
+	private void load() {
+		for (LatestPubDateProjection row : newsInfoJpaRepository.findLatestPubDatesByGuidPrefixAndCategory()) {
+			if (null == row.latestPubDate()) {
+				continue;
+			}
+			RssSource.findByCodePrefixAndCategoryName(row.guidPrefix(), row.category())
+				.ifPresent(source -> merge(source, row.latestPubDate()));
+		}
+		log.info("RSS 소스별 워터마크 적재 완료: {}개", watermarks.size());
+	}
+}
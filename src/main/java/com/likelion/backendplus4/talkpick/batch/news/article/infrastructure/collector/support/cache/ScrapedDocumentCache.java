@@ -0,0 +1,137 @@
+package com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.collector.support.cache;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+import org.jsoup.nodes.Document;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 기사 URL별로 파싱된 Jsoup Document를 짧은 시간 동안 보관하는 캐시.
+ * 본문/이미지 등 여러 추출 메서드가 같은 기사에 대해 한 번의 HTTP 요청만 사용하도록 한다.
+ *
+ * - 최대 개수 초과 시 가장 오래 사용되지 않은 항목부터 제거 (LRU)
+ * - TTL이 지난 항목은 조회 시 제거
+ * - parseRssStep 리스너로 등록되어, 실행 중인 파티션 Step이 모두 끝나면 비워진다
+ * - 추출 로직이 Element를 수정할 수 있으므로 조회 시 복제본을 반환한다
+ *
+ * @since 2025-05-21
+ */
+@Slf4j
+@Component
+public class ScrapedDocumentCache implements StepExecutionListener {
+	private final int maxSize;
+	private final Duration ttl;
+	private final ReentrantLock lock = new ReentrantLock();
+	private final AtomicInteger activeSteps = new AtomicInteger();
+	private final LinkedHashMap<String, CachedDocument> documents = new LinkedHashMap<>(16, 0.75f, true);
+
+	public ScrapedDocumentCache(@Value("${collector.scraping.document-cache.max-size:200}") int maxSize,
+		@Value("${collector.scraping.document-cache.ttl:PT2M}") Duration ttl) {
+		this.maxSize = maxSize;
+		this.ttl = ttl;
+	}
+
+	/**
+	 * 캐시된 Document를 반환하고, 없으면 loader로 가져와 캐시에 저장한다.
+	 * 네트워크 요청은 잠금 밖에서 수행된다.
+	 *
+	 * @param url 기사 URL
+	 * @param loader 캐시 미스 시 Document를 가져오는 함수
+	 * @return 파싱된 Document의 복제본
+	 * @since 2025-05-21
+	 */
+	public Document getOrFetch(String url, Function<String, Document> loader) {
+		Document cached = find(url);
+		if (cached != null) {
+			return cached.clone();
+		}
+
+		Document fetched = loader.apply(url);
+		put(url, fetched);
+		return fetched.clone();
+	}
+
+	/**
+	 * 모든 항목을 제거한다.
+	 *
+	 * @since 2025-05-21
+	 */
+	public void clear() {
+		lock.lock();
+		try {
+			documents.clear();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	public void beforeStep(StepExecution stepExecution) {
+		activeSteps.incrementAndGet();
+	}
+
+	@Override
+	public ExitStatus afterStep(StepExecution stepExecution) {
+		if (activeSteps.decrementAndGet() <= 0) {
+			activeSteps.set(0);
+			clear();
+			log.debug("스크래핑 Document 캐시 초기화 - step: {}", stepExecution.getStepName());
+		}
+		return stepExecution.getExitStatus();
+	}
+
+	private Document find(String url) {
+		lock.lock();
+		try {
+			CachedDocument cached = documents.get(url);
+			if (cached == null) {
+				return null;
+			}
+			if (cached.isExpired(System.nanoTime())) {
+				documents.remove(url);
+				return null;
+			}
+			return cached.document();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private void put(String url, Document document) {
+		long now = System.nanoTime();
+		lock.lock();
+		try {
+			documents.put(url, new CachedDocument(document, now + ttl.toNanos()));
+			evict(now);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private void evict(long now) {
+		documents.values().removeIf(cached -> cached.isExpired(now));
+		Iterator<Map.Entry<String, CachedDocument>> iterator = documents.entrySet().iterator();
+		while (documents.size() > maxSize && iterator.hasNext()) {
+			iterator.next();
+			iterator.remove();
+		}
+	}
+
+	private record CachedDocument(Document document, long expiresAtNanos) {
+		boolean isExpired(long now) {
+			return now - expiresAtNanos > 0;
+		}
+	}
+}
@@ -0,0 +1,46 @@
+package com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.collector.support.http;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.net.http.HttpHeaders;
+import java.util.Locale;
+
+/**
+ * {@link NewsHttpClient}가 받은 응답. 본문은 압축이 해제된 상태로 담긴다.
+ *
+ * @param statusCode HTTP 상태 코드
+ * @param headers 응답 헤더
+ * @param body 압축 해제된 본문
+ * @since 2025-05-22
+ * @modified 2025-05-22 최대 크기를 넘는 본문은 잘라내지 않고 요청 실패로 처리
+ */
+public record HttpFetchResponse(int statusCode, HttpHeaders headers, byte[] body) {
+
+	public String header(String name) {
+		return headers.firstValue(name).orElse(null);
+	}
+
+	public InputStream bodyStream() {
+		return new ByteArrayInputStream(body);
+	}
+
+	/**
+	 * Content-Type 헤더의 charset 값을 반환한다.
+	 *
+	 * @return charset 이름, 없으면 null
+	 * @since 2025-05-22
+	 */
+	public String charset() {
+		String contentType = header("Content-Type");
+		if (contentType == null) {
+			return null;
+		}
+		for (String param : contentType.split(";")) {
+			String trimmed = param.trim();
+			if (trimmed.toLowerCase(Locale.ROOT).startsWith("charset=")) {
+				return trimmed.substring("charset=".length()).replace("\"", "").trim();
+			}
+		}
+		return null;
+	}
+}
@@ -0,0 +1,245 @@
+package com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.collector.support.http;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.net.HttpURLConnection;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Flow;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.likelion.backendplus4.talkpick.batch.news.article.exception.ArticleCollectorException;
+import com.likelion.backendplus4.talkpick.batch.news.article.exception.error.ArticleCollectorErrorCode;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * RSS 피드와 기사 페이지 요청에 함께 사용하는 공용 HTTP 클라이언트.
+ *
+ * 요청마다 연결을 새로 만들던 URLConnection, Jsoup.connect 대신 하나의 {@link HttpClient}를 공유하여
+ * 같은 언론사 호스트에 대한 연결(TLS 세션 포함)을 재사용한다.
+ *
+ * - HTTP/2를 우선 협상하고, 지원하지 않는 서버와는 HTTP/1.1 keep-alive로 통신
+ * - gzip, deflate 압축 응답을 요청하고 직접 해제
+ * - 호스트별 동시 요청 수를 max-connections-per-host로 제한
+ * - 연결/요청 타임아웃은 collector.http.* 설정을 따름
+ * - request-timeout은 응답 헤더까지만 적용되므로, 본문 수신까지 포함한 전체 시간은 read-timeout으로 제한
+ * - 본문이 최대 크기를 넘으면 잘린 문서를 파싱하지 않도록 예외를 던짐
+ *
+ * @since 2025-05-22
+ * @modified 2025-05-22 본문 수신 시간과 크기 제한 추가
+ */
+@Slf4j
+@Component
+public class NewsHttpClient {
+	private static final String ACCEPT_ENCODING = "gzip, deflate";
+
+	private final HttpClient httpClient;
+	private final Duration requestTimeout;
+	private final Duration readTimeout;
+	private final int maxConnectionsPerHost;
+	private final int maxDocumentBytes;
+	private final String userAgent;
+	private final Map<String, Semaphore> hostPermits = new ConcurrentHashMap<>();
+
+	public NewsHttpClient(
+		@Value("${collector.http.connect-timeout:PT3S}") Duration connectTimeout,
+		@Value("${collector.http.request-timeout:PT5S}") Duration requestTimeout,
+		@Value("${collector.http.read-timeout:PT10S}") Duration readTimeout,
+		@Value("${collector.http.max-connections-per-host:8}") int maxConnectionsPerHost,
+		@Value("${collector.http.max-document-bytes:1048576}") int maxDocumentBytes,
+		@Value("${collector.http.user-agent}") String userAgent) {
+		this.httpClient = HttpClient.newBuilder()
+			.version(HttpClient.Version.HTTP_2)
+			.followRedirects(HttpClient.Redirect.NORMAL)
+			.connectTimeout(connectTimeout)
+			.build();
+		this.requestTimeout = requestTimeout;
+		this.readTimeout = readTimeout;
+		this.maxConnectionsPerHost = maxConnectionsPerHost;
+		this.maxDocumentBytes = maxDocumentBytes;
+		this.userAgent = userAgent;
+	}
+
+	/**
+	 * GET 요청을 보내고 압축이 해제된 본문을 읽는다.
+	 * 본문 수신까지 read-timeout 안에 끝나지 않으면 요청을 취소한다.
+	 *
+	 * @param url 요청 URL
+	 * @param headers 추가 요청 헤더
+	 * @param maxBodyBytes 허용하는 최대 본문 크기 (압축 전, 해제 후 모두 적용)
+	 * @return 응답
+	 * @throws HttpTimeoutException 연결, 응답 대기 또는 본문 수신 시간을 초과한 경우
+	 * @throws IOException 요청 중 오류가 발생하거나 본문이 최대 크기를 넘는 경우
+	 * @since 2025-05-22
+	 * @modified 2025-05-22 본문 수신 시간 제한, 최대 크기 초과 시 예외
+	 */
+	public HttpFetchResponse get(String url, Map<String, String> headers, int maxBodyBytes) throws IOException {
+		URI uri = URI.create(url);
+		HttpRequest.Builder builder = HttpRequest.newBuilder(uri)
+			.timeout(requestTimeout)
+			.header("User-Agent", userAgent)
+			.header("Accept-Encoding", ACCEPT_ENCODING)
+			.GET();
+		headers.forEach(builder::header);
+
+		Semaphore permits = hostPermits.computeIfAbsent(uri.getHost(), host -> new Semaphore(maxConnectionsPerHost));
+		try {
+			permits.acquire();
+			try {
+				HttpResponse<byte[]> response = send(builder.build(), maxBodyBytes);
+				return new HttpFetchResponse(response.statusCode(), response.headers(),
+					decodeBody(response, maxBodyBytes));
+			} finally {
+				permits.release();
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("요청 대기 중 인터럽트: " + url);
+		}
+	}
+
+	/**
+	 * 기사 페이지를 요청하여 Jsoup Document로 파싱한다.
+	 * 문자셋은 Content-Type 헤더를 따르고, 없으면 문서의 meta 태그로 판별한다.
+	 *
+	 * @param url 기사 URL
+	 * @return 파싱된 Document
+	 * @throws ArticleCollectorException 연결 오류 또는 2xx가 아닌 응답인 경우 SCRAPER_CONNECTION_ERROR
+	 * @since 2025-05-22
+	 */
+	public Document getDocument(String url) {
+		try {
+			HttpFetchResponse response = get(url, Map.of(), maxDocumentBytes);
+			if (response.statusCode() / 100 != 2) {
+				throw new IOException("HTTP " + response.statusCode() + ": " + url);
+			}
+			return Jsoup.parse(response.bodyStream(), response.charset(), url);
+		} catch (IOException | IllegalArgumentException e) {
+			throw new ArticleCollectorException(ArticleCollectorErrorCode.SCRAPER_CONNECTION_ERROR, e);
+		}
+	}
+
+	/**
+	 * 요청을 비동기로 보내고 본문 수신까지 read-timeout만큼만 기다린다.
+	 * 시간을 넘기면 요청을 취소하여 멈춘 서버가 스레드를 붙잡지 않도록 한다.
+	 */
+	private HttpResponse<byte[]> send(HttpRequest request, int maxBodyBytes)
+		throws IOException, InterruptedException {
+		CompletableFuture<HttpResponse<byte[]>> future = httpClient.sendAsync(request,
+			responseInfo -> new LimitedByteArraySubscriber(maxBodyBytes));
+		try {
+			return future.get(readTimeout.toMillis(), TimeUnit.MILLISECONDS);
+		} catch (TimeoutException e) {
+			future.cancel(true);
+			throw new HttpTimeoutException("본문 수신 시간 초과(" + readTimeout + "): " + request.uri());
+		} catch (InterruptedException e) {
+			future.cancel(true);
+			throw e;
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof IOException cause) {
+				throw cause;
+			}
+			throw new IOException(e.getCause());
+		}
+	}
+
+	private byte[] decodeBody(HttpResponse<byte[]> response, int maxBodyBytes) throws IOException {
+		if (response.statusCode() == HttpURLConnection.HTTP_NOT_MODIFIED) {
+			return new byte[0];
+		}
+		String encoding = response.headers().firstValue("Content-Encoding").orElse("");
+		try (InputStream body = decode(new ByteArrayInputStream(response.body()), encoding)) {
+			byte[] decoded = body.readNBytes(maxBodyBytes + 1);
+			if (decoded.length > maxBodyBytes) {
+				throw new IOException("압축 해제된 본문이 최대 크기(" + maxBodyBytes + " bytes)를 초과: " + response.uri());
+			}
+			return decoded;
+		}
+	}
+
+	private InputStream decode(InputStream body, String encoding) throws IOException {
+		return switch (encoding.trim().toLowerCase(Locale.ROOT)) {
+			case "gzip", "x-gzip" -> new GZIPInputStream(body);
+			case "deflate" -> new InflaterInputStream(body);
+			default -> body;
+		};
+	}
+
+	/**
+	 * 본문을 바이트 배열로 모으되, 최대 크기를 넘으면 수신을 취소하고 실패하는 BodySubscriber.
+	 */
+	private static final class LimitedByteArraySubscriber implements HttpResponse.BodySubscriber<byte[]> {
+		private final int maxBytes;
+		private final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+		private final CompletableFuture<byte[]> result = new CompletableFuture<>();
+		private Flow.Subscription subscription;
+
+		private LimitedByteArraySubscriber(int maxBytes) {
+			this.maxBytes = maxBytes;
+		}
+
+		@Override
+		public CompletionStage<byte[]> getBody() {
+			return result;
+		}
+
+		@Override
+		public void onSubscribe(Flow.Subscription subscription) {
+			this.subscription = subscription;
+			subscription.request(Long.MAX_VALUE);
+		}
+
+		@Override
+		public void onNext(List<ByteBuffer> items) {
+			if (result.isDone()) {
+				return;
+			}
+			for (ByteBuffer item : items) {
+				if (buffer.size() + item.remaining() > maxBytes) {
+					subscription.cancel();
+					result.completeExceptionally(
+						new IOException("응답 본문이 최대 크기(" + maxBytes + " bytes)를 초과"));
+					return;
+				}
+				byte[] bytes = new byte[item.remaining()];
+				item.get(bytes);
+				buffer.writeBytes(bytes);
+			}
+		}
+
+		@Override
+		public void onError(Throwable throwable) {
+			result.completeExceptionally(throwable);
+		}
+
+		@Override
+		public void onComplete() {
+			result.complete(buffer.toByteArray());
+		}
+	}
+}
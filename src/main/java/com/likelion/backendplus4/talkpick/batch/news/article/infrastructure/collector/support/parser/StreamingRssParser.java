@@ -0,0 +1,241 @@
+package com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.collector.support.parser;
+
+import java.io.Reader;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.jdom2.Element;
+import org.jdom2.Namespace;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.rometools.rome.feed.synd.SyndContentImpl;
+import com.rometools.rome.feed.synd.SyndEntry;
+import com.rometools.rome.feed.synd.SyndEntryImpl;
+import com.rometools.rome.io.impl.DateParser;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * StAX로 RSS 2.0 / RSS 1.0 피드를 문서 순서대로 읽어 {@link SyndEntry} 목록을 만드는 파서.
+ *
+ * ROME의 SyndFeedInput은 피드 전체를 JDOM 문서로 만든 뒤 변환하므로,
+ * 워터마크 이전의 오래된 항목까지 모두 파싱하고 할당한다.
+ * 피드는 최신순으로 정렬되어 있으므로 워터마크 이전 항목이 연속으로 나오면 읽기를 중단한다.
+ *
+ * - 매퍼가 사용하는 필드(title, link, description, pubDate/dc:date, media:content)만 읽는다
+ * - 발행일이 없는 항목은 기존 필터와 같이 제외한다
+ * - 순서가 조금 어긋난 피드를 위해 stale-item-limit개가 연속으로 워터마크 이전이면 중단한다
+ * - DTD와 외부 엔티티는 처리하지 않는다
+ * - media:content, dc:date는 접두어가 아닌 네임스페이스 URI로 구분한다
+ *
+ * @since 2025-05-22
+ * @modified 2025-05-22 접두어 대신 네임스페이스 URI로 요소 구분
+ */
+@Slf4j
+@Component
+public class StreamingRssParser {
+	private static final String ITEM = "item";
+	private static final String MEDIA_PREFIX = "media";
+	private static final String MEDIA_NAMESPACE = "http://search.yahoo.com/mrss/";
+	private static final String DC_NAMESPACE = "http://purl.org/dc/elements/1.1/";
+	private static final String RSS_10_NAMESPACE = "http://purl.org/rss/1.0/";
+
+	private final XMLInputFactory xmlInputFactory;
+	private final int staleItemLimit;
+
+	public StreamingRssParser(@Value("${collector.rss.stale-item-limit:3}") int staleItemLimit) {
+		this.staleItemLimit = staleItemLimit;
+		this.xmlInputFactory = XMLInputFactory.newFactory();
+		this.xmlInputFactory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+		this.xmlInputFactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+		this.xmlInputFactory.setProperty(XMLInputFactory.IS_COALESCING, true);
+	}
+
+	/**
+	 * 피드에서 워터마크 이후에 발행된 항목만 읽는다.
+	 *
+	 * @param reader 인코딩이 적용된 피드 Reader
+	 * @param watermark 이 시각 이후에 발행된 항목만 반환
+	 * @return 문서 순서대로 정렬된 항목 목록
+	 * @throws XMLStreamException XML 파싱 중 오류가 발생한 경우
+	 * @since 2025-05-22
+	 */
+	public List<SyndEntry> parse(Reader reader, LocalDateTime watermark) throws XMLStreamException {
+		XMLStreamReader xml = xmlInputFactory.createXMLStreamReader(reader);
+		try {
+			return readItems(xml, watermark);
+		} finally {
+			xml.close();
+		}
+	}
+
+	private List<SyndEntry> readItems(XMLStreamReader xml, LocalDateTime watermark) throws XMLStreamException {
+		List<SyndEntry> entries = new ArrayList<>();
+		int staleCount = 0;
+		int readCount = 0;
+
+		while (xml.hasNext()) {
+			if (xml.next() != XMLStreamConstants.START_ELEMENT || !isRssItem(xml)) {
+				continue;
+			}
+
+			SyndEntry entry = readItem(xml);
+			readCount++;
+			if (null == entry.getPublishedDate()) {
+				log.debug("발행일 없음 - 항목 제외: {}", entry.getTitle());
+				continue;
+			}
+
+			if (toLocalDateTime(entry.getPublishedDate()).isAfter(watermark)) {
+				entries.add(entry);
+				staleCount = 0;
+			} else if (++staleCount >= staleItemLimit) {
+				break;
+			}
+		}
+
+		log.debug("RSS 스트리밍 파싱 - 읽은 항목: {}, 신규 항목: {}", readCount, entries.size());
+		return entries;
+	}
+
+	/**
+	 * item 시작 태그부터 종료 태그까지 읽어 SyndEntry를 만든다.
+	 */
+	private SyndEntry readItem(XMLStreamReader xml) throws XMLStreamException {
+		SyndEntryImpl entry = new SyndEntryImpl();
+		List<Element> foreignMarkup = new ArrayList<>();
+		Date dcDate = null;
+
+		while (xml.hasNext()) {
+			int event = xml.next();
+			if (event == XMLStreamConstants.END_ELEMENT && isRssItem(xml)) {
+				break;
+			}
+			if (event != XMLStreamConstants.START_ELEMENT) {
+				continue;
+			}
+
+			String namespace = xml.getNamespaceURI();
+			String name = xml.getLocalName();
+			if (MEDIA_NAMESPACE.equals(namespace) && "content".equals(name)) {
+				foreignMarkup.add(toMediaContent(xml));
+				skipElement(xml);
+			} else if (DC_NAMESPACE.equals(namespace) && "date".equals(name)) {
+				dcDate = parseDate(readText(xml));
+			} else if (isRssNamespace(namespace)) {
+				readRssField(xml, entry, name);
+			} else {
+				skipElement(xml);
+			}
+		}
+
+		if (null == entry.getPublishedDate() && null != dcDate) {
+			entry.setPublishedDate(dcDate);
+		}
+		entry.setForeignMarkup(foreignMarkup);
+		return entry;
+	}
+
+	private void readRssField(XMLStreamReader xml, SyndEntryImpl entry, String name) throws XMLStreamException {
+		switch (name) {
+			case "title" -> entry.setTitle(trim(readText(xml)));
+			case "link" -> entry.setLink(trim(readText(xml)));
+			case "description" -> entry.setDescription(toContent(readText(xml)));
+			case "pubDate" -> entry.setPublishedDate(parseDate(readText(xml)));
+			default -> skipElement(xml);
+		}
+	}
+
+	private boolean isRssItem(XMLStreamReader xml) {
+		return ITEM.equals(xml.getLocalName()) && isRssNamespace(xml.getNamespaceURI());
+	}
+
+	/**
+	 * RSS 2.0은 네임스페이스가 없고, RSS 1.0은 기본 네임스페이스로 RSS 1.0 URI를 사용한다.
+	 */
+	private boolean isRssNamespace(String namespace) {
+		return isEmpty(namespace) || RSS_10_NAMESPACE.equals(namespace);
+	}
+
+	/**
+	 * 매퍼가 접두어로 찾으므로, 원본 접두어와 상관없이 media 접두어로 만든다.
+	 */
+	private Element toMediaContent(XMLStreamReader xml) {
+		Element element = new Element("content", Namespace.getNamespace(MEDIA_PREFIX, MEDIA_NAMESPACE));
+		for (int i = 0; i < xml.getAttributeCount(); i++) {
+			if (isEmpty(xml.getAttributePrefix(i))) {
+				element.setAttribute(xml.getAttributeLocalName(i), xml.getAttributeValue(i));
+			}
+		}
+		return element;
+	}
+
+	/**
+	 * 현재 요소의 텍스트(CDATA 포함)를 읽는다. 하위 요소는 건너뛴다.
+	 * 호출 후 커서는 현재 요소의 종료 태그에 위치한다.
+	 */
+	private String readText(XMLStreamReader xml) throws XMLStreamException {
+		StringBuilder text = new StringBuilder();
+		int depth = 1;
+		while (depth > 0) {
+			int event = xml.next();
+			if (event == XMLStreamConstants.START_ELEMENT) {
+				depth++;
+			} else if (event == XMLStreamConstants.END_ELEMENT) {
+				depth--;
+			} else if (depth == 1 && (event == XMLStreamConstants.CHARACTERS || event == XMLStreamConstants.CDATA)) {
+				text.append(xml.getText());
+			}
+		}
+		return text.toString();
+	}
+
+	private void skipElement(XMLStreamReader xml) throws XMLStreamException {
+		int depth = 1;
+		while (depth > 0) {
+			int event = xml.next();
+			if (event == XMLStreamConstants.START_ELEMENT) {
+				depth++;
+			} else if (event == XMLStreamConstants.END_ELEMENT) {
+				depth--;
+			}
+		}
+	}
+
+	private SyndContentImpl toContent(String value) {
+		SyndContentImpl content = new SyndContentImpl();
+		content.setType("text/html");
+		content.setValue(value);
+		return content;
+	}
+
+	private Date parseDate(String value) {
+		String trimmed = trim(value);
+		if (isEmpty(trimmed)) {
+			return null;
+		}
+		return DateParser.parseDate(trimmed, Locale.US);
+	}
+
+	private LocalDateTime toLocalDateTime(Date date) {
+		return date.toInstant().atZone(ZoneId.systemDefault()).toLocalDateTime();
+	}
+
+	private String trim(String value) {
+		return value == null ? null : value.trim();
+	}
+
+	private boolean isEmpty(String value) {
+		return value == null || value.isEmpty();
+	}
+}
@@ -1,12 +1,8 @@
 package com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.collector.support.scraper;
 
 import com.likelion.backendplus4.talkpick.batch.news.article.exception.ArticleCollectorException;
-import com.likelion.backendplus4.talkpick.batch.news.article.exception.error.ArticleCollectorErrorCode;
 import lombok.extern.slf4j.Slf4j;
-import org.jsoup.Jsoup;
-import org.jsoup.nodes.Document;
 
-import java.io.IOException;
 import java.util.List;
 
 /**
@@ -15,6 +11,7 @@ import java.util.List;
  *
  * @author 양병학
  * @since 2025-05-13 최초 작성
+ * @modified 2025-05-22 문서 요청은 공용 HTTP 클라이언트(NewsHttpClient)로 이동
  */
 public interface ContentScraper {
     /**
@@ -50,25 +47,4 @@ public interface ContentScraper {
      * @return Mapper Type 영문 2자 (예: "km", "da")
      */
     String getSupportedMapperType();
-
-    /**
-     * URL에 연결하여 Document 객체 반환 (기본 구현)
-     *
-     * @param url 연결할 URL
-     * @return 파싱된 JSoup Document
-     * @throws ArticleCollectorException 연결 오류 발생 시 SCRAPER_CONNECTION_ERROR 예외 발생
-     */
-    default Document connectToUrl(String url) throws ArticleCollectorException {
-        try {
-            return Jsoup.connect(url)
-                    .userAgent("Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/91.0.4472.124 Safari/537.36")
-                    .timeout(5000)
-                    .ignoreContentType(true)
-                    .maxBodySize(1024 * 1024)
-                    .followRedirects(true)
-                    .get();
-        } catch (IOException e) {
-            throw new ArticleCollectorException(ArticleCollectorErrorCode.SCRAPER_CONNECTION_ERROR, e);
-        }
-    }
 }
\ No newline at end of file
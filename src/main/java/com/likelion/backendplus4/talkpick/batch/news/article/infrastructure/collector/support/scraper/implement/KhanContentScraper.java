@@ -2,6 +2,8 @@ package com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.col
 
 import com.likelion.backendplus4.talkpick.batch.news.article.exception.ArticleCollectorException;
 import com.likelion.backendplus4.talkpick.batch.news.article.exception.error.ArticleCollectorErrorCode;
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.collector.support.cache.ScrapedDocumentCache;
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.collector.support.http.NewsHttpClient;
 import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.collector.support.scraper.ContentScraper;
 import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.collector.support.util.HtmlScraperUtils;
 
@@ -21,10 +23,19 @@ import java.util.Objects;
  *
  * @author 양병학
  * @since 2025-05-13 최초 작성
+ * @modified 2025-05-21 Document 캐시를 통해 기사당 한 번만 요청하도록 변경
+ * @modified 2025-05-22 연결을 재사용하는 공용 HTTP 클라이언트로 문서 요청
  */
 @Slf4j
 @Component
 public class KhanContentScraper implements ContentScraper {
+    private final ScrapedDocumentCache documentCache;
+    private final NewsHttpClient newsHttpClient;
+
+    public KhanContentScraper(ScrapedDocumentCache documentCache, NewsHttpClient newsHttpClient) {
+        this.documentCache = documentCache;
+        this.newsHttpClient = newsHttpClient;
+    }
 
     /**
      * 경향신문 기사 URL에서 본문 내용을 문단 단위로 스크래핑
@@ -35,7 +46,7 @@ public class KhanContentScraper implements ContentScraper {
      */
     @Override
     public List<String> scrapeParagraphs(String url) throws ArticleCollectorException {
-        Document document = connectToUrl(url);
+        Document document = documentCache.getOrFetch(url, newsHttpClient::getDocument);
         List<String> content = extractKhanContent(document);
 
         if (content == null || content.isEmpty() || content.stream().allMatch(String::isEmpty)) {
@@ -141,7 +152,7 @@ public class KhanContentScraper implements ContentScraper {
      */
     @Override
     public String scrapeContent(String url) throws ArticleCollectorException {
-        Document document = connectToUrl(url);
+        Document document = documentCache.getOrFetch(url, newsHttpClient::getDocument);
         List<String> paragraphs = extractKhanContent(document);
 
         if (paragraphs == null || paragraphs.isEmpty() || paragraphs.stream().allMatch(String::isEmpty)) {
@@ -160,7 +171,7 @@ public class KhanContentScraper implements ContentScraper {
      */
     @Override
     public String scrapeImageUrl(String url) throws ArticleCollectorException {
-        Document document = connectToUrl(url);
+        Document document = documentCache.getOrFetch(url, newsHttpClient::getDocument);
         String imageUrl = extractImageUrlFromDocument(document);
 
         if (imageUrl == null || imageUrl.isEmpty()) {
@@ -3,18 +3,28 @@ package com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.col
 import java.util.List;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.Set;
 import java.util.stream.Collectors;
 
+import org.springframework.batch.core.scope.context.StepContext;
+import org.springframework.batch.core.scope.context.StepSynchronizationManager;
 import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ExecutionContext;
 import org.springframework.batch.item.ItemWriter;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Component;
 
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.collector.support.cache.PubDateWatermarkStore;
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.jdbc.repository.ArticleJdbcRepository;
 import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.jpa.entity.ArticleEntity;
 import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.jpa.repository.NewsInfoJpaRepository;
 
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -26,39 +36,105 @@ import static java.util.Map.entry;
  * 매퍼에서 전달된 문단 구분자(PARAGRAPH_BREAK)를 기준으로 문단을 분리하고 직렬화한다.
  *
  * - 입력: 기사 리스트(List<ArticleEntity>)
- * - 처리: 문단 분리, 직렬화, 중복 여부 확인 후 저장
+ * - 처리: 청크 단위 중복 확인(IN 쿼리 1회) 후 문단 분리, 직렬화, JDBC 배치 저장
  * - 출력: 로그 출력 (중복 제외)
  *
  * @since 2025-05-10
  * @modified 2025-05-15 직렬화 확인 로직 추가
  * @modified 2025-05-16 PARAGRAPH_BREAK 기반 문단 처리 추가
+ * @modified 2025-05-21 건별 existsByLink/save를 IN 조회와 JDBC 배치 저장으로 변경
+ * @modified 2025-05-21 커밋 이후 RSS 소스별 워터마크 전진
+ * @modified 2025-05-22 새로 저장한 기사 수를 StepExecution에 누적
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class ArticleWriter implements ItemWriter<List<ArticleEntity>> {
+	public static final String INSERTED_COUNT_KEY = "article.inserted.count";
 
 	private final NewsInfoJpaRepository newsInfoJpaRepository;
+	private final ArticleJdbcRepository articleJdbcRepository;
+	private final Validator validator;
+	private final PubDateWatermarkStore pubDateWatermarkStore;
 	private static final String PARAGRAPH_BREAK = "PARAGRAPH_BREAK";
 
 	/**
 	 * 기사 리스트를 저장하며, 중복된 기사는 건너뛴다.
 	 * 저장 성공 시 개수를 집계하고, 로그로 남긴다.
+	 * 트랜잭션 커밋 이후 저장된 기사의 발행일로 소스별 워터마크를 전진시킨다.
 	 *
 	 * @param chunk Spring Batch가 전달하는 기사 리스트 Chunk
 	 * @since 2025-05-10
 	 * @author 함예정
+	 * @modified 2025-05-21 청크 단위 중복 확인 및 배치 저장으로 변경
 	 */
 	@Override
 	public void write(Chunk<? extends List<ArticleEntity>> chunk) {
-		AtomicInteger savedCount = new AtomicInteger();
+		List<ArticleEntity> newArticles = filterNewArticles(chunk);
+		newArticles.forEach(this::processAndSerializeDescription);
+		newArticles.forEach(this::validate);
+
+		int savedCount = saveAll(newArticles);
+		pubDateWatermarkStore.advanceAfterCommit(newArticles);
+		recordInsertedCount(savedCount);
+		log.info("새로 저장된 뉴스 개수: {}", savedCount);
+	}
+
+	/**
+	 * 새로 저장한 기사 수를 현재 StepExecution의 ExecutionContext에 누적한다.
+	 * Job 완료 후 다음 단계(요약) 실행 여부를 판단하는 데 사용된다.
+	 *
+	 * @param savedCount 이번 청크에서 저장한 기사 수
+	 * @since 2025-05-22
+	 */
+	private void recordInsertedCount(int savedCount) {
+		StepContext stepContext = StepSynchronizationManager.getContext();
+		if (savedCount == 0 || stepContext == null) {
+			return;
+		}
+		ExecutionContext executionContext = stepContext.getStepExecution().getExecutionContext();
+		executionContext.putLong(INSERTED_COUNT_KEY, executionContext.getLong(INSERTED_COUNT_KEY, 0L) + savedCount);
+	}
+
+	/**
+	 * 청크 내 기사들을 링크 기준으로 중복 제거한 뒤,
+	 * 한 번의 IN 쿼리로 이미 저장된 링크를 제외한다.
+	 *
+	 * @param chunk Spring Batch가 전달하는 기사 리스트 Chunk
+	 * @return 저장 대상 기사 리스트 (입력 순서 유지)
+	 * @since 2025-05-21
+	 */
+	private List<ArticleEntity> filterNewArticles(Chunk<? extends List<ArticleEntity>> chunk) {
+		Map<String, ArticleEntity> articlesByLink = new LinkedHashMap<>();
 		chunk.getItems().stream()
 			.flatMap(List::stream)
-			.peek(this::processAndSerializeDescription)
-			.filter(item -> !newsInfoJpaRepository.existsByLink(item.getLink()))
-			.forEach(item -> {saveItem(item, savedCount);});
+			.forEach(item -> articlesByLink.putIfAbsent(item.getLink(), item));
+
+		if (articlesByLink.isEmpty()) {
+			return List.of();
+		}
+
+		Set<String> existingLinks = findExistingLinks(articlesByLink.keySet());
+		return articlesByLink.values().stream()
+			.filter(item -> !existingLinks.contains(item.getLink()))
+			.toList();
+	}
 
-		log.info("새로 저장된 뉴스 개수: {}", savedCount.get());
+	private Set<String> findExistingLinks(Set<String> links) {
+		return new HashSet<>(newsInfoJpaRepository.findExistingLinks(links));
+	}
+
+	/**
+	 * JPA 저장 시 수행되던 엔티티 제약 검증을 JDBC 저장 전에 동일하게 수행한다.
+	 *
+	 * @param item 검증할 기사
+	 * @since 2025-05-21
+	 */
+	private void validate(ArticleEntity item) {
+		Set<ConstraintViolation<ArticleEntity>> violations = validator.validate(item);
+		if (!violations.isEmpty()) {
+			throw new ConstraintViolationException(violations);
+		}
 	}
 
 	/**
@@ -185,19 +261,56 @@ public class ArticleWriter implements ItemWriter<List<ArticleEntity>> {
 	}
 
 	/**
-	 * DB에 뉴스를 저장하고, 저장된 개수를 증가시킨다.
+	 * 뉴스 목록을 JDBC 배치로 저장한다.
+	 * 다른 파티션과의 경합으로 중복 링크가 발생하면, 저장된 링크를 다시 조회한 뒤 건별 저장으로 전환한다.
+	 *
+	 * @param items 저장할 뉴스 목록
+	 * @return 저장된 개수
+	 * @since 2025-05-21
+	 */
+	private int saveAll(List<ArticleEntity> items) {
+		if (items.isEmpty()) {
+			return 0;
+		}
+
+		try {
+			articleJdbcRepository.insertAll(items);
+			return items.size();
+		} catch (DataIntegrityViolationException e) {
+			log.debug("배치 저장 중 중복 항목 감지, 건별 저장으로 전환: {}건", items.size());
+			return saveEach(items);
+		}
+	}
+
+	private int saveEach(List<ArticleEntity> items) {
+		Set<String> existingLinks = findExistingLinks(
+			items.stream().map(ArticleEntity::getLink).collect(Collectors.toSet()));
+
+		int savedCount = 0;
+		for (ArticleEntity item : items) {
+			if (!existingLinks.contains(item.getLink()) && saveItem(item)) {
+				savedCount++;
+			}
+		}
+		return savedCount;
+	}
+
+	/**
+	 * DB에 뉴스를 저장한다.
 	 *
 	 * @param item 저장할 뉴스
-	 * @param savedCount 저장된 갯수
+	 * @return 저장 여부
 	 * @author 함예정
 	 * @since 2025-05-12
+	 * @modified 2025-05-21 JDBC 단건 저장으로 변경
 	 */
-	private void saveItem(ArticleEntity item, AtomicInteger savedCount) {
+	private boolean saveItem(ArticleEntity item) {
 		try {
-			newsInfoJpaRepository.save(item);
-			savedCount.incrementAndGet();
+			articleJdbcRepository.insert(item);
+			return true;
 		} catch (DataIntegrityViolationException e) {
 			log.debug("중복 항목 감지: {}", item.getLink());
+			return false;
 		}
 	}
 }
\ No newline at end of file
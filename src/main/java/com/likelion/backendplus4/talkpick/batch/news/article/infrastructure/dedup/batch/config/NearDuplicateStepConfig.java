@@ -0,0 +1,44 @@
+package com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.dedup.batch.config;
+
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.dedup.batch.tasklet.NearDuplicateDetectionTasklet;
+
+/**
+ * 유사 중복 기사 판별을 위한 Spring Batch Step 설정 클래스.
+ * 수집 Job 마지막에 실행되는 tasklet step을 구성한다.
+ *
+ * @since 2025-05-22
+ */
+@Configuration
+public class NearDuplicateStepConfig {
+	private final JobRepository jobRepository;
+	private final PlatformTransactionManager transactionManager;
+
+	public NearDuplicateStepConfig(JobRepository jobRepository,
+		PlatformTransactionManager platformTransactionManager) {
+		this.jobRepository = jobRepository;
+		this.transactionManager = platformTransactionManager;
+	}
+
+	/**
+	 * 새로 수집된 기사 중 최근 기사와 거의 같은 기사를 DUPLICATE 상태로 표시하는 Step을 생성한다.
+	 * 요약 Step보다 먼저 실행되어야 중복 기사의 요약 비용을 줄일 수 있다.
+	 *
+	 * @param tasklet 유사 중복 판별 Tasklet
+	 * @return 유사 중복 판별 Step
+	 * @since 2025-05-22
+	 */
+	@Bean
+	public Step nearDuplicateDetectionStep(NearDuplicateDetectionTasklet tasklet) {
+		return new StepBuilder("nearDuplicateDetectionStep", jobRepository)
+			.tasklet(tasklet, transactionManager)
+			.allowStartIfComplete(true)
+			.build();
+	}
+}
@@ -0,0 +1,108 @@
+package com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.dedup.batch.fingerprint;
+
+import java.text.Normalizer;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 기사 본문(description)의 64비트 SimHash를 계산하는 컴포넌트.
+ *
+ * - description(JSON 문단 배열)의 문단을 이어 붙인 뒤, NFC 정규화/소문자 변환 후 문자와 숫자만 남긴다
+ * - 연속된 shingle-size개 문자를 특징으로 사용한다 (띄어쓰기와 조사 차이에 덜 민감하도록 어절 대신 문자 단위)
+ * - 특징 수가 min-shingles보다 적은 짧은 본문은 판별하지 않고 {@link #NO_FINGERPRINT}를 반환한다
+ *
+ * @since 2025-05-22
+ */
+@Component
+public class SimHashFingerprinter {
+	public static final long NO_FINGERPRINT = 0L;
+
+	private static final Pattern NON_TEXT = Pattern.compile("[^\\p{L}\\p{N}]+");
+	private static final TypeReference<List<String>> PARAGRAPHS_TYPE = new TypeReference<>() {
+	};
+	private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+	private static final long FNV_PRIME = 0x100000001b3L;
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final int shingleSize;
+	private final int minShingles;
+
+	public SimHashFingerprinter(@Value("${article.dedup.shingle-size:4}") int shingleSize,
+		@Value("${article.dedup.min-shingles:50}") int minShingles) {
+		this.shingleSize = shingleSize;
+		this.minShingles = minShingles;
+	}
+
+	/**
+	 * 본문의 SimHash를 계산한다.
+	 *
+	 * @param description 기사 본문 (JSON 문단 배열 또는 일반 텍스트)
+	 * @return 64비트 SimHash, 본문이 너무 짧으면 {@link #NO_FINGERPRINT}
+	 * @since 2025-05-22
+	 */
+	public long fingerprint(String description) {
+		int[] codePoints = normalize(toPlainText(description)).codePoints().toArray();
+		int shingleCount = codePoints.length - shingleSize + 1;
+		if (shingleCount < minShingles) {
+			return NO_FINGERPRINT;
+		}
+
+		int[] weights = new int[Long.SIZE];
+		for (int start = 0; start < shingleCount; start++) {
+			long hash = hashShingle(codePoints, start);
+			for (int bit = 0; bit < Long.SIZE; bit++) {
+				weights[bit] += ((hash >>> bit) & 1L) == 1L ? 1 : -1;
+			}
+		}
+
+		long fingerprint = 0L;
+		for (int bit = 0; bit < Long.SIZE; bit++) {
+			if (weights[bit] > 0) {
+				fingerprint |= 1L << bit;
+			}
+		}
+		return fingerprint == NO_FINGERPRINT ? 1L : fingerprint;
+	}
+
+	private String toPlainText(String description) {
+		if (null == description || description.isBlank()) {
+			return "";
+		}
+		String trimmed = description.trim();
+		if (!trimmed.startsWith("[")) {
+			return trimmed;
+		}
+		try {
+			return String.join(" ", objectMapper.readValue(trimmed, PARAGRAPHS_TYPE));
+		} catch (JsonProcessingException e) {
+			return trimmed;
+		}
+	}
+
+	private String normalize(String text) {
+		String normalized = Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+		return NON_TEXT.matcher(normalized).replaceAll("");
+	}
+
+	/**
+	 * shingle을 FNV-1a로 해시한 뒤 비트를 고르게 섞는다 (splitmix64 finalizer).
+	 */
+	private long hashShingle(int[] codePoints, int start) {
+		long hash = FNV_OFFSET_BASIS;
+		for (int i = start; i < start + shingleSize; i++) {
+			hash ^= codePoints[i];
+			hash *= FNV_PRIME;
+		}
+		hash = (hash ^ (hash >>> 30)) * 0xbf58476d1ce4e5b9L;
+		hash = (hash ^ (hash >>> 27)) * 0x94d049bb133111ebL;
+		return hash ^ (hash >>> 31);
+	}
+}
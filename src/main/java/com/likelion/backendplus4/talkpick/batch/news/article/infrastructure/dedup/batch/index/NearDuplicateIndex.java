@@ -0,0 +1,195 @@
+package com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.dedup.batch.index;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.dedup.batch.fingerprint.SimHashFingerprinter;
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.jdbc.repository.ArticleDuplicateJdbcRepository;
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.jdbc.repository.ArticleDuplicateJdbcRepository.CanonicalFingerprint;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 최근 대표 기사들의 SimHash를 보관하고, 해밍 거리 기준으로 유사 중복 기사를 찾는 메모리 LSH 인덱스.
+ *
+ * - 64비트 SimHash를 (max-hamming-distance + 1)개 밴드로 나누어 밴드별로 버킷을 만든다
+ * - 해밍 거리가 max-hamming-distance 이하인 두 SimHash는 비둘기집 원리에 의해 적어도 한 밴드가 같으므로,
+ *   같은 버킷의 후보만 비교해도 누락이 없다
+ * - window보다 오래된 항목과 max-size를 넘는 오래된 항목은 제거한다
+ * - {@link #refresh()}로 다른 노드가 판별한 대표 기사를 DB에서 이어서 적재한다
+ *
+ * @since 2025-05-22
+ */
+@Slf4j
+@Component
+public class NearDuplicateIndex {
+	private final ArticleDuplicateJdbcRepository articleDuplicateJdbcRepository;
+	private final int maxHammingDistance;
+	private final Duration window;
+	private final int maxSize;
+	private final int[] bandShifts;
+	private final long[] bandMasks;
+	private final List<Map<Long, List<IndexedFingerprint>>> bands;
+	private final LinkedHashMap<Long, IndexedFingerprint> entries = new LinkedHashMap<>();
+	private final ReentrantLock lock = new ReentrantLock();
+	private long lastLoadedId;
+
+	public NearDuplicateIndex(ArticleDuplicateJdbcRepository articleDuplicateJdbcRepository,
+		@Value("${article.dedup.max-hamming-distance:3}") int maxHammingDistance,
+		@Value("${article.dedup.window:PT48H}") Duration window,
+		@Value("${article.dedup.max-size:50000}") int maxSize) {
+		this.articleDuplicateJdbcRepository = articleDuplicateJdbcRepository;
+		this.maxHammingDistance = maxHammingDistance;
+		this.window = window;
+		this.maxSize = maxSize;
+
+		int bandCount = Math.min(maxHammingDistance + 1, Long.SIZE);
+		this.bandShifts = new int[bandCount];
+		this.bandMasks = new long[bandCount];
+		this.bands = new ArrayList<>(bandCount);
+		int shift = 0;
+		for (int band = 0; band < bandCount; band++) {
+			int width = Long.SIZE / bandCount + (band < Long.SIZE % bandCount ? 1 : 0);
+			bandShifts[band] = shift;
+			bandMasks[band] = width == Long.SIZE ? -1L : (1L << width) - 1;
+			bands.add(new HashMap<>());
+			shift += width;
+		}
+	}
+
+	/**
+	 * 마지막 적재 이후 판별된 대표 기사들을 DB에서 적재한다.
+	 * 최초 호출 시에는 window 안에 수집된 대표 기사 전체를 적재한다.
+	 *
+	 * @since 2025-05-22
+	 */
+	public void refresh() {
+		lock.lock();
+		try {
+			List<CanonicalFingerprint> loaded = articleDuplicateJdbcRepository.findCanonicalFingerprints(
+				lastLoadedId, LocalDateTime.now().minus(window));
+			for (CanonicalFingerprint fingerprint : loaded) {
+				addLocked(fingerprint.id(), fingerprint.simhash(), fingerprint.createdAt());
+				lastLoadedId = Math.max(lastLoadedId, fingerprint.id());
+			}
+			evictLocked();
+			log.debug("유사 중복 인덱스 적재: {}건, 전체 {}건", loaded.size(), entries.size());
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * 해밍 거리가 가장 가까운 대표 기사를 찾는다. 거리가 같으면 먼저 수집된(ID가 작은) 기사를 고른다.
+	 *
+	 * @param articleId 판별 중인 기사 ID (자기 자신은 제외)
+	 * @param simhash 판별 중인 기사의 SimHash
+	 * @return max-hamming-distance 이내의 대표 기사 ID
+	 * @since 2025-05-22
+	 */
+	public OptionalLong findNearest(long articleId, long simhash) {
+		if (simhash == SimHashFingerprinter.NO_FINGERPRINT) {
+			return OptionalLong.empty();
+		}
+
+		lock.lock();
+		try {
+			IndexedFingerprint nearest = null;
+			int nearestDistance = Integer.MAX_VALUE;
+			for (int band = 0; band < bands.size(); band++) {
+				List<IndexedFingerprint> bucket = bands.get(band).get(bandKey(simhash, band));
+				if (null == bucket) {
+					continue;
+				}
+				for (IndexedFingerprint candidate : bucket) {
+					if (candidate.id() == articleId) {
+						continue;
+					}
+					int distance = Long.bitCount(candidate.simhash() ^ simhash);
+					if (distance <= maxHammingDistance && (distance < nearestDistance
+						|| distance == nearestDistance && candidate.id() < nearest.id())) {
+						nearest = candidate;
+						nearestDistance = distance;
+					}
+				}
+			}
+			return null == nearest ? OptionalLong.empty() : OptionalLong.of(nearest.id());
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * 대표 기사로 판별된 기사를 인덱스에 추가한다.
+	 *
+	 * @param articleId 기사 ID
+	 * @param simhash 기사의 SimHash
+	 * @since 2025-05-22
+	 */
+	public void add(long articleId, long simhash) {
+		lock.lock();
+		try {
+			addLocked(articleId, simhash, LocalDateTime.now());
+			evictLocked();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private void addLocked(long articleId, long simhash, LocalDateTime indexedAt) {
+		if (simhash == SimHashFingerprinter.NO_FINGERPRINT || entries.containsKey(articleId)) {
+			return;
+		}
+
+		IndexedFingerprint fingerprint = new IndexedFingerprint(articleId, simhash, indexedAt);
+		entries.put(articleId, fingerprint);
+		for (int band = 0; band < bands.size(); band++) {
+			bands.get(band).computeIfAbsent(bandKey(simhash, band), key -> new ArrayList<>(1)).add(fingerprint);
+		}
+	}
+
+	private void evictLocked() {
+		LocalDateTime threshold = LocalDateTime.now().minus(window);
+		Iterator<IndexedFingerprint> iterator = entries.values().iterator();
+		while (iterator.hasNext()) {
+			IndexedFingerprint oldest = iterator.next();
+			if (entries.size() <= maxSize && !oldest.indexedAt().isBefore(threshold)) {
+				return;
+			}
+			iterator.remove();
+			removeFromBands(oldest);
+		}
+	}
+
+	private void removeFromBands(IndexedFingerprint fingerprint) {
+		for (int band = 0; band < bands.size(); band++) {
+			long key = bandKey(fingerprint.simhash(), band);
+			List<IndexedFingerprint> bucket = bands.get(band).get(key);
+			if (null == bucket) {
+				continue;
+			}
+			bucket.remove(fingerprint);
+			if (bucket.isEmpty()) {
+				bands.get(band).remove(key);
+			}
+		}
+	}
+
+	private long bandKey(long simhash, int band) {
+		return (simhash >>> bandShifts[band]) & bandMasks[band];
+	}
+
+	private record IndexedFingerprint(long id, long simhash, LocalDateTime indexedAt) {
+	}
+}
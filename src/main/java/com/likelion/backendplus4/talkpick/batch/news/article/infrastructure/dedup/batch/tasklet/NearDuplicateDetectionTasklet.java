@@ -0,0 +1,118 @@
+package com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.dedup.batch.tasklet;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalLong;
+
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.dedup.batch.fingerprint.SimHashFingerprinter;
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.dedup.batch.index.NearDuplicateIndex;
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.jdbc.repository.ArticleDuplicateJdbcRepository;
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.jdbc.repository.ArticleDuplicateJdbcRepository.ArticleFingerprint;
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.jpa.projection.ArticleDescriptionProjection;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 새로 수집된 기사의 SimHash를 계산하여 최근 기사와 거의 같은 기사를 DUPLICATE 상태로 표시하는 Tasklet.
+ * 수집 Job의 마지막 Step으로 실행되어, 요약 Step이 중복 기사를 다시 요약하지 않도록 한다.
+ *
+ * - 아직 판별하지 않은 COLLECTED 기사를 id 기준 keyset 방식으로 페이지 단위 처리 (페이지마다 트랜잭션 커밋)
+ * - 유사한 대표 기사가 있으면 canonical_article_id를 기록하고 DUPLICATE로 전이, 없으면 대표 기사로 인덱스에 추가
+ * - 같은 페이지 안의 중복도 앞서 추가된 대표 기사로 판별된다
+ * - 판별을 마치면 이미 임베딩된 대표 기사의 결과를 복사하고, 대표 기사가 실패한 중복 기사는 COLLECTED로 되돌린다
+ *
+ * @since 2025-05-22
+ */
+@Slf4j
+@Component
+public class NearDuplicateDetectionTasklet implements Tasklet {
+	private static final String LAST_ID_KEY = "nearDuplicateDetection.lastId";
+
+	private final ArticleDuplicateJdbcRepository articleDuplicateJdbcRepository;
+	private final SimHashFingerprinter simHashFingerprinter;
+	private final NearDuplicateIndex nearDuplicateIndex;
+	private final boolean enabled;
+	private final int pageSize;
+
+	public NearDuplicateDetectionTasklet(ArticleDuplicateJdbcRepository articleDuplicateJdbcRepository,
+		SimHashFingerprinter simHashFingerprinter,
+		NearDuplicateIndex nearDuplicateIndex,
+		@Value("${article.dedup.enabled:true}") boolean enabled,
+		@Value("${article.dedup.page-size:500}") int pageSize) {
+		this.articleDuplicateJdbcRepository = articleDuplicateJdbcRepository;
+		this.simHashFingerprinter = simHashFingerprinter;
+		this.nearDuplicateIndex = nearDuplicateIndex;
+		this.enabled = enabled;
+		this.pageSize = pageSize;
+	}
+
+	/**
+	 * 판별하지 않은 기사 한 페이지의 SimHash를 계산하고 중복 여부를 기록한다.
+	 * 처리한 행이 있으면 CONTINUABLE을 반환하여 다음 페이지를 새 트랜잭션에서 처리한다.
+	 *
+	 * @param contribution Step 기여 정보
+	 * @param chunkContext 청크 컨텍스트
+	 * @return 반복 여부
+	 * @since 2025-05-22
+	 */
+	@Override
+	public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) {
+		if (!enabled) {
+			return RepeatStatus.FINISHED;
+		}
+
+		ExecutionContext context = chunkContext.getStepContext().getStepExecution().getExecutionContext();
+		long lastId = context.getLong(LAST_ID_KEY, 0L);
+		if (lastId == 0L) {
+			nearDuplicateIndex.refresh();
+		}
+
+		List<ArticleDescriptionProjection> page = articleDuplicateJdbcRepository.findUnfingerprinted(lastId, pageSize);
+		if (page.isEmpty()) {
+			syncWithCanonicals();
+			return RepeatStatus.FINISHED;
+		}
+
+		List<ArticleFingerprint> fingerprints = new ArrayList<>(page.size());
+		int duplicates = 0;
+		for (ArticleDescriptionProjection article : page) {
+			long simhash = simHashFingerprinter.fingerprint(article.description());
+			OptionalLong canonicalId = nearDuplicateIndex.findNearest(article.id(), simhash);
+			if (canonicalId.isPresent()) {
+				fingerprints.add(new ArticleFingerprint(article.id(), simhash, canonicalId.getAsLong()));
+				duplicates++;
+			} else {
+				nearDuplicateIndex.add(article.id(), simhash);
+				fingerprints.add(new ArticleFingerprint(article.id(), simhash, null));
+			}
+		}
+		articleDuplicateJdbcRepository.updateFingerprints(fingerprints);
+		log.info("유사 중복 판별: {}건 중 중복 {}건", page.size(), duplicates);
+
+		contribution.incrementWriteCount(page.size());
+		context.putLong(LAST_ID_KEY, page.getLast().id());
+		return RepeatStatus.CONTINUABLE;
+	}
+
+	/**
+	 * 대표 기사가 이미 임베딩된 중복 기사에 요약/벡터를 복사하고,
+	 * 대표 기사가 요약/임베딩에 실패한 중복 기사는 직접 처리되도록 COLLECTED로 되돌린다.
+	 *
+	 * @since 2025-05-22
+	 */
+	private void syncWithCanonicals() {
+		int copied = articleDuplicateJdbcRepository.copyFromEmbeddedCanonicals();
+		int released = articleDuplicateJdbcRepository.releaseFromFailedCanonicals();
+		if (copied > 0 || released > 0) {
+			log.info("중복 기사 정리: 요약/벡터 복사 {}건, 대표 기사 실패로 재처리 {}건", copied, released);
+		}
+	}
+}
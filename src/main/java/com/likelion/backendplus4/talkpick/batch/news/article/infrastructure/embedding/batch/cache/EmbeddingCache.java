@@ -0,0 +1,169 @@
+package com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.embedding.batch.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.jdbc.datasource.AutonomousTransactionPool;
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.jdbc.repository.EmbeddingCacheJdbcRepository;
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.vector.EmbeddingProfile;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 요약 텍스트의 임베딩 벡터를 (임베딩 모델과 차원 수, 정규화된 텍스트 해시) 키로 보관하는 캐시.
+ * 메모리 LRU를 먼저 조회하고, 없으면 embedding_cache 테이블을 조회한다.
+ *
+ * - 텍스트는 유니코드 NFC 정규화, 연속 공백 축약, 앞뒤 공백 제거 후 SHA-256으로 해시
+ * - 모델 이름과 차원 수가 키에 포함되므로 embedding-model이나 dimensions를 바꾸면 이전 벡터는 재사용되지 않는다
+ * - DB 조회/저장은 {@link AutonomousTransactionPool}의 커넥션으로 청크 트랜잭션과 별개로 실행하여,
+ *   청크가 롤백되어도 이미 받은 벡터는 남기고 청크 트랜잭션과 같은 풀의 커넥션을 추가로 잡지 않는다
+ * - 캐시 조회/저장 실패는 임베딩을 막지 않고 캐시 미스로 처리한다
+ *
+ * @since 2025-05-22
+ * @modified 2025-05-22 임베딩 프로필의 차원 수를 캐시 키에 포함
+ * @modified 2025-05-22 전용 커넥션 풀에서 조회/저장
+ */
+@Slf4j
+@Component
+public class EmbeddingCache {
+	private static final HexFormat HEX = HexFormat.of();
+	private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+	private final EmbeddingCacheJdbcRepository embeddingCacheJdbcRepository;
+	private final TransactionTemplate transactionTemplate;
+	private final String modelKey;
+	private final boolean enabled;
+	private final int maxSize;
+	private final ReentrantLock lock = new ReentrantLock();
+	private final LinkedHashMap<String, float[]> vectors = new LinkedHashMap<>(16, 0.75f, true);
+
+	public EmbeddingCache(EmbeddingCacheJdbcRepository embeddingCacheJdbcRepository,
+		AutonomousTransactionPool autonomousTransactionPool,
+		EmbeddingProfile embeddingProfile,
+		@Value("${spring.ai.openai.embedding-cache.enabled:true}") boolean enabled,
+		@Value("${spring.ai.openai.embedding-cache.max-size:5000}") int maxSize) {
+		this.embeddingCacheJdbcRepository = embeddingCacheJdbcRepository;
+		this.transactionTemplate = autonomousTransactionPool.transactionTemplate();
+		this.modelKey = embeddingProfile.cacheKey();
+		this.enabled = enabled;
+		this.maxSize = maxSize;
+	}
+
+	/**
+	 * 텍스트를 정규화하여 캐시 키로 쓰는 SHA-256 해시(16진수)를 만든다.
+	 *
+	 * @param text 임베딩할 텍스트
+	 * @return 정규화된 텍스트의 해시
+	 * @since 2025-05-22
+	 */
+	public String hash(String text) {
+		String normalized = null == text ? ""
+			: WHITESPACE.matcher(Normalizer.normalize(text, Normalizer.Form.NFC)).replaceAll(" ").trim();
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			return HEX.formatHex(digest.digest(normalized.getBytes(StandardCharsets.UTF_8)));
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * 해시에 해당하는 캐시 벡터를 조회한다. 메모리에 없는 해시만 DB에서 조회하고 메모리에 올린다.
+	 *
+	 * @param textHashes 조회할 텍스트 해시 목록
+	 * @return 텍스트 해시별 벡터 (캐시에 없는 해시는 포함되지 않음)
+	 * @since 2025-05-22
+	 */
+	public Map<String, float[]> findAll(Collection<String> textHashes) {
+		if (!enabled || textHashes.isEmpty()) {
+			return Map.of();
+		}
+
+		Map<String, float[]> found = new HashMap<>();
+		List<String> misses = new ArrayList<>();
+		lock.lock();
+		try {
+			for (String textHash : textHashes) {
+				float[] vector = vectors.get(textHash);
+				if (null == vector) {
+					misses.add(textHash);
+				} else {
+					found.put(textHash, vector);
+				}
+			}
+		} finally {
+			lock.unlock();
+		}
+
+		if (!misses.isEmpty()) {
+			Map<String, float[]> stored = findStored(misses);
+			putInMemory(stored);
+			found.putAll(stored);
+		}
+		return found;
+	}
+
+	/**
+	 * 새로 받은 벡터를 메모리와 DB에 저장한다.
+	 *
+	 * @param newVectors 텍스트 해시별 벡터
+	 * @since 2025-05-22
+	 */
+	public void putAll(Map<String, float[]> newVectors) {
+		if (!enabled || newVectors.isEmpty()) {
+			return;
+		}
+
+		putInMemory(newVectors);
+		try {
+			transactionTemplate.executeWithoutResult(
+				status -> embeddingCacheJdbcRepository.saveAll(modelKey, newVectors));
+		} catch (DataAccessException e) {
+			log.warn("임베딩 캐시 저장 실패 - {}건: {}", newVectors.size(), e.getMessage());
+		}
+	}
+
+	private Map<String, float[]> findStored(List<String> textHashes) {
+		try {
+			return embeddingCacheJdbcRepository.findAll(modelKey, textHashes);
+		} catch (DataAccessException e) {
+			log.warn("임베딩 캐시 조회 실패 - {}건을 캐시 미스로 처리: {}", textHashes.size(), e.getMessage());
+			return Map.of();
+		}
+	}
+
+	private void putInMemory(Map<String, float[]> newVectors) {
+		if (newVectors.isEmpty()) {
+			return;
+		}
+
+		lock.lock();
+		try {
+			vectors.putAll(newVectors);
+			Iterator<String> iterator = vectors.keySet().iterator();
+			while (vectors.size() > maxSize && iterator.hasNext()) {
+				iterator.next();
+				iterator.remove();
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+}
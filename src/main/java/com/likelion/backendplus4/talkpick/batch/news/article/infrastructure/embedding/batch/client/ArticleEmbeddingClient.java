@@ -0,0 +1,241 @@
+package com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.embedding.batch.client;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.ai.document.MetadataMode;
+import org.springframework.ai.embedding.Embedding;
+import org.springframework.ai.embedding.EmbeddingResponse;
+import org.springframework.ai.openai.OpenAiEmbeddingModel;
+import org.springframework.ai.openai.OpenAiEmbeddingOptions;
+import org.springframework.ai.openai.api.OpenAiApi;
+import org.springframework.ai.retry.RetryUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.embedding.batch.cache.EmbeddingCache;
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.embedding.batch.exception.EmbeddingException;
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.embedding.batch.exception.error.EmbeddingErrorCode;
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.jpa.projection.ArticleSummaryProjection;
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.vector.EmbeddingProfile;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 뉴스 기사 요약(summary)을 기반으로 임베딩 벡터를 생성하는 OpenAI 임베딩 클라이언트.
+ * ItemProcessor가 아니라 {@code ArticleEmbeddingWriter}가 청크 단위로 호출하며,
+ * {@link #embedAll(List)}로 청크의 여러 요약을 한 번의 요청으로 임베딩한다.
+ *
+ * - 임베딩 모델 인스턴스는 생성 시 한 번만 만들어 재사용
+ * - 요청당 입력 개수와 추정 토큰 수를 기준으로 하위 배치로 분할
+ * - 응답 벡터는 index 기준으로 입력 순서에 맞춰 반환
+ * - {@link EmbeddingCache}에 있는 요약과 청크 안의 중복 요약은 API를 호출하지 않음
+ * - {@link EmbeddingProfile}의 차원 수로 임베딩을 요청하고, 차원 수가 다른 응답은 실패로 처리
+ *
+ * @since 2025-05-17
+ * @modified 2025-05-21 청크 단위 배치 임베딩 추가, 모델 인스턴스 재사용
+ * @modified 2025-05-22 엔티티 대신 (id, summary) 프로젝션을 입력받고 벡터 목록을 반환
+ * @modified 2025-05-22 내용 해시 기반 임베딩 캐시 적용
+ * @modified 2025-05-22 임베딩 프로필의 모델/차원 수 적용
+ * @modified 2025-05-22 ArticleEmbeddingProcessor에서 이름 변경 (ItemProcessor가 아니므로 client 패키지로 이동)
+ */
+@Component
+@Slf4j
+public class ArticleEmbeddingClient {
+	private static final int NON_ASCII_TOKENS_PER_CHAR = 2;
+
+	private final OpenAiApi openAiApi;
+	private final EmbeddingProfile embeddingProfile;
+	private final int maxBatchSize;
+	private final int maxBatchTokens;
+	private final OpenAiEmbeddingModel embeddingModel;
+	private final EmbeddingCache embeddingCache;
+
+	public ArticleEmbeddingClient(OpenAiApi openAiApi, EmbeddingCache embeddingCache,
+		EmbeddingProfile embeddingProfile,
+		@Value("${spring.ai.openai.embedding-batch.max-size:100}") int maxBatchSize,
+		@Value("${spring.ai.openai.embedding-batch.max-tokens:200000}") int maxBatchTokens) {
+		this.openAiApi = openAiApi;
+		this.embeddingCache = embeddingCache;
+		this.embeddingProfile = embeddingProfile;
+		this.maxBatchSize = maxBatchSize;
+		this.maxBatchTokens = maxBatchTokens;
+		this.embeddingModel = createModel();
+	}
+
+	/**
+	 * 여러 기사의 summary를 하위 배치 단위로 묶어 임베딩하고,
+	 * 입력과 같은 순서의 벡터 목록을 반환한다.
+	 * 임베딩 캐시에 있는 요약과 청크 안에서 중복된 요약은 API를 호출하지 않는다.
+	 *
+	 * @param items 임베딩할 기사 (id, summary) 목록
+	 * @return items와 같은 순서의 임베딩 벡터 목록
+	 * @since 2025-05-21
+	 * @modified 2025-05-22 엔티티에 설정하는 대신 벡터 목록 반환
+	 * @modified 2025-05-22 임베딩 캐시 조회 후 캐시 미스만 요청
+	 * @modified 2025-05-22 processAll에서 이름 변경
+	 */
+	public List<float[]> embedAll(List<? extends ArticleSummaryProjection> items) {
+		List<String> hashes = items.stream()
+			.map(item -> embeddingCache.hash(item.summary()))
+			.toList();
+		Map<String, float[]> vectorsByHash = new HashMap<>(embeddingCache.findAll(hashes));
+
+		Map<String, String> pendingTexts = new LinkedHashMap<>();
+		for (int i = 0; i < items.size(); i++) {
+			if (!vectorsByHash.containsKey(hashes.get(i))) {
+				pendingTexts.putIfAbsent(hashes.get(i), items.get(i).summary());
+			}
+		}
+		log.info("뉴스 임베딩: {}건 중 요청 {}건, Thread = {}", items.size(), pendingTexts.size(),
+			Thread.currentThread().getName());
+
+		if (!pendingTexts.isEmpty()) {
+			Map<String, float[]> embedded = embedPending(pendingTexts);
+			embeddingCache.putAll(embedded);
+			vectorsByHash.putAll(embedded);
+		}
+
+		List<float[]> vectors = new ArrayList<>(items.size());
+		for (String hash : hashes) {
+			vectors.add(vectorsByHash.get(hash));
+		}
+		return vectors;
+	}
+
+	/**
+	 * 캐시 미스 텍스트를 하위 배치 단위로 임베딩한다.
+	 *
+	 * @param pendingTexts 텍스트 해시별 임베딩할 텍스트
+	 * @return 텍스트 해시별 임베딩 벡터
+	 * @since 2025-05-22
+	 */
+	private Map<String, float[]> embedPending(Map<String, String> pendingTexts) {
+		List<String> hashes = List.copyOf(pendingTexts.keySet());
+		List<String> texts = List.copyOf(pendingTexts.values());
+		Map<String, float[]> embedded = new HashMap<>();
+		int from = 0;
+		for (List<String> batch : splitIntoBatches(texts)) {
+			float[][] batchVectors = executeEmbedding(batch);
+			for (int i = 0; i < batchVectors.length; i++) {
+				embedded.put(hashes.get(from + i), batchVectors[i]);
+			}
+			from += batch.size();
+		}
+		return embedded;
+	}
+
+	/**
+	 * 요청당 최대 입력 개수와 추정 토큰 수를 넘지 않도록 텍스트 목록을 분할한다.
+	 * 토큰 수는 {@link #estimateTokens(String)}로 추정한다.
+	 *
+	 * @param texts 분할할 텍스트 목록
+	 * @return 하위 배치 목록
+	 * @since 2025-05-21
+	 * @modified 2025-05-22 기사 대신 캐시 미스 텍스트 목록을 분할
+	 */
+	private List<List<String>> splitIntoBatches(List<String> texts) {
+		List<List<String>> batches = new ArrayList<>();
+		int from = 0;
+		int tokens = 0;
+		for (int i = 0; i < texts.size(); i++) {
+			int estimatedTokens = estimateTokens(texts.get(i));
+			boolean full = i - from >= maxBatchSize || tokens + estimatedTokens > maxBatchTokens;
+			if (full && i > from) {
+				batches.add(texts.subList(from, i));
+				from = i;
+				tokens = 0;
+			}
+			tokens += estimatedTokens;
+		}
+		if (from < texts.size()) {
+			batches.add(texts.subList(from, texts.size()));
+		}
+		return batches;
+	}
+
+	/**
+	 * 텍스트의 토큰 수를 실제보다 크게 추정한다.
+	 * 영문은 보통 4자에 1토큰이지만 한글 음절은 1자가 1~2토큰으로 나뉘므로,
+	 * ASCII 문자는 1토큰, 그 밖의 문자는 {@value #NON_ASCII_TOKENS_PER_CHAR}토큰으로 계산한다.
+	 *
+	 * @param text 추정할 텍스트
+	 * @return 추정 토큰 수
+	 * @since 2025-05-22
+	 */
+	private int estimateTokens(String text) {
+		if (null == text) {
+			return 0;
+		}
+		return text.codePoints()
+			.map(codePoint -> codePoint < 0x80 ? 1 : NON_ASCII_TOKENS_PER_CHAR)
+			.sum();
+	}
+
+	/**
+	 * OpenAI 임베딩 모델 인스턴스를 생성한다.
+	 *
+	 * @return 생성된 OpenAiEmbeddingModel 객체
+	 * @throws EmbeddingException 모델 생성 중 오류 발생 시
+	 * @author 정안식
+	 * @since 2025-05-11
+	 * @modified 2025-05-22 임베딩 프로필의 차원 수로 요청
+	 */
+	private OpenAiEmbeddingModel createModel() {
+		try {
+			return new OpenAiEmbeddingModel(
+				openAiApi,
+				MetadataMode.EMBED,
+				OpenAiEmbeddingOptions.builder()
+					.model(embeddingProfile.getModel())
+					.dimensions(embeddingProfile.getDimensions())
+					.build(),
+				RetryUtils.DEFAULT_RETRY_TEMPLATE
+			);
+		} catch (Exception e) {
+			throw new EmbeddingException(EmbeddingErrorCode.MODEL_CREATION_ERROR, e);
+		}
+	}
+
+	/**
+	 * 여러 텍스트를 한 번의 요청으로 임베딩하고, 응답의 index를 기준으로 입력 순서에 맞춰 반환한다.
+	 *
+	 * @param texts 입력 텍스트 목록
+	 * @return 입력 순서와 같은 순서의 임베딩 벡터 배열
+	 * @throws EmbeddingException API 호출 중 오류 발생 또는 응답 개수나 차원 수가 맞지 않을 시
+	 * @author 정안식
+	 * @since 2025-05-11
+	 * @modified 2025-05-21 여러 입력을 한 번에 요청하도록 변경
+	 * @modified 2025-05-22 응답 벡터의 차원 수 검증
+	 */
+	private float[][] executeEmbedding(List<String> texts) {
+		EmbeddingResponse response;
+		try {
+			response = embeddingModel.embedForResponse(texts);
+		} catch (Exception e) {
+			throw new EmbeddingException(EmbeddingErrorCode.API_CALL_ERROR, e);
+		}
+
+		List<Embedding> results = response.getResults();
+		if (results.size() != texts.size()) {
+			throw new EmbeddingException(EmbeddingErrorCode.API_CALL_ERROR);
+		}
+
+		float[][] vectors = new float[texts.size()][];
+		for (int i = 0; i < results.size(); i++) {
+			Embedding embedding = results.get(i);
+			int index = null == embedding.getIndex() ? i : embedding.getIndex();
+			if (index < 0 || index >= vectors.length || null != vectors[index]) {
+				throw new EmbeddingException(EmbeddingErrorCode.API_CALL_ERROR);
+			}
+			if (!embeddingProfile.matches(embedding.getOutput())) {
+				throw new EmbeddingException(EmbeddingErrorCode.DIMENSION_MISMATCH);
+			}
+			vectors[index] = embedding.getOutput();
+		}
+		return vectors;
+	}
+}
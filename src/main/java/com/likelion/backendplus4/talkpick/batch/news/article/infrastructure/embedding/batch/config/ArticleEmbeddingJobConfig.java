@@ -1,12 +1,17 @@
 package com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.embedding.batch.config;
 
+import org.quartz.JobDetail;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.Step;
 import org.springframework.batch.core.job.builder.JobBuilder;
 import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.support.chain.NextStageTriggerListener;
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.support.chain.PipelineStageTrigger;
+
 /**
  * Spring Batch Job 설정 클래스. <p>
  * 요약된 뉴스를 OpenAi를 활용해
@@ -19,34 +24,60 @@ import org.springframework.context.annotation.Configuration;
  * 해당 Job 은 Quartz 또는 Spring Scheduler 를 통해 주기적으로 실행될 수 있다. <p>
  *
  * @since 2025-05-17
+ * @modified 2025-05-21 임베딩 전 벡터 바이너리 이관 Step 실행
+ * @modified 2025-05-22 임베딩한 기사가 있으면 완료 후 색인 Job 실행 요청
+ * @modified 2025-05-22 임베딩 전 HNSW 벡터 인덱스 적재 Step 실행
+ * @modified 2025-05-22 임베딩 전 차원 수가 다른 벡터 재임베딩 Step 실행
  */
 @Configuration
 public class ArticleEmbeddingJobConfig {
 	private final String jobName = "articleEmbeddingJob";
 	private final JobRepository jobRepository;
+	private final Step summaryVectorMigrationStep;
+	private final Step summaryVectorReembedStep;
+	private final Step vectorIndexCatchUpStep;
 	private final Step articleEmbeddingStep;
+	private final PipelineStageTrigger pipelineStageTrigger;
+	private final JobDetail newsIndexJobDetail;
 
 	public ArticleEmbeddingJobConfig(
 		JobRepository jobRepository,
-		Step articleEmbeddingStep) {
+		Step summaryVectorMigrationStep,
+		Step summaryVectorReembedStep,
+		Step vectorIndexCatchUpStep,
+		Step articleEmbeddingStep,
+		PipelineStageTrigger pipelineStageTrigger,
+		@Qualifier("newsIndexJobDetail") JobDetail newsIndexJobDetail) {
 
 		this.jobRepository = jobRepository;
+		this.summaryVectorMigrationStep = summaryVectorMigrationStep;
+		this.summaryVectorReembedStep = summaryVectorReembedStep;
+		this.vectorIndexCatchUpStep = vectorIndexCatchUpStep;
 		this.articleEmbeddingStep = articleEmbeddingStep;
+		this.pipelineStageTrigger = pipelineStageTrigger;
+		this.newsIndexJobDetail = newsIndexJobDetail;
 	}
 
 	/**
 	 * 뉴스 요약 정보를 임베딩 Vector로 계산하는
 	 * Spring Batch Job Bean을 생성한다.
-	 * 파티셔닝 Step 을 실행하도록 구성한다.
+	 * 벡터 바이너리 이관, 재임베딩 대상 전환, HNSW 벡터 인덱스 적재 Step 이후 파티셔닝 Step 을 실행하도록 구성한다.
 	 *
 	 * @return 뉴스 임베딩 Job
 	 * @author 함예정
 	 * @since 2025-05-17
+	 * @modified 2025-05-22 색인 단계 연쇄 리스너 등록
+	 * @modified 2025-05-22 HNSW 벡터 인덱스 적재 Step 추가
+	 * @modified 2025-05-22 재임베딩 대상 전환 Step 추가
 	 */
 	@Bean
 	public Job articleEmbeddingJob() {
 		return new JobBuilder(jobName, jobRepository)
-			.start(articleEmbeddingStep)
+			.start(summaryVectorMigrationStep)
+			.next(summaryVectorReembedStep)
+			.next(vectorIndexCatchUpStep)
+			.next(articleEmbeddingStep)
+			.listener(NextStageTriggerListener.onWrites(pipelineStageTrigger, newsIndexJobDetail.getKey()))
 			.build();
 	}
 }
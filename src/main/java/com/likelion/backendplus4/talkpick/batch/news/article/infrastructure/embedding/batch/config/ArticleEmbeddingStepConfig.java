@@ -4,6 +4,7 @@ import org.springframework.batch.core.Step;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.task.TaskExecutor;
@@ -11,23 +12,37 @@ import org.springframework.transaction.PlatformTransactionManager;
 
 import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.embedding.batch.exception.EmbeddingException;
 import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.embedding.batch.partitioner.ArticleEmbeddingPartitioner;
-import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.embedding.batch.processor.ArticleEmbeddingProcessor;
 import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.embedding.batch.reader.ArticleEmbeddingPageReader;
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.embedding.batch.tasklet.SummaryVectorMigrationTasklet;
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.embedding.batch.tasklet.SummaryVectorReembedTasklet;
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.embedding.batch.tasklet.VectorIndexCatchUpTasklet;
 import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.embedding.batch.writer.ArticleEmbeddingWriter;
 import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.jpa.converter.exception.JpaConvertorException;
-import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.jpa.entity.ArticleEntity;
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.jpa.entity.ArticlePipelineState;
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.jpa.projection.ArticleSummaryProjection;
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.support.listener.PipelineStateSkipListener;
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.support.retry.PipelineFailureRecorder;
 
 /**
  * 뉴스 기사 임베딩 작업을 위한 Spring Batch Step 설정 클래스.
  * - 총 페이지 수 계산을 위한 tasklet step
+ * - 기존 JSON 벡터를 바이너리 컬럼으로 이관하는 tasklet step
+ * - 차원 수가 임베딩 프로필과 다른 벡터를 재임베딩 대상으로 되돌리는 tasklet step
+ * - 프로세스 내 HNSW 벡터 인덱스와 벡터 파일을 DB와 맞추는 tasklet step
  * - 마스터-슬레이브 파티셔닝 기반 임베딩 처리 step 구성
  *
  * @since 2025-05-17
+ * @modified 2025-05-21 임베딩을 Writer에서 청크 단위로 수행하도록 변경
+ * @modified 2025-05-21 벡터 바이너리 이관 step 추가
+ * @modified 2025-05-22 건너뛴 기사를 EMBEDDING_FAILED 상태로 표시
+ * @modified 2025-05-22 최대 파티션 수를 설정값으로 변경
+ * @modified 2025-05-22 작업 전용 파티션 Executor 사용
+ * @modified 2025-05-22 HNSW 벡터 인덱스 적재 step 추가
+ * @modified 2025-05-22 차원 수가 다른 벡터 재임베딩 step 추가
  */
 @Configuration
 public class ArticleEmbeddingStepConfig {
-	private final String executorName = "normalExecutor";
-	private final int gridSize = 5;
+	private final String executorName = "embeddingPartitionExecutor";
 	private final int chunkSize = 100;
 	private final int retryLimit = 3;
 	private final int skipLimit = 100;
@@ -35,14 +50,64 @@ public class ArticleEmbeddingStepConfig {
 	private final JobRepository jobRepository;
 	private final PlatformTransactionManager transactionManager;
 	private final TaskExecutor taskExecutor;
+	private final int gridSize;
 
 	public ArticleEmbeddingStepConfig(
 		JobRepository jobRepository,
 		PlatformTransactionManager platformTransactionManager,
-		@Qualifier(executorName) TaskExecutor taskExecutor) {
+		@Qualifier(executorName) TaskExecutor taskExecutor,
+		@Value("${article.partition.max-grid-size:10}") int gridSize) {
 		this.jobRepository = jobRepository;
 		this.transactionManager = platformTransactionManager;
 		this.taskExecutor = taskExecutor;
+		this.gridSize = gridSize;
+	}
+
+	/**
+	 * JSON 컬럼에 저장된 기존 임베딩 벡터를 바이너리 컬럼으로 이관하는 Step을 생성한다.
+	 * 이관되지 않은 기사가 재임베딩되지 않도록 임베딩 Step보다 먼저 실행된다.
+	 *
+	 * @param tasklet 벡터 이관 Tasklet
+	 * @return 벡터 이관 Step
+	 * @since 2025-05-21
+	 */
+	@Bean
+	public Step summaryVectorMigrationStep(SummaryVectorMigrationTasklet tasklet) {
+		return new StepBuilder("summaryVectorMigrationStep", jobRepository)
+			.tasklet(tasklet, transactionManager)
+			.allowStartIfComplete(true)
+			.build();
+	}
+
+	/**
+	 * 저장된 벡터의 차원 수가 임베딩 프로필과 다른 기사를 재임베딩 대상으로 되돌리는 Step을 생성한다.
+	 * 되돌린 기사가 같은 실행에서 임베딩되도록 임베딩 Step보다 먼저 실행된다.
+	 *
+	 * @param tasklet 재임베딩 대상 전환 Tasklet
+	 * @return 재임베딩 대상 전환 Step
+	 * @since 2025-05-22
+	 */
+	@Bean
+	public Step summaryVectorReembedStep(SummaryVectorReembedTasklet tasklet) {
+		return new StepBuilder("summaryVectorReembedStep", jobRepository)
+			.tasklet(tasklet, transactionManager)
+			.allowStartIfComplete(true)
+			.build();
+	}
+
+	/**
+	 * 이 노드의 HNSW 벡터 인덱스와 벡터 파일에 없는 기사 벡터를 DB에서 적재하는 Step을 생성한다.
+	 *
+	 * @param tasklet 벡터 인덱스 적재 Tasklet
+	 * @return 벡터 인덱스 적재 Step
+	 * @since 2025-05-22
+	 */
+	@Bean
+	public Step vectorIndexCatchUpStep(VectorIndexCatchUpTasklet tasklet) {
+		return new StepBuilder("vectorIndexCatchUpStep", jobRepository)
+			.tasklet(tasklet, transactionManager)
+			.allowStartIfComplete(true)
+			.build();
 	}
 
 	/**
@@ -71,24 +136,25 @@ public class ArticleEmbeddingStepConfig {
 	 * 한 파티션 내에서 요약된 뉴스 내용을 기준으로 임베딩 벡터를 생성하고
 	 * DB에 저장하는 슬레이브 Step을 생성한다.
 	 * 지정된 예외에 대해 재시도 및 스킵 처리를 통해 장애 허용 처리를 수행한다.
+	 * 임베딩 요청을 청크 단위로 묶기 위해 별도의 Processor 없이 Writer에서 임베딩 후 저장한다.
 	 *
 	 * @param reader 임베딩 대상 뉴스 기사 데이터를 페이지 단위로 읽어오는 Reader
-	 * @param processor 뉴스 요약을 임베딩 벡터로 변환하는 Processor
-	 * @param writer 임베딩된 결과를 DB에 저장하는 Writer
+	 * @param writer 청크 단위로 임베딩 후 DB에 저장하는 Writer
+	 * @param articleEmbeddingSkipListener 건너뛴 기사를 실패 상태로 표시하는 리스너
 	 * @return 슬레이브 Step
 	 * @author 함예정
 	 * @since 2025-05-17
+	 * @modified 2025-05-21 Processor 제거, Writer에서 배치 임베딩
 	 */
 	@Bean
 	public Step articleEmbeddingSlaveStep(
 		ArticleEmbeddingPageReader reader,
-		ArticleEmbeddingProcessor processor,
-		ArticleEmbeddingWriter writer) {
+		ArticleEmbeddingWriter writer,
+		PipelineStateSkipListener<ArticleSummaryProjection> articleEmbeddingSkipListener) {
 
 		return new StepBuilder("articleEmbeddingSlaveStep", jobRepository)
-			.<ArticleEntity, ArticleEntity>chunk(chunkSize, transactionManager)
+			.<ArticleSummaryProjection, ArticleSummaryProjection>chunk(chunkSize, transactionManager)
 			.reader(reader)
-			.processor(processor)
 			.writer(writer)
 			.faultTolerant()
 			.retry(EmbeddingException.class)
@@ -96,6 +162,21 @@ public class ArticleEmbeddingStepConfig {
 			.skip(EmbeddingException.class)
 			.skip(JpaConvertorException.class)
 			.skipLimit(skipLimit)
+			.listener(articleEmbeddingSkipListener)
 			.build();
 	}
+
+	/**
+	 * 임베딩 중 건너뛴 기사를 EMBEDDING_FAILED 상태로 표시하는 리스너를 생성한다.
+	 *
+	 * @param pipelineFailureRecorder 실패 횟수를 기록하는 컴포넌트
+	 * @return 임베딩 Step용 SkipListener
+	 * @since 2025-05-22
+	 */
+	@Bean
+	public PipelineStateSkipListener<ArticleSummaryProjection> articleEmbeddingSkipListener(
+		PipelineFailureRecorder pipelineFailureRecorder) {
+		return new PipelineStateSkipListener<>(pipelineFailureRecorder, ArticleSummaryProjection::id,
+			ArticlePipelineState.SUMMARIZED, ArticlePipelineState.EMBEDDING_FAILED);
+	}
 }
@@ -34,6 +34,7 @@ import lombok.RequiredArgsConstructor;
 public enum EmbeddingErrorCode implements ErrorCode {
 	MODEL_CREATION_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, 440001, "임베딩 모델 생성 실패"),
 	API_CALL_ERROR(HttpStatus.SERVICE_UNAVAILABLE, 440002, "임베딩 API 호출 실패"),
+	DIMENSION_MISMATCH(HttpStatus.INTERNAL_SERVER_ERROR, 440003, "임베딩 차원 수가 설정과 다릅니다"),
 	ITEM_NOT_FOUND(HttpStatus.SERVICE_UNAVAILABLE, 450001, "임베딩할 아이템이 없습니다");
 
 	private final HttpStatus status;
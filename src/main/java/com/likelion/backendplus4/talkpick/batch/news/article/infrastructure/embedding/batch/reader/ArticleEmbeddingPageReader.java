@@ -1,14 +1,13 @@
 package com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.embedding.batch.reader;
 
-import java.util.HashMap;
-import java.util.Map;
-
 import org.springframework.batch.core.configuration.annotation.StepScope;
-import org.springframework.batch.item.database.JpaPagingItemReader;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.jpa.entity.ArticleEntity;
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.jpa.entity.ArticlePipelineState;
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.jpa.projection.ArticleSummaryProjection;
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.support.claim.ArticleWorkClaimer;
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.support.reader.ClaimingKeysetItemReader;
 
 import jakarta.persistence.EntityManagerFactory;
 import lombok.extern.slf4j.Slf4j;
@@ -16,27 +15,31 @@ import lombok.extern.slf4j.Slf4j;
 @Component
 @StepScope
 @Slf4j
-public class ArticleEmbeddingPageReader extends JpaPagingItemReader<ArticleEntity> {
+public class ArticleEmbeddingPageReader extends ClaimingKeysetItemReader<ArticleSummaryProjection> {
 	private static final String JPQL = """
-		SELECT a
+		SELECT new %s(a.id, a.summary)
 			FROM ArticleEntity a
-		WHERE a.summaryVector IS NULL
-			AND a.summary     IS NOT NULL
-			AND a.id BETWEEN :minId AND :maxId
-		""";
+		WHERE a.id IN :ids
+		ORDER BY a.id ASC
+		""".formatted(ArticleSummaryProjection.class.getName());
 	public ArticleEmbeddingPageReader(
 		EntityManagerFactory entityManagerFactory,
+		ArticleWorkClaimer articleWorkClaimer,
 		@Value("#{stepExecutionContext[minId]}") Long minId,
 		@Value("#{stepExecutionContext[maxId]}") Long maxId) {
 
 		this.setName("articleEmbeddingReader-" + minId + "-" + maxId);
 		this.setEntityManagerFactory(entityManagerFactory);
-		this.setQueryString(JPQL);
-		Map<String, Object> params = new HashMap<>();
-		params.put("minId", minId);
-		params.put("maxId", maxId);
-		this.setParameterValues(params);
-		this.setSaveState(false);
+		this.setQueryString(JPQL, ArticleSummaryProjection.class);
+		this.setArticleWorkClaimer(articleWorkClaimer);
+		this.setClaimState(ArticlePipelineState.SUMMARIZED);
+		this.setMaxId(maxId);
+		this.setStartAfterId(minId - 1);
 		log.info("Initialized reader for ID range {} ~ {}", minId, maxId);
 	}
+
+	@Override
+	protected Long extractId(ArticleSummaryProjection item) {
+		return item.id();
+	}
 }
@@ -0,0 +1,126 @@
+package com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.embedding.batch.tasklet;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.jpa.converter.FloatArrayToJsonConverter;
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.jpa.converter.VectorBinaryCodec;
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.jpa.converter.VectorStorageFormat;
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.vector.EmbeddingProfile;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 기존 JSON 컬럼(summary_vector)에 저장된 임베딩 벡터를 바이너리 컬럼(summary_vector_bin)으로 이관하는 Tasklet.
+ * 임베딩 Job 시작 시 실행되어, 이관되지 않은 벡터가 재임베딩 대상으로 선택되는 것을 막는다.
+ *
+ * - id 기준 keyset 방식으로 페이지 단위 이관 (페이지마다 트랜잭션 커밋)
+ * - 이관할 행이 없음을 한 번 확인하면 이후 실행에서는 조회 없이 종료
+ * - article.vector.migration.legacy-json이 false이거나 summary_vector 컬럼이 이미 삭제되었으면 조회 없이 종료
+ *
+ * @since 2025-05-21
+ * @modified 2025-05-22 저장 형식을 임베딩 프로필에서 조회
+ * @modified 2025-05-22 설정으로 비활성화하거나 JSON 컬럼이 없으면 건너뛰도록 변경
+ */
+@Slf4j
+@Component
+public class SummaryVectorMigrationTasklet implements Tasklet {
+	private static final String LAST_ID_KEY = "summaryVectorMigration.lastId";
+	private static final String SELECT_LEGACY_VECTORS_SQL = """
+		SELECT id, summary_vector FROM article
+		WHERE summary_vector_bin IS NULL AND summary_vector IS NOT NULL AND id > ?
+		ORDER BY id LIMIT ?
+		""";
+	private static final String UPDATE_BINARY_VECTOR_SQL = "UPDATE article SET summary_vector_bin = ? WHERE id = ?";
+	private static final String COUNT_LEGACY_COLUMN_SQL = """
+		SELECT COUNT(*) FROM information_schema.COLUMNS
+		WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'article' AND COLUMN_NAME = 'summary_vector'
+		""";
+
+	private final JdbcTemplate jdbcTemplate;
+	private final VectorStorageFormat storageFormat;
+	private final boolean enabled;
+	private final int pageSize;
+	private final FloatArrayToJsonConverter jsonConverter = new FloatArrayToJsonConverter();
+	private final AtomicBoolean completed = new AtomicBoolean(false);
+
+	public SummaryVectorMigrationTasklet(JdbcTemplate jdbcTemplate,
+		EmbeddingProfile embeddingProfile,
+		@Value("${article.vector.migration.legacy-json:true}") boolean enabled,
+		@Value("${article.vector.migration.page-size:500}") int pageSize) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.storageFormat = embeddingProfile.getStorageFormat();
+		this.enabled = enabled;
+		this.pageSize = pageSize;
+	}
+
+	/**
+	 * JSON 벡터 한 페이지를 바이너리로 변환하여 저장한다.
+	 * 처리한 행이 있으면 CONTINUABLE을 반환하여 다음 페이지를 새 트랜잭션에서 처리한다.
+	 *
+	 * @param contribution Step 기여 정보
+	 * @param chunkContext 청크 컨텍스트
+	 * @return 반복 여부
+	 * @since 2025-05-21
+	 */
+	@Override
+	public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) {
+		if (completed.get()) {
+			return RepeatStatus.FINISHED;
+		}
+		if (!enabled || !hasLegacyColumn()) {
+			completed.set(true);
+			return RepeatStatus.FINISHED;
+		}
+
+		ExecutionContext context = chunkContext.getStepContext().getStepExecution().getExecutionContext();
+		long lastId = context.getLong(LAST_ID_KEY, 0L);
+
+		List<LegacyVector> page = jdbcTemplate.query(SELECT_LEGACY_VECTORS_SQL,
+			(rs, rowNum) -> new LegacyVector(rs.getLong("id"), rs.getString("summary_vector")),
+			lastId, pageSize);
+		if (page.isEmpty()) {
+			completed.set(true);
+			log.info("summary_vector 바이너리 이관 완료");
+			return RepeatStatus.FINISHED;
+		}
+
+		jdbcTemplate.batchUpdate(UPDATE_BINARY_VECTOR_SQL, page, page.size(), (ps, row) -> {
+			ps.setBytes(1, toBinary(row.json()));
+			ps.setLong(2, row.id());
+		});
+
+		contribution.incrementWriteCount(page.size());
+		context.putLong(LAST_ID_KEY, page.getLast().id());
+		return RepeatStatus.CONTINUABLE;
+	}
+
+	private boolean hasLegacyColumn() {
+		Integer count = jdbcTemplate.queryForObject(COUNT_LEGACY_COLUMN_SQL, Integer.class);
+		if (null == count || count == 0) {
+			log.info("summary_vector 컬럼이 없어 바이너리 이관을 건너뜁니다");
+			return false;
+		}
+		return true;
+	}
+
+	private byte[] toBinary(String json) {
+		float[] vector = jsonConverter.convertToEntityAttribute(json);
+		if (vector.length == 0) {
+			return null;
+		}
+		return VectorBinaryCodec.encode(vector, storageFormat);
+	}
+
+	private record LegacyVector(long id, String json) {
+	}
+}
@@ -0,0 +1,83 @@
+package com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.embedding.batch.tasklet;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.jdbc.repository.ArticleVectorJdbcRepository;
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.vector.EmbeddingProfile;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 저장된 요약 벡터의 차원 수가 임베딩 프로필과 다른 기사를 재임베딩 대상으로 되돌리는 Tasklet.
+ * 임베딩 Job에서 임베딩 Step보다 먼저 실행되어, article.vector.dimensions를 바꾼 뒤 기존 기사가 같은 실행에서 다시 임베딩되도록 한다.
+ *
+ * - 임베딩/색인된 기사를 id 기준 keyset 방식으로 페이지 단위 처리 (페이지마다 트랜잭션 커밋)
+ * - 되돌린 기사는 기존 벡터를 유지한 채 SUMMARIZED 상태가 되며, 다시 임베딩되면 updated_at이 갱신되어 재색인된다
+ * - 새 벡터는 항상 현재 프로필로 저장되므로, 한 번 전체를 확인하면 이후 실행에서는 조회 없이 종료
+ *
+ * @since 2025-05-22
+ */
+@Slf4j
+@Component
+public class SummaryVectorReembedTasklet implements Tasklet {
+	private static final String LAST_ID_KEY = "summaryVectorReembed.lastId";
+
+	private final ArticleVectorJdbcRepository articleVectorJdbcRepository;
+	private final EmbeddingProfile embeddingProfile;
+	private final boolean enabled;
+	private final int pageSize;
+	private final AtomicBoolean completed = new AtomicBoolean(false);
+
+	public SummaryVectorReembedTasklet(ArticleVectorJdbcRepository articleVectorJdbcRepository,
+		EmbeddingProfile embeddingProfile,
+		@Value("${article.vector.migration.reembed-mismatched:true}") boolean enabled,
+		@Value("${article.vector.migration.page-size:500}") int pageSize) {
+		this.articleVectorJdbcRepository = articleVectorJdbcRepository;
+		this.embeddingProfile = embeddingProfile;
+		this.enabled = enabled;
+		this.pageSize = pageSize;
+	}
+
+	/**
+	 * 차원 수가 다른 기사 한 페이지를 SUMMARIZED 상태로 되돌린다.
+	 * 처리한 행이 있으면 CONTINUABLE을 반환하여 다음 페이지를 새 트랜잭션에서 처리한다.
+	 *
+	 * @param contribution Step 기여 정보
+	 * @param chunkContext 청크 컨텍스트
+	 * @return 반복 여부
+	 * @since 2025-05-22
+	 */
+	@Override
+	public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) {
+		if (!enabled || completed.get()) {
+			return RepeatStatus.FINISHED;
+		}
+
+		ExecutionContext context = chunkContext.getStepContext().getStepExecution().getExecutionContext();
+		long lastId = context.getLong(LAST_ID_KEY, 0L);
+
+		List<Long> ids = articleVectorJdbcRepository.findIdsWithMismatchedVectors(embeddingProfile, lastId, pageSize);
+		if (ids.isEmpty()) {
+			completed.set(true);
+			log.info("요약 벡터 차원 확인 완료 - 기준 {}차원", embeddingProfile.getDimensions());
+			return RepeatStatus.FINISHED;
+		}
+
+		articleVectorJdbcRepository.resetForReembedding(ids);
+		log.info("차원 수가 다른 요약 벡터 {}건을 재임베딩 대상으로 변경 (기사 ID {} ~ {})",
+			ids.size(), ids.getFirst(), ids.getLast());
+
+		contribution.incrementWriteCount(ids.size());
+		context.putLong(LAST_ID_KEY, ids.getLast());
+		return RepeatStatus.CONTINUABLE;
+	}
+}
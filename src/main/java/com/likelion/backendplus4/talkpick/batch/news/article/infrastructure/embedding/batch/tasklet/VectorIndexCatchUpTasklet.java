@@ -0,0 +1,130 @@
+package com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.embedding.batch.tasklet;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.jdbc.repository.ArticleVectorJdbcRepository;
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.jdbc.repository.ArticleVectorJdbcRepository.ArticleVector;
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.jdbc.repository.DatabaseClockJdbcRepository;
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.vector.EmbeddingProfile;
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.vector.VectorCatchUpCursor;
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.vector.file.MappedVectorFile;
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.vector.hnsw.HnswVectorIndex;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 이 노드의 HNSW 벡터 인덱스와 벡터 파일에 없는 기사 벡터를 DB에서 읽어 추가하는 Tasklet.
+ * 임베딩 Job 시작 시 실행되어, 다른 노드가 임베딩했거나 인덱스 파일이 없어진 경우에도 인덱스를 DB와 맞춘다.
+ *
+ * - 저장소마다 기록한 (updated_at, id) 커서 중 가장 뒤처진 커서 이후를 keyset 방식으로 페이지 단위 적재
+ * - 벡터가 바뀌면 updated_at이 갱신되므로, 다른 노드나 병렬 파티션이 낮은 ID에 기록한 벡터,
+ *   중복 기사에 복사된 벡터, 재임베딩된 벡터도 모두 적재된다
+ * - 늦게 커밋된 변경을 건너뛰지 않도록 DB 시계 기준 현재 시각에서 cursor-lag만큼 이전까지만 적재
+ * - 두 저장소 모두 이미 있는 기사는 벡터만 교체하므로, 앞선 쪽에 다시 적재해도 결과는 같다
+ * - 두 저장소가 모두 비활성화되어 있으면 조회 없이 종료
+ * - 재임베딩을 기다리는, 차원 수가 임베딩 프로필과 다른 벡터는 건너뛴다
+ * - DB를 변경하지 않으므로 쓰기 건수를 남기지 않아 색인 Job 연쇄 실행 조건에 영향을 주지 않는다
+ *
+ * @since 2025-05-22
+ * @modified 2025-05-22 벡터 파일 적재 추가
+ * @modified 2025-05-22 차원 수가 다른 벡터 제외
+ * @modified 2025-05-22 최대 기사 ID 대신 저장소별 (updated_at, id) 커서 이후를 적재
+ */
+@Slf4j
+@Component
+public class VectorIndexCatchUpTasklet implements Tasklet {
+	private static final String UPPER_BOUND_KEY = "vectorIndexCatchUp.upperBound";
+
+	private final ArticleVectorJdbcRepository articleVectorJdbcRepository;
+	private final DatabaseClockJdbcRepository databaseClockJdbcRepository;
+	private final HnswVectorIndex hnswVectorIndex;
+	private final MappedVectorFile mappedVectorFile;
+	private final EmbeddingProfile embeddingProfile;
+	private final int pageSize;
+	private final Duration cursorLag;
+
+	public VectorIndexCatchUpTasklet(ArticleVectorJdbcRepository articleVectorJdbcRepository,
+		DatabaseClockJdbcRepository databaseClockJdbcRepository,
+		HnswVectorIndex hnswVectorIndex,
+		MappedVectorFile mappedVectorFile,
+		EmbeddingProfile embeddingProfile,
+		@Value("${article.vector.migration.page-size:500}") int pageSize,
+		@Value("${article.vector.catch-up.cursor-lag:PT5S}") Duration cursorLag) {
+		this.articleVectorJdbcRepository = articleVectorJdbcRepository;
+		this.databaseClockJdbcRepository = databaseClockJdbcRepository;
+		this.hnswVectorIndex = hnswVectorIndex;
+		this.mappedVectorFile = mappedVectorFile;
+		this.embeddingProfile = embeddingProfile;
+		this.pageSize = pageSize;
+		this.cursorLag = cursorLag;
+	}
+
+	/**
+	 * 인덱스/벡터 파일에 없는 기사 벡터 한 페이지를 추가하고 저장소별 커서를 전진시킨다.
+	 * 처리한 행이 있으면 CONTINUABLE을 반환하여 다음 페이지를 이어서 처리한다.
+	 *
+	 * @param contribution Step 기여 정보
+	 * @param chunkContext 청크 컨텍스트
+	 * @return 반복 여부
+	 * @since 2025-05-22
+	 */
+	@Override
+	public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) {
+		if (!hnswVectorIndex.isRunning() && !mappedVectorFile.isRunning()) {
+			return RepeatStatus.FINISHED;
+		}
+
+		ExecutionContext context = chunkContext.getStepContext().getStepExecution().getExecutionContext();
+		if (!context.containsKey(UPPER_BOUND_KEY)) {
+			context.put(UPPER_BOUND_KEY, databaseClockJdbcRepository.currentTimeMinus(cursorLag));
+		}
+		LocalDateTime upperBound = (LocalDateTime)context.get(UPPER_BOUND_KEY);
+
+		List<ArticleVector> page = articleVectorJdbcRepository.findVectorsChangedAfter(startCursor(), upperBound,
+			pageSize);
+		if (page.isEmpty()) {
+			return RepeatStatus.FINISHED;
+		}
+
+		List<ArticleVector> matching = page.stream()
+			.filter(article -> embeddingProfile.matches(article.vector()))
+			.toList();
+		List<Long> ids = matching.stream().map(ArticleVector::id).toList();
+		List<float[]> vectors = matching.stream().map(ArticleVector::vector).toList();
+		hnswVectorIndex.addAll(ids, vectors);
+		mappedVectorFile.appendAll(ids, vectors);
+		log.info("벡터 인덱스 적재: {}건 (변경 시각 {} ~ {})", matching.size(), page.getFirst().updatedAt(),
+			page.getLast().updatedAt());
+
+		ArticleVector last = page.getLast();
+		VectorCatchUpCursor cursor = new VectorCatchUpCursor(last.updatedAt(), last.id());
+		hnswVectorIndex.advanceCatchUpCursor(cursor);
+		mappedVectorFile.advanceCatchUpCursor(cursor);
+		return RepeatStatus.CONTINUABLE;
+	}
+
+	/**
+	 * 활성화된 저장소의 커서 중 가장 뒤처진 커서를 반환한다.
+	 */
+	private VectorCatchUpCursor startCursor() {
+		if (!hnswVectorIndex.isRunning()) {
+			return mappedVectorFile.catchUpCursor();
+		}
+		if (!mappedVectorFile.isRunning()) {
+			return hnswVectorIndex.catchUpCursor();
+		}
+		VectorCatchUpCursor hnswCursor = hnswVectorIndex.catchUpCursor();
+		VectorCatchUpCursor fileCursor = mappedVectorFile.catchUpCursor();
+		return hnswCursor.isAfter(fileCursor) ? fileCursor : hnswCursor;
+	}
+}
@@ -1,21 +1,104 @@
 package com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.embedding.batch.writer;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 import org.springframework.batch.item.Chunk;
 import org.springframework.batch.item.ItemWriter;
 import org.springframework.stereotype.Component;
 
-import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.jpa.entity.ArticleEntity;
-import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.jpa.repository.NewsInfoJpaRepository;
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.embedding.batch.client.ArticleEmbeddingClient;
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.jdbc.repository.ArticleDuplicateJdbcRepository;
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.jdbc.repository.ArticleDuplicateJdbcRepository.DuplicateArticle;
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.jdbc.repository.ArticleJdbcRepository;
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.jpa.projection.ArticleSummaryProjection;
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.support.claim.ArticleWorkClaimer;
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.vector.file.MappedVectorFile;
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.vector.hnsw.HnswVectorIndex;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
+/**
+ * 청크 단위로 기사 요약을 한 번에 임베딩한 뒤 저장하는 ItemWriter 구현체.
+ * 임베딩 요청을 청크 단위로 묶기 위해 Processor 단계 대신 Writer에서 임베딩을 수행한다.
+ * 실패 시 Spring Batch의 skip 스캔으로 기사 단위 재처리가 이루어진다.
+ * 저장한 기사를 대표 기사로 둔 유사 중복 기사에는 같은 트랜잭션에서 요약/벡터를 복사한다.
+ * 저장한 벡터와 중복 기사에 복사한 벡터는 트랜잭션 커밋 후 HNSW 벡터 인덱스와 벡터 파일에 추가한다.
+ * lease가 지나 다른 노드가 가져간 기사는 저장하지 않으며, 중복 복사와 저장소 추가에서도 제외한다.
+ *
+ * @since 2025-05-17
+ * @modified 2025-05-21 청크 단위 배치 임베딩 후 저장하도록 변경
+ * @modified 2025-05-22 엔티티 merge 대신 summary_vector_bin 컬럼만 JDBC 배치 UPDATE
+ * @modified 2025-05-22 임베딩한 기사의 유사 중복 기사에 요약/벡터 복사
+ * @modified 2025-05-22 커밋 후 HNSW 벡터 인덱스에 추가
+ * @modified 2025-05-22 커밋 후 벡터 파일에 추가
+ * @modified 2025-05-22 복사한 중복 기사 벡터도 벡터 인덱스와 벡터 파일에 추가
+ * @modified 2025-05-22 이 노드가 점유한 기사만 저장
+ * @modified 2025-05-22 ArticleEmbeddingProcessor를 ArticleEmbeddingClient로 이름 변경
+ */
+@Slf4j
 @Component
 @RequiredArgsConstructor
-public class ArticleEmbeddingWriter implements ItemWriter<ArticleEntity> {
-	private final NewsInfoJpaRepository newsInfoJpaRepository;
+public class ArticleEmbeddingWriter implements ItemWriter<ArticleSummaryProjection> {
+	private final ArticleJdbcRepository articleJdbcRepository;
+	private final ArticleEmbeddingClient articleEmbeddingClient;
+	private final ArticleDuplicateJdbcRepository articleDuplicateJdbcRepository;
+	private final HnswVectorIndex hnswVectorIndex;
+	private final MappedVectorFile mappedVectorFile;
+	private final ArticleWorkClaimer articleWorkClaimer;
 
 	@Override
-	public void write(Chunk<? extends ArticleEntity> chunk) {
-		newsInfoJpaRepository.saveAll(chunk);
+	public void write(Chunk<? extends ArticleSummaryProjection> chunk) {
+		List<float[]> vectors = articleEmbeddingClient.embedAll(chunk.getItems());
+		List<Long> chunkIds = chunk.getItems().stream()
+			.map(ArticleSummaryProjection::id)
+			.toList();
+		List<Long> ids = articleJdbcRepository.updateSummaryVectors(chunkIds, vectors,
+			articleWorkClaimer.getWorkerId());
+		if (ids.size() < chunkIds.size()) {
+			log.warn("점유를 잃어 벡터를 저장하지 않은 기사: {}건", chunkIds.size() - ids.size());
+			vectors = ownedVectors(chunkIds, vectors, ids);
+		}
+		if (ids.isEmpty()) {
+			return;
+		}
+
+		List<DuplicateArticle> duplicates = articleDuplicateJdbcRepository.findDuplicatesOf(ids);
+		articleDuplicateJdbcRepository.copyFromCanonicals(ids);
+
+		List<Long> storedIds = new ArrayList<>(ids);
+		List<float[]> storedVectors = new ArrayList<>(vectors);
+		addDuplicates(ids, vectors, duplicates, storedIds, storedVectors);
+		hnswVectorIndex.addAfterCommit(storedIds, storedVectors);
+		mappedVectorFile.appendAfterCommit(storedIds, storedVectors);
+	}
+
+	/**
+	 * 청크의 벡터 중 실제로 저장된 기사의 벡터만 ids 순서로 고른다.
+	 */
+	private List<float[]> ownedVectors(List<Long> chunkIds, List<float[]> vectors, List<Long> ids) {
+		Map<Long, float[]> vectorById = new HashMap<>();
+		for (int i = 0; i < chunkIds.size(); i++) {
+			vectorById.put(chunkIds.get(i), vectors.get(i));
+		}
+		return ids.stream().map(vectorById::get).toList();
+	}
+
+	/**
+	 * 대표 기사의 벡터를 복사받은 중복 기사를 대표 기사와 같은 벡터로 저장소 추가 목록에 넣는다.
+	 */
+	private void addDuplicates(List<Long> ids, List<float[]> vectors, List<DuplicateArticle> duplicates,
+		List<Long> storedIds, List<float[]> storedVectors) {
+		Map<Long, float[]> vectorById = new HashMap<>();
+		for (int i = 0; i < ids.size(); i++) {
+			vectorById.put(ids.get(i), vectors.get(i));
+		}
+		for (DuplicateArticle duplicate : duplicates) {
+			storedIds.add(duplicate.id());
+			storedVectors.add(vectorById.get(duplicate.canonicalArticleId()));
+		}
 	}
 }
@@ -1,6 +1,5 @@
 package com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.embedding.quartz.config;
 
-import org.quartz.DisallowConcurrentExecution;
 import org.quartz.JobExecutionContext;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.JobParameters;
@@ -19,16 +18,20 @@ import lombok.extern.slf4j.Slf4j;
  * Quartz에 의해 트리거되는 Spring Batch Job 실행 클래스.
  * JobLauncher를 통해 {@code rssJob}을 수동 실행하며, 매 실행 시 고유한 JobParameters를 생성하여 중복 실행을 방지한다.
  *
- * - @DisallowConcurrentExecution: 이전 실행이 끝나기 전에는 새로운 실행이 중첩되지 않도록 제한
  * - JobParameters에 timestamp를 포함시켜 매번 다른 인스턴스로 실행되도록 설정
+ * - 기사를 점유(SKIP LOCKED)한 뒤 처리하므로, 이전 실행이 끝나기 전에 다른 노드에서 실행되어도
+ *   남은 기사를 나누어 처리한다
+ * - 클러스터 Quartz 트리거는 한 노드에서만 실행되므로, 모든 노드의 주기 실행은
+ *   {@link ArticleEmbeddingNodePoller}가 같은 메서드를 호출해 담당한다
  *
  * 이 클래스는 단순한 실행자 역할만 수행한다.
  *
  * @since 2025-05-17
+ * @modified 2025-05-22 @DisallowConcurrentExecution 제거 (노드 간 병렬 실행 허용)
+ * @modified 2025-05-22 노드별 폴러에서 재사용하도록 실행 메서드를 패키지 범위로 변경
  */
 @Component
 @Slf4j
-@DisallowConcurrentExecution
 @RequiredArgsConstructor
 public class ArticleEmbeddingJobExecutor implements org.quartz.Job {
 	private final JobLauncher jobLauncher;
@@ -56,8 +59,9 @@ public class ArticleEmbeddingJobExecutor implements org.quartz.Job {
 	 *
 	 * @author 함예정
 	 * @since 2025-05-17
+	 * @modified 2025-05-22 {@link ArticleEmbeddingNodePoller}에서 호출할 수 있도록 패키지 범위로 변경
 	 */
-	private void startSpringBatchJob() {
+	void startSpringBatchJob() {
 		JobParameters params = new JobParametersBuilder()
 			.addLong("timestamp", System.currentTimeMillis())
 			.toJobParameters();
@@ -0,0 +1,89 @@
+package com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.embedding.quartz.config;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+
+import com.likelion.backendplus4.talkpick.batch.news.article.exception.ArticleCollectorException;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 모든 노드가 주기적으로 요약/임베딩 Job을 실행하도록 하는 노드 로컬 폴러.
+ *
+ * 클러스터 모드의 Quartz는 cron/연쇄 트리거를 한 노드에서만 실행하고, 트리거 이름에 instanceId를 넣어도
+ * 실행 노드를 고정할 수 없다. 그래서 노드를 늘려도 트리거를 받은 노드 외에는 점유할 기사를 가져가지 않는다.
+ * 이 폴러는 Quartz 저장소를 거치지 않고 노드마다 자체 스케줄러로 실행되므로, 기사 점유(SKIP LOCKED)와 함께
+ * 노드 수만큼 처리량이 늘어난다.
+ *
+ * - 실행 간격은 article.claim.poll-interval, 0 이하면 비활성화
+ * - 이전 실행이 끝난 뒤부터 간격을 재므로 한 노드에서 폴러 실행이 겹치지 않는다
+ * - Quartz cron 트리거는 그대로 두어 폴러가 꺼진 환경의 보조 실행으로 사용한다
+ *
+ * @since 2025-05-22
+ */
+@Slf4j
+@Component
+public class ArticleEmbeddingNodePoller implements SmartLifecycle {
+	private static final String THREAD_NAME_PREFIX = "embedding-poller-";
+
+	private final ArticleEmbeddingJobExecutor articleEmbeddingJobExecutor;
+	private final Duration pollInterval;
+	private ThreadPoolTaskScheduler scheduler;
+
+	public ArticleEmbeddingNodePoller(ArticleEmbeddingJobExecutor articleEmbeddingJobExecutor,
+		@Value("${article.claim.poll-interval:PT5M}") Duration pollInterval) {
+		this.articleEmbeddingJobExecutor = articleEmbeddingJobExecutor;
+		this.pollInterval = pollInterval;
+	}
+
+	/**
+	 * 폴링 간격이 설정된 경우 노드 전용 스케줄러를 만들고 첫 실행을 한 간격 뒤로 예약한다.
+	 *
+	 * @since 2025-05-22
+	 */
+	@Override
+	public synchronized void start() {
+		if (isRunning() || pollInterval.isZero() || pollInterval.isNegative()) {
+			return;
+		}
+		scheduler = new ThreadPoolTaskScheduler();
+		scheduler.setPoolSize(1);
+		scheduler.setThreadNamePrefix(THREAD_NAME_PREFIX);
+		scheduler.setWaitForTasksToCompleteOnShutdown(true);
+		scheduler.initialize();
+		scheduler.scheduleWithFixedDelay(this::poll, Instant.now().plus(pollInterval), pollInterval);
+		log.info("노드별 요약/임베딩 폴링 시작 - 간격 {}", pollInterval);
+	}
+
+	@Override
+	public synchronized void stop() {
+		if (scheduler != null) {
+			scheduler.shutdown();
+			scheduler = null;
+		}
+	}
+
+	@Override
+	public synchronized boolean isRunning() {
+		return scheduler != null;
+	}
+
+	/**
+	 * 요약/임베딩 Job을 한 번 실행한다.
+	 * 실패해도 다음 폴링은 계속되어야 하므로 예외는 기록만 한다.
+	 *
+	 * @since 2025-05-22
+	 */
+	private void poll() {
+		try {
+			articleEmbeddingJobExecutor.startSpringBatchJob();
+		} catch (ArticleCollectorException e) {
+			log.error("노드별 요약/임베딩 폴링 실패: {}", e.getMessage(), e);
+		}
+	}
+}
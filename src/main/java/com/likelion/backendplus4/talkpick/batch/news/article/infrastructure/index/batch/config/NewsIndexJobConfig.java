@@ -0,0 +1,51 @@
+package com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.index.batch.config;
+
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.index.batch.listener.NewsIndexCursorListener;
+
+/**
+ * Spring Batch Job 설정 클래스. <p>
+ * 마지막 색인 이후 생성/변경된 기사를 Elasticsearch에 색인하는
+ * Batch Job 을 정의하며, 파티셔닝된 Step 을 시작 단계로 구성한다. <p>
+ *
+ * 작업이 완료되면 {@link NewsIndexCursorListener}가 색인 커서를 전진시킨다. <p>
+ *
+ * @since 2025-05-22
+ */
+@Configuration
+public class NewsIndexJobConfig {
+	private final String jobName = "newsIndexJob";
+	private final JobRepository jobRepository;
+	private final Step newsIndexStep;
+	private final NewsIndexCursorListener newsIndexCursorListener;
+
+	public NewsIndexJobConfig(
+		JobRepository jobRepository,
+		Step newsIndexStep,
+		NewsIndexCursorListener newsIndexCursorListener) {
+
+		this.jobRepository = jobRepository;
+		this.newsIndexStep = newsIndexStep;
+		this.newsIndexCursorListener = newsIndexCursorListener;
+	}
+
+	/**
+	 * 뉴스 증분 색인 Spring Batch Job Bean을 생성한다.
+	 *
+	 * @return 뉴스 색인 Job
+	 * @since 2025-05-22
+	 */
+	@Bean
+	public Job newsIndexJob() {
+		return new JobBuilder(jobName, jobRepository)
+			.start(newsIndexStep)
+			.listener(newsIndexCursorListener)
+			.build();
+	}
+}
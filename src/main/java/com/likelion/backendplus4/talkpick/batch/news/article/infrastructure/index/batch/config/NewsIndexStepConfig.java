@@ -0,0 +1,87 @@
+package com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.index.batch.config;
+
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.index.batch.partitioner.NewsIndexPartitioner;
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.index.batch.reader.NewsIndexPageReader;
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.index.batch.writer.NewsIndexWriter;
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.jpa.entity.ArticleEntity;
+
+/**
+ * 뉴스 색인 작업을 위한 Spring Batch Step 설정 클래스.
+ * - 커서 이후 변경된 기사의 ID 범위를 분할하는 마스터 Step
+ * - 기사 조회 → NewsInfo 변환 및 Elasticsearch Bulk 색인을 수행하는 슬레이브 Step
+ *
+ * @since 2025-05-22
+ */
+@Configuration
+public class NewsIndexStepConfig {
+	private final String executorName = "indexPartitionExecutor";
+	private final int gridSize = 5;
+
+	private final JobRepository jobRepository;
+	private final PlatformTransactionManager transactionManager;
+	private final TaskExecutor taskExecutor;
+	private final int chunkSize;
+
+	public NewsIndexStepConfig(
+		JobRepository jobRepository,
+		PlatformTransactionManager platformTransactionManager,
+		@Qualifier(executorName) TaskExecutor taskExecutor,
+		@Value("${news.index.batch-size:500}") int chunkSize) {
+		this.jobRepository = jobRepository;
+		this.transactionManager = platformTransactionManager;
+		this.taskExecutor = taskExecutor;
+		this.chunkSize = chunkSize;
+	}
+
+	/**
+	 * 뉴스 색인을 마스터-슬레이브 구조로 병렬 처리하기 위한 마스터 Step을 생성한다.
+	 *
+	 * @param partitioner 커서 이후 변경분의 ID 범위 파티셔너
+	 * @param newsIndexSlaveStep 실제 색인을 수행하는 슬레이브 Step
+	 * @return 마스터 파티셔닝 Step
+	 * @since 2025-05-22
+	 */
+	@Bean
+	public Step newsIndexStep(
+		NewsIndexPartitioner partitioner,
+		Step newsIndexSlaveStep) {
+
+		return new StepBuilder("newsIndexStep", jobRepository)
+			.partitioner("newsIndexSlavePart", partitioner)
+			.step(newsIndexSlaveStep)
+			.taskExecutor(taskExecutor)
+			.gridSize(gridSize)
+			.build();
+	}
+
+	/**
+	 * 한 파티션 내의 변경된 기사를 청크 단위로 Elasticsearch에 색인하는 슬레이브 Step을 생성한다.
+	 * 청크 크기는 Bulk 요청 한 번에 포함되는 문서 수와 같다.
+	 *
+	 * @param reader 변경된 기사를 페이지 단위로 읽는 Reader
+	 * @param writer Bulk 색인 Writer
+	 * @return 슬레이브 Step
+	 * @since 2025-05-22
+	 */
+	@Bean
+	public Step newsIndexSlaveStep(
+		NewsIndexPageReader reader,
+		NewsIndexWriter writer) {
+
+		return new StepBuilder("newsIndexSlaveStep", jobRepository)
+			.<ArticleEntity, ArticleEntity>chunk(chunkSize, transactionManager)
+			.reader(reader)
+			.writer(writer)
+			.build();
+	}
+}
@@ -0,0 +1,50 @@
+package com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.index.batch.listener;
+
+import java.time.LocalDateTime;
+
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionListener;
+import org.springframework.stereotype.Component;
+
+import com.likelion.backendplus4.talkpick.batch.index.application.port.out.NewsIndexCursorPort;
+import com.likelion.backendplus4.talkpick.batch.index.domain.model.NewsIndexCursor;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * newsIndexJob이 정상 완료되면 색인 커서를 작업 파라미터의 변경 시각 상한(upperBound)까지 전진시키는 리스너.
+ * 작업이 실패하면 커서를 유지하여 다음 실행에서 같은 변경분부터 다시 색인한다.
+ *
+ * @since 2025-05-22
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NewsIndexCursorListener implements JobExecutionListener {
+	public static final String UPPER_BOUND_PARAMETER = "upperBound";
+
+	private final NewsIndexCursorPort newsIndexCursorPort;
+
+	/**
+	 * 작업 완료 후 커서를 저장한다.
+	 *
+	 * @param jobExecution 완료된 작업 실행 정보
+	 * @since 2025-05-22
+	 */
+	@Override
+	public void afterJob(JobExecution jobExecution) {
+		if (jobExecution.getStatus() != BatchStatus.COMPLETED) {
+			log.warn("뉴스 색인 작업이 완료되지 않아 커서를 유지합니다. status: {}", jobExecution.getStatus());
+			return;
+		}
+
+		LocalDateTime upperBound = jobExecution.getJobParameters().getLocalDateTime(UPPER_BOUND_PARAMETER);
+		if (upperBound == null) {
+			return;
+		}
+		newsIndexCursorPort.save(NewsIndexCursor.upTo(upperBound));
+		log.info("뉴스 색인 커서 전진: {}", upperBound);
+	}
+}
@@ -0,0 +1,77 @@
+package com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.index.batch.partitioner;
+
+import java.util.Map;
+
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.stereotype.Component;
+
+import com.likelion.backendplus4.talkpick.batch.index.application.port.out.NewsIndexCursorPort;
+import com.likelion.backendplus4.talkpick.batch.index.domain.model.NewsIndexCursor;
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.support.partitioner.IdRangePartitionCalculator;
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.support.partitioner.PartitionMapBuilder;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * {@link Partitioner} 구현체로, 마지막 색인 커서 이후에 변경된 기사의 ID 범위를
+ * gridSize만큼 균등하게 분할한다.
+ *
+ * 각 ExecutionContext에는 'minId', 'maxId'와 함께
+ * Reader가 사용할 커서 값('lastUpdatedAt', 'lastArticleId')이 설정된다.
+ * 변경된 기사가 없으면 빈 파티션을 반환하여 Step이 바로 완료되도록 한다.
+ *
+ * @since 2025-05-22
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NewsIndexPartitioner implements Partitioner {
+	private static final String QUERY_GET_ID_RANGE = """
+		SELECT MIN(a.id), MAX(a.id)
+			FROM ArticleEntity a
+		WHERE a.updatedAt >= :lastUpdatedAt
+			AND (a.updatedAt > :lastUpdatedAt OR a.id > :lastArticleId)
+		""";
+
+	private final IdRangePartitionCalculator calculator;
+	private final NewsIndexCursorPort newsIndexCursorPort;
+
+	@PersistenceContext
+	private final EntityManager entityManager;
+
+	/**
+	 * 커서 이후 변경된 기사의 ID 범위를 gridSize만큼 분할하여 반환한다.
+	 *
+	 * @param gridSize 생성할 파티션 수
+	 * @return 각 파티션의 ExecutionContext를 담은 맵
+	 * @since 2025-05-22
+	 */
+	@Override
+	public Map<String, ExecutionContext> partition(int gridSize) {
+		NewsIndexCursor cursor = newsIndexCursorPort.load();
+		Object[] idRange = entityManager.createQuery(QUERY_GET_ID_RANGE, Object[].class)
+			.setParameter("lastUpdatedAt", cursor.lastUpdatedAt())
+			.setParameter("lastArticleId", cursor.lastArticleId())
+			.getSingleResult();
+
+		Long minId = (Long)idRange[0];
+		Long maxId = (Long)idRange[1];
+		if (minId == null || maxId == null) {
+			log.info("색인할 변경 기사가 없습니다. 커서: {}", cursor);
+			return Map.of();
+		}
+
+		log.info("Partitioning news index with gridSize: {}, id range: {} ~ {}", gridSize, minId, maxId);
+		Map<String, ExecutionContext> partitions =
+			PartitionMapBuilder.build(calculator.calculate(minId, maxId, gridSize));
+		partitions.values().forEach(context -> {
+			context.put("lastUpdatedAt", cursor.lastUpdatedAt());
+			context.putLong("lastArticleId", cursor.lastArticleId());
+		});
+		return partitions;
+	}
+}
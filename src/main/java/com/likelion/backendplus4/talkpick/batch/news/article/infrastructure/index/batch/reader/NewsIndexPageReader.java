@@ -0,0 +1,61 @@
+package com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.index.batch.reader;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.jpa.entity.ArticleEntity;
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.support.reader.JpaKeysetItemReader;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 파티션 ID 범위 안에서 마지막 색인 커서 이후에 변경된 기사를 ID 키셋 방식으로 읽는 Reader.
+ *
+ * @since 2025-05-22
+ */
+@Component
+@StepScope
+@Slf4j
+public class NewsIndexPageReader extends JpaKeysetItemReader<ArticleEntity> {
+	private static final String JPQL = """
+		SELECT a
+			FROM ArticleEntity a
+		WHERE a.id > :lastId
+			AND a.id <= :maxId
+			AND a.updatedAt >= :lastUpdatedAt
+			AND (a.updatedAt > :lastUpdatedAt OR a.id > :lastArticleId)
+		ORDER BY a.id ASC
+		""";
+
+	public NewsIndexPageReader(
+		EntityManagerFactory entityManagerFactory,
+		@Value("#{stepExecutionContext[minId]}") Long minId,
+		@Value("#{stepExecutionContext[maxId]}") Long maxId,
+		@Value("#{stepExecutionContext[lastUpdatedAt]}") LocalDateTime lastUpdatedAt,
+		@Value("#{stepExecutionContext[lastArticleId]}") Long lastArticleId,
+		@Value("${news.index.batch-size:500}") int pageSize) {
+
+		this.setName("newsIndexReader-" + minId + "-" + maxId);
+		this.setEntityManagerFactory(entityManagerFactory);
+		this.setQueryString(JPQL, ArticleEntity.class);
+		Map<String, Object> params = new HashMap<>();
+		params.put("maxId", maxId);
+		params.put("lastUpdatedAt", lastUpdatedAt);
+		params.put("lastArticleId", lastArticleId);
+		this.setParameterValues(params);
+		this.setStartAfterId(minId - 1);
+		this.setPageSize(pageSize);
+		log.info("Initialized news index reader for ID range {} ~ {}", minId, maxId);
+	}
+
+	@Override
+	protected Long extractId(ArticleEntity item) {
+		return item.getId();
+	}
+}
@@ -0,0 +1,49 @@
+package com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.index.batch.writer;
+
+import java.util.List;
+
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.stereotype.Component;
+
+import com.likelion.backendplus4.talkpick.batch.index.application.port.out.NewsInfoIndexRepositoryPort;
+import com.likelion.backendplus4.talkpick.batch.index.domain.model.NewsInfo;
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.jdbc.repository.ArticleJdbcRepository;
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.jpa.entity.ArticleEntity;
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.jpa.mapper.ArticleEntityMapper;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 청크 단위의 기사를 NewsInfo로 변환해 색인 저장소에 Bulk 색인하는 Writer.
+ * 색인 후 EMBEDDED 상태의 기사는 INDEXED 상태로 전이한다.
+ *
+ * @since 2025-05-22
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NewsIndexWriter implements ItemWriter<ArticleEntity> {
+	private final NewsInfoIndexRepositoryPort newsInfoIndexRepositoryPort;
+	private final ArticleJdbcRepository articleJdbcRepository;
+
+	/**
+	 * 청크의 기사를 한 번의 Bulk 요청으로 색인하고 파이프라인 상태를 갱신한다.
+	 *
+	 * @param chunk 색인할 기사 청크
+	 * @since 2025-05-22
+	 */
+	@Override
+	public void write(Chunk<? extends ArticleEntity> chunk) {
+		List<NewsInfo> newsInfoList = chunk.getItems().stream()
+			.map(ArticleEntityMapper::toDomainFromEntity)
+			.toList();
+		int indexedCount = newsInfoIndexRepositoryPort.saveAll(newsInfoList);
+
+		articleJdbcRepository.markIndexed(chunk.getItems().stream()
+			.map(ArticleEntity::getId)
+			.toList());
+		log.debug("뉴스 색인 완료: {}건", indexedCount);
+	}
+}
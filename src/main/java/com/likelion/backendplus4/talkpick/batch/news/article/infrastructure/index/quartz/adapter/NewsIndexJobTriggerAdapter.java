@@ -0,0 +1,39 @@
+package com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.index.quartz.adapter;
+
+import org.quartz.JobKey;
+import org.quartz.Scheduler;
+import org.quartz.SchedulerException;
+import org.springframework.stereotype.Component;
+
+import com.likelion.backendplus4.talkpick.batch.index.application.port.out.NewsIndexJobTriggerPort;
+import com.likelion.backendplus4.talkpick.batch.news.article.exception.ArticleCollectorException;
+import com.likelion.backendplus4.talkpick.batch.news.article.exception.error.ArticleCollectorErrorCode;
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.index.quartz.config.NewsIndexQuartzJobConfig;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Quartz Scheduler에 뉴스 색인 JobDetail의 즉시 실행을 요청하는 NewsIndexJobTriggerPort 구현체.
+ *
+ * @since 2025-05-22
+ */
+@Component
+@RequiredArgsConstructor
+public class NewsIndexJobTriggerAdapter implements NewsIndexJobTriggerPort {
+	private final Scheduler scheduler;
+
+	/**
+	 * 뉴스 색인 JobDetail을 즉시 한 번 실행하도록 요청한다.
+	 *
+	 * @throws ArticleCollectorException SchedulerException 발생 시
+	 * @since 2025-05-22
+	 */
+	@Override
+	public void trigger() {
+		try {
+			scheduler.triggerJob(JobKey.jobKey(NewsIndexQuartzJobConfig.getNEWS_INDEX_JOB_DETAIL_NAME()));
+		} catch (SchedulerException e) {
+			throw new ArticleCollectorException(ArticleCollectorErrorCode.JOB_TRIGGER_FAIL, e);
+		}
+	}
+}
@@ -0,0 +1,90 @@
+package com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.index.quartz.config;
+
+import java.time.Duration;
+
+import org.quartz.DisallowConcurrentExecution;
+import org.quartz.JobExecutionContext;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.likelion.backendplus4.talkpick.batch.news.article.exception.ArticleCollectorException;
+import com.likelion.backendplus4.talkpick.batch.news.article.exception.BatchJobExceptionTranslator;
+import com.likelion.backendplus4.talkpick.batch.news.article.exception.error.ArticleCollectorErrorCode;
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.index.batch.listener.NewsIndexCursorListener;
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.jdbc.repository.DatabaseClockJdbcRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Quartz에 의해 트리거되는 뉴스 색인 Spring Batch Job 실행 클래스.
+ *
+ * - @DisallowConcurrentExecution: 이전 실행이 끝나기 전에는 새로운 실행이 중첩되지 않도록 제한
+ * - JobParameters에 timestamp를 포함시켜 매번 다른 인스턴스로 실행되도록 설정
+ * - 늦게 커밋된 트랜잭션의 변경분을 놓치지 않도록 현재 시각에서 cursor-lag만큼 이전을
+ *   이번 실행의 커서 상한(upperBound)으로 전달
+ * - updated_at은 DB가 기록하므로 현재 시각은 애플리케이션 시계가 아닌 DB 시계로 조회
+ *
+ * @since 2025-05-22
+ * @modified 2025-05-22 커서 상한을 DB 시계 기준으로 계산
+ */
+@Component
+@Slf4j
+@DisallowConcurrentExecution
+public class NewsIndexJobExecutor implements org.quartz.Job {
+	private final JobLauncher jobLauncher;
+	private final Job newsIndexJob;
+	private final BatchJobExceptionTranslator batchJobExceptionTranslator;
+	private final DatabaseClockJdbcRepository databaseClockJdbcRepository;
+	private final Duration cursorLag;
+
+	public NewsIndexJobExecutor(JobLauncher jobLauncher,
+		@Qualifier("newsIndexJob") Job newsIndexJob,
+		BatchJobExceptionTranslator batchJobExceptionTranslator,
+		DatabaseClockJdbcRepository databaseClockJdbcRepository,
+		@Value("${news.index.cursor-lag:PT5S}") Duration cursorLag) {
+		this.jobLauncher = jobLauncher;
+		this.newsIndexJob = newsIndexJob;
+		this.batchJobExceptionTranslator = batchJobExceptionTranslator;
+		this.databaseClockJdbcRepository = databaseClockJdbcRepository;
+		this.cursorLag = cursorLag;
+	}
+
+	/**
+	 * Quartz 트리거에 의해 호출되는 메서드.
+	 *
+	 * @param jobExecutionContext Quartz 실행 컨텍스트
+	 * @since 2025-05-22
+	 */
+	@Override
+	public void execute(JobExecutionContext jobExecutionContext) {
+		startSpringBatchJob();
+	}
+
+	/**
+	 * Spring Batch Job을 JobLauncher를 통해 실행한다.
+	 * 예외 발생 시 {@link ArticleCollectorException}으로 변환하여 처리한다.
+	 *
+	 * @since 2025-05-22
+	 * @modified 2025-05-22 커서 상한을 DB 시계 기준으로 계산
+	 */
+	private void startSpringBatchJob() {
+		try {
+			JobParameters params = new JobParametersBuilder()
+				.addLong("timestamp", System.currentTimeMillis())
+				.addLocalDateTime(NewsIndexCursorListener.UPPER_BOUND_PARAMETER,
+					databaseClockJdbcRepository.currentTimeMinus(cursorLag))
+				.toJobParameters();
+
+			log.info("Quartz Job 실행 - 뉴스 색인");
+			jobLauncher.run(newsIndexJob, params);
+		} catch (Exception e) {
+			ArticleCollectorErrorCode exceptionCode = batchJobExceptionTranslator.translate(e);
+			throw new ArticleCollectorException(exceptionCode);
+		}
+	}
+}
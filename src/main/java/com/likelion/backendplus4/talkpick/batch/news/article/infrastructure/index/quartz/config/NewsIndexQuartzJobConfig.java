@@ -0,0 +1,35 @@
+package com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.index.quartz.config;
+
+import org.quartz.JobBuilder;
+import org.quartz.JobDetail;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Getter;
+
+/**
+ * 변경된 뉴스를 Elasticsearch에 증분 색인하는 스케줄 작업
+ * application.yml의 spring.quartz.news-index.cron 속성으로 실행 주기 설정
+ *
+ * @since 2025-05-22
+ */
+@Configuration
+public class NewsIndexQuartzJobConfig {
+	@Getter
+	private static final String NEWS_INDEX_JOB_DETAIL_NAME = "newsIndexJobDetail";
+
+	/**
+	 * 뉴스 색인 Quartz JobDetail 빈 등록.
+	 * Job 클래스는 {@link NewsIndexJobExecutor}이며, 수동 실행 요청을 위해 storeDurably()로 등록한다.
+	 *
+	 * @return 뉴스 색인 작업용 JobDetail 객체
+	 * @since 2025-05-22
+	 */
+	@Bean(NEWS_INDEX_JOB_DETAIL_NAME)
+	public JobDetail newsIndexJobDetail() {
+		return JobBuilder.newJob(NewsIndexJobExecutor.class)
+			.withIdentity(NEWS_INDEX_JOB_DETAIL_NAME)
+			.storeDurably()
+			.build();
+	}
+}
@@ -0,0 +1,51 @@
+package com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.index.quartz.config;
+
+import org.quartz.CronScheduleBuilder;
+import org.quartz.JobDetail;
+import org.quartz.Trigger;
+import org.quartz.TriggerBuilder;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Configuration
+@Slf4j
+public class NewsIndexQuartzTriggerConfig {
+	private final String cronExpression;
+	private final JobDetail newsIndexJobDetail;
+	private final String newsIndexJobDetailName = NewsIndexQuartzJobConfig.getNEWS_INDEX_JOB_DETAIL_NAME();
+
+	/**
+	 * 생성자 주입을 통해 Cron 표현식을 설정한다.
+	 *
+	 * @param cronExpression 뉴스 색인 실행 주기를 정의하는 Cron 표현식
+	 *                       application.yml에서 spring.quartz.news-index.cron 값을 로드 합니다.
+	 * @since 2025-05-22
+	 */
+	public NewsIndexQuartzTriggerConfig(
+		@Value("${spring.quartz.news-index.cron}") String cronExpression,
+		@Qualifier("newsIndexJobDetail")
+		JobDetail newsIndexJobDetail) {
+		this.cronExpression = cronExpression;
+		this.newsIndexJobDetail = newsIndexJobDetail;
+	}
+
+	/**
+	 * 뉴스 색인 작업을 위한 Quartz Trigger 빈 등록.
+	 *
+	 * @return 뉴스 색인 작업용 Trigger 객체
+	 * @since 2025-05-22
+	 */
+	@Bean
+	public Trigger newsIndexQuartzTrigger() {
+		log.info("Quartz Trigger: " + newsIndexJobDetailName);
+		return TriggerBuilder.newTrigger()
+			.forJob(newsIndexJobDetail)
+			.withIdentity(newsIndexJobDetailName + "trigger")
+			.withSchedule(CronScheduleBuilder.cronSchedule(cronExpression))
+			.build();
+	}
+}
@@ -0,0 +1,80 @@
+package com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.jdbc.datasource;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 청크 트랜잭션과 별개로 바로 커밋해야 하는 짧은 작업(작업 점유, 임베딩 캐시 저장)을 위한 전용 커넥션 풀.
+ *
+ * Reader/Writer는 청크 트랜잭션의 커넥션을 잡은 채로 호출되므로, 같은 풀에서 REQUIRES_NEW로 커넥션을 하나 더 얻으면
+ * 파티션마다 커넥션 두 개가 필요해지고, 동시 파티션 수가 많으면 모든 스레드가 두 번째 커넥션을 기다리며 멈출 수 있다.
+ * 이 풀의 커넥션은 다른 커넥션을 기다리지 않는 짧은 작업에만 쓰이므로, 풀이 작아도 교착 없이 순서대로 반환된다.
+ *
+ * - 접속 정보는 spring.datasource 설정을 그대로 사용
+ * - 메인 DataSource를 대체하지 않도록 빈으로 등록하지 않고 이 컴포넌트가 직접 생성/종료
+ * - 트랜잭션은 이 풀의 DataSourceTransactionManager로 관리하므로 청크 트랜잭션의 커밋/롤백과 무관
+ *
+ * @since 2025-05-22
+ */
+@Slf4j
+@Component
+public class AutonomousTransactionPool implements DisposableBean {
+	private static final String POOL_NAME = "autonomous-tx-pool";
+
+	private final HikariDataSource dataSource;
+	private final JdbcTemplate jdbcTemplate;
+	private final TransactionTemplate transactionTemplate;
+
+	public AutonomousTransactionPool(DataSourceProperties dataSourceProperties,
+		@Value("${article.autonomous-pool.maximum-pool-size:4}") int maximumPoolSize,
+		@Value("${article.autonomous-pool.connection-timeout:PT30S}") Duration connectionTimeout) {
+		this.dataSource = dataSourceProperties.initializeDataSourceBuilder()
+			.type(HikariDataSource.class)
+			.build();
+		this.dataSource.setPoolName(POOL_NAME);
+		this.dataSource.setMaximumPoolSize(maximumPoolSize);
+		this.dataSource.setMinimumIdle(0);
+		this.dataSource.setConnectionTimeout(connectionTimeout.toMillis());
+		this.dataSource.addDataSourceProperty("rewriteBatchedStatements", "true");
+		this.jdbcTemplate = new JdbcTemplate(dataSource);
+		this.transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+		log.info("독립 트랜잭션 커넥션 풀 생성 - 최대 {}개", maximumPoolSize);
+	}
+
+	/**
+	 * 이 풀의 커넥션을 사용하는 JdbcTemplate을 반환한다.
+	 * 트랜잭션 밖에서는 쿼리마다 자동 커밋된다.
+	 *
+	 * @return 전용 풀의 JdbcTemplate
+	 * @since 2025-05-22
+	 */
+	public JdbcTemplate jdbcTemplate() {
+		return jdbcTemplate;
+	}
+
+	/**
+	 * 이 풀의 커넥션 하나로 실행되고 바로 커밋되는 트랜잭션 템플릿을 반환한다.
+	 *
+	 * @return 전용 풀의 TransactionTemplate
+	 * @since 2025-05-22
+	 */
+	public TransactionTemplate transactionTemplate() {
+		return transactionTemplate;
+	}
+
+	@Override
+	public void destroy() {
+		dataSource.close();
+	}
+}
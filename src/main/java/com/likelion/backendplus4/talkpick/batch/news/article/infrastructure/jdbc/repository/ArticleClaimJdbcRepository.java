@@ -0,0 +1,81 @@
+package com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.jdbc.repository;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.jdbc.datasource.AutonomousTransactionPool;
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.jpa.entity.ArticlePipelineState;
+
+/**
+ * 여러 배치 노드가 같은 기사를 중복 처리하지 않도록 article 행을 점유(lease)하는 JDBC 리포지토리.
+ *
+ * - 다른 노드가 점유 중인 행(잠금 중이거나 claim_expires_at이 남은 행)은 건너뛴다
+ * - 점유 만료 시각은 DB 시계(NOW(6)) 기준으로 계산하여 노드 간 시계 차이의 영향을 받지 않는다
+ * - 점유 표시만으로 증분 색인 대상이 되지 않도록 updated_at은 유지한다
+ *
+ * 두 메서드는 같은 트랜잭션 안에서 호출되어야 한다. 청크 트랜잭션의 커넥션과 별개로 커밋되도록
+ * {@link AutonomousTransactionPool}의 커넥션을 사용한다.
+ *
+ * @since 2025-05-22
+ * @modified 2025-05-22 청크 트랜잭션과 다른 전용 커넥션 풀 사용
+ */
+@Repository
+public class ArticleClaimJdbcRepository {
+	private static final String SELECT_CLAIMABLE_IDS_SQL = """
+		SELECT id
+			FROM article
+		WHERE pipeline_state = ?
+			AND id > ?
+			AND id <= ?
+			AND (claim_expires_at IS NULL OR claim_expires_at < NOW(6))
+		ORDER BY id
+		LIMIT ?
+		FOR UPDATE SKIP LOCKED
+		""";
+	private static final String CLAIM_SQL = """
+		UPDATE article
+		SET claimed_by = ?, claim_expires_at = NOW(6) + INTERVAL ? SECOND, updated_at = updated_at
+		WHERE id = ?
+		""";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	public ArticleClaimJdbcRepository(AutonomousTransactionPool autonomousTransactionPool) {
+		this.jdbcTemplate = autonomousTransactionPool.jdbcTemplate();
+	}
+
+	/**
+	 * 점유 가능한 기사 ID를 잠그고 조회한다. 다른 트랜잭션이 잠근 행은 기다리지 않고 건너뛴다.
+	 *
+	 * @param state 처리 대상 파이프라인 상태
+	 * @param afterId 이 ID보다 큰 행부터 조회
+	 * @param maxId 조회할 최대 ID
+	 * @param limit 최대 조회 건수
+	 * @return ID 오름차순 목록
+	 * @since 2025-05-22
+	 */
+	public List<Long> lockClaimableIds(ArticlePipelineState state, long afterId, long maxId, int limit) {
+		return jdbcTemplate.queryForList(SELECT_CLAIMABLE_IDS_SQL, Long.class,
+			state.getCode(), afterId, maxId, limit);
+	}
+
+	/**
+	 * 잠근 기사들을 지정한 노드가 lease 동안 점유한 것으로 표시한다.
+	 *
+	 * @param ids 점유할 기사 ID 목록
+	 * @param owner 점유하는 노드 식별자
+	 * @param lease 점유 유지 시간
+	 * @since 2025-05-22
+	 */
+	public void claim(List<Long> ids, String owner, Duration lease) {
+		long leaseSeconds = Math.max(1, lease.toSeconds());
+		jdbcTemplate.batchUpdate(CLAIM_SQL, ids, ids.size(), (ps, id) -> {
+			ps.setString(1, owner);
+			ps.setLong(2, leaseSeconds);
+			ps.setLong(3, id);
+		});
+	}
+}
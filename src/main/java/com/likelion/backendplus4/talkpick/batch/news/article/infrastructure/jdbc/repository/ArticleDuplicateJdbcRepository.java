@@ -0,0 +1,217 @@
+package com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.jdbc.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.jpa.entity.ArticlePipelineState;
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.jpa.projection.ArticleDescriptionProjection;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 유사 중복 기사 판별을 위한 article 테이블 JDBC 리포지토리.
+ *
+ * - 판별 결과(simhash, canonical_article_id) 기록은 상태 변경만으로 증분 색인 대상이 되지 않도록 updated_at을 유지한다
+ * - 대표 기사의 요약/벡터를 복사한 중복 기사는 색인되어야 하므로 updated_at이 갱신된다
+ *
+ * @since 2025-05-22
+ * @modified 2025-05-22 대표 기사별 DUPLICATE 기사 조회 추가
+ */
+@Repository
+@RequiredArgsConstructor
+public class ArticleDuplicateJdbcRepository {
+	private static final String SELECT_UNFINGERPRINTED_SQL = """
+		SELECT id, guid, description
+			FROM article
+		WHERE pipeline_state = ?
+			AND simhash IS NULL
+			AND id > ?
+		ORDER BY id
+		LIMIT ?
+		""";
+	private static final String SELECT_CANONICAL_FINGERPRINTS_SQL = """
+		SELECT id, simhash, created_at
+			FROM article
+		WHERE id > ?
+			AND created_at >= ?
+			AND simhash IS NOT NULL
+			AND canonical_article_id IS NULL
+		ORDER BY id
+		""";
+	private static final String UPDATE_FINGERPRINT_SQL = """
+		UPDATE article
+		SET simhash = ?, canonical_article_id = ?, pipeline_state = ?, updated_at = updated_at
+		WHERE id = ? AND pipeline_state = ?
+		""";
+	private static final String COPY_FROM_CANONICAL_SQL = """
+		UPDATE article d
+			JOIN article c ON c.id = d.canonical_article_id
+		SET d.summary = c.summary, d.summary_vector_bin = c.summary_vector_bin, d.pipeline_state = ?
+		WHERE d.pipeline_state = ?
+			AND c.pipeline_state IN (?, ?)
+		""";
+	private static final String COPY_FROM_CANONICAL_IDS_SQL = """
+		UPDATE article d
+			JOIN article c ON c.id = d.canonical_article_id
+		SET d.summary = c.summary, d.summary_vector_bin = c.summary_vector_bin, d.pipeline_state = ?
+		WHERE d.canonical_article_id IN (%s)
+			AND d.pipeline_state = ?
+		""";
+	private static final String SELECT_DUPLICATES_OF_SQL = """
+		SELECT id, canonical_article_id
+			FROM article
+		WHERE canonical_article_id IN (%s)
+			AND pipeline_state = ?
+		""";
+	private static final String RELEASE_FROM_FAILED_CANONICAL_SQL = """
+		UPDATE article d
+			JOIN article c ON c.id = d.canonical_article_id
+		SET d.pipeline_state = ?, d.canonical_article_id = NULL, d.updated_at = d.updated_at
+		WHERE d.pipeline_state = ?
+			AND c.pipeline_state IN (?, ?)
+		""";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	/**
+	 * 아직 판별하지 않은 COLLECTED 상태 기사를 ID 순으로 조회한다.
+	 *
+	 * @param afterId 이 ID보다 큰 행부터 조회
+	 * @param limit 최대 조회 건수
+	 * @return (id, guid, description) 목록
+	 * @since 2025-05-22
+	 */
+	public List<ArticleDescriptionProjection> findUnfingerprinted(long afterId, int limit) {
+		return jdbcTemplate.query(SELECT_UNFINGERPRINTED_SQL,
+			(rs, rowNum) -> new ArticleDescriptionProjection(rs.getLong("id"), rs.getString("guid"),
+				rs.getString("description")),
+			ArticlePipelineState.COLLECTED.getCode(), afterId, limit);
+	}
+
+	/**
+	 * 지정한 ID 이후에 판별된 대표 기사의 SimHash를 조회한다.
+	 *
+	 * @param afterId 이 ID보다 큰 행부터 조회
+	 * @param createdSince 이 시각 이후에 수집된 기사만 조회
+	 * @return (id, simhash, created_at) 목록 (ID 오름차순)
+	 * @since 2025-05-22
+	 */
+	public List<CanonicalFingerprint> findCanonicalFingerprints(long afterId, LocalDateTime createdSince) {
+		return jdbcTemplate.query(SELECT_CANONICAL_FINGERPRINTS_SQL,
+			(rs, rowNum) -> new CanonicalFingerprint(rs.getLong("id"), rs.getLong("simhash"),
+				rs.getTimestamp("created_at").toLocalDateTime()),
+			afterId, Timestamp.valueOf(createdSince));
+	}
+
+	/**
+	 * 판별 결과를 JDBC 배치로 기록한다.
+	 * 대표 기사가 지정된 기사는 DUPLICATE 상태로 전이한다.
+	 *
+	 * @param fingerprints 판별 결과 목록
+	 * @since 2025-05-22
+	 */
+	public void updateFingerprints(List<ArticleFingerprint> fingerprints) {
+		jdbcTemplate.batchUpdate(UPDATE_FINGERPRINT_SQL, fingerprints, fingerprints.size(), (ps, fingerprint) -> {
+			ps.setLong(1, fingerprint.simhash());
+			ps.setObject(2, fingerprint.canonicalArticleId());
+			ps.setByte(3, fingerprint.isDuplicate()
+				? ArticlePipelineState.DUPLICATE.getCode()
+				: ArticlePipelineState.COLLECTED.getCode());
+			ps.setLong(4, fingerprint.id());
+			ps.setByte(5, ArticlePipelineState.COLLECTED.getCode());
+		});
+	}
+
+	/**
+	 * 대표 기사가 이미 임베딩된 DUPLICATE 기사에 요약/벡터를 복사하고 EMBEDDED 상태로 전이한다.
+	 * 대표 기사가 임베딩된 뒤에 수집된 중복 기사를 처리한다.
+	 *
+	 * @return 복사한 기사 수
+	 * @since 2025-05-22
+	 */
+	public int copyFromEmbeddedCanonicals() {
+		return jdbcTemplate.update(COPY_FROM_CANONICAL_SQL,
+			ArticlePipelineState.EMBEDDED.getCode(),
+			ArticlePipelineState.DUPLICATE.getCode(),
+			ArticlePipelineState.EMBEDDED.getCode(),
+			ArticlePipelineState.INDEXED.getCode());
+	}
+
+	/**
+	 * 대표 기사들을 가리키는 DUPLICATE 기사를 조회한다.
+	 * {@link #copyFromCanonicals(List)} 직전에 같은 트랜잭션에서 호출하면 복사될 기사 목록과 같다.
+	 *
+	 * @param canonicalIds 대표 기사 ID 목록
+	 * @return (id, canonical_article_id) 목록
+	 * @since 2025-05-22
+	 */
+	public List<DuplicateArticle> findDuplicatesOf(List<Long> canonicalIds) {
+		if (canonicalIds.isEmpty()) {
+			return List.of();
+		}
+
+		List<Object> params = new ArrayList<>(canonicalIds.size() + 1);
+		params.addAll(canonicalIds);
+		params.add(ArticlePipelineState.DUPLICATE.getCode());
+		String sql = SELECT_DUPLICATES_OF_SQL.formatted(
+			String.join(", ", Collections.nCopies(canonicalIds.size(), "?")));
+		return jdbcTemplate.query(sql,
+			(rs, rowNum) -> new DuplicateArticle(rs.getLong("id"), rs.getLong("canonical_article_id")),
+			params.toArray());
+	}
+
+	/**
+	 * 방금 임베딩된 대표 기사들의 DUPLICATE 기사에 요약/벡터를 복사하고 EMBEDDED 상태로 전이한다.
+	 * 대표 기사의 벡터를 갱신한 트랜잭션 안에서 호출되어야 한다.
+	 *
+	 * @param canonicalIds 임베딩된 대표 기사 ID 목록
+	 * @return 복사한 기사 수
+	 * @since 2025-05-22
+	 */
+	public int copyFromCanonicals(List<Long> canonicalIds) {
+		if (canonicalIds.isEmpty()) {
+			return 0;
+		}
+
+		List<Object> params = new ArrayList<>(canonicalIds.size() + 2);
+		params.add(ArticlePipelineState.EMBEDDED.getCode());
+		params.addAll(canonicalIds);
+		params.add(ArticlePipelineState.DUPLICATE.getCode());
+		String sql = COPY_FROM_CANONICAL_IDS_SQL.formatted(
+			String.join(", ", Collections.nCopies(canonicalIds.size(), "?")));
+		return jdbcTemplate.update(sql, params.toArray());
+	}
+
+	/**
+	 * 대표 기사가 요약/임베딩에 실패한 DUPLICATE 기사를 COLLECTED 상태로 되돌려 직접 처리되도록 한다.
+	 * simhash는 남겨 두므로 다시 판별되지 않는다.
+	 *
+	 * @return 되돌린 기사 수
+	 * @since 2025-05-22
+	 */
+	public int releaseFromFailedCanonicals() {
+		return jdbcTemplate.update(RELEASE_FROM_FAILED_CANONICAL_SQL,
+			ArticlePipelineState.COLLECTED.getCode(),
+			ArticlePipelineState.DUPLICATE.getCode(),
+			ArticlePipelineState.SUMMARY_FAILED.getCode(),
+			ArticlePipelineState.EMBEDDING_FAILED.getCode());
+	}
+
+	public record CanonicalFingerprint(long id, long simhash, LocalDateTime createdAt) {
+	}
+
+	public record DuplicateArticle(long id, long canonicalArticleId) {
+	}
+
+	public record ArticleFingerprint(long id, long simhash, Long canonicalArticleId) {
+		public boolean isDuplicate() {
+			return null != canonicalArticleId;
+		}
+	}
+}
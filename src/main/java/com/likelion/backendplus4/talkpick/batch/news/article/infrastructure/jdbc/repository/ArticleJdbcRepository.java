@@ -0,0 +1,223 @@
+package com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.jdbc.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.jpa.converter.FloatArrayToBinaryConverter;
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.jpa.entity.ArticleEntity;
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.jpa.entity.ArticlePipelineState;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * article 테이블에 대한 JDBC 기반 대량 처리 리포지토리.
+ * IDENTITY 전략으로 인해 Hibernate 배치 INSERT가 동작하지 않으므로,
+ * 대량 저장은 JdbcTemplate의 batchUpdate로 수행한다.
+ *
+ * 요약/임베딩 결과처럼 일부 컬럼만 바뀌는 경우에도 엔티티 전체를 merge하지 않고
+ * 해당 컬럼만 UPDATE한다.
+ *
+ * 현재 트랜잭션(JpaTransactionManager)의 커넥션을 그대로 사용한다.
+ *
+ * @since 2025-05-21
+ * @modified 2025-05-22 요약, 요약 벡터 컬럼 단위 배치 UPDATE 추가
+ * @modified 2025-05-22 pipeline_state 전이 추가
+ * @modified 2025-05-22 상태 전이 시 작업 점유 해제
+ * @modified 2025-05-22 요약/요약 벡터 갱신 시 점유 노드와 상태 확인
+ * @modified 2025-05-22 실패 상태 전이 시 점유 노드 확인
+ * @modified 2025-05-22 실패 시 바로 실패 상태로 전이하는 대신 재시도 횟수를 세어 다시 대기시킴
+ */
+@Repository
+@RequiredArgsConstructor
+public class ArticleJdbcRepository {
+	private static final String INSERT_ARTICLE_SQL = """
+		INSERT INTO article (title, link, pub_date, category, guid, description, image_url, created_at, pipeline_state)
+		VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
+		""";
+	private static final String UPDATE_SUMMARY_SQL = """
+		UPDATE article SET summary = ?, pipeline_state = ?, claimed_by = NULL, claim_expires_at = NULL, failed_attempts = 0
+		WHERE id = ? AND claimed_by = ? AND pipeline_state = ?
+		""";
+	private static final String UPDATE_SUMMARY_VECTOR_SQL = """
+		UPDATE article
+		SET summary_vector_bin = ?, pipeline_state = ?, claimed_by = NULL, claim_expires_at = NULL, failed_attempts = 0
+		WHERE id = ? AND claimed_by = ? AND pipeline_state = ?
+		""";
+	private static final String RECORD_FAILURE_SQL = """
+		UPDATE article
+		SET pipeline_state = IF(failed_attempts + 1 >= ?, ?, pipeline_state),
+			claim_expires_at = IF(failed_attempts + 1 >= ?, NULL, NOW(6) + INTERVAL ? * (failed_attempts + 1) SECOND),
+			claimed_by = NULL,
+			failed_attempts = failed_attempts + 1,
+			updated_at = updated_at
+		WHERE id = ? AND claimed_by = ? AND pipeline_state = ?
+		""";
+	private static final String MARK_INDEXED_SQL = """
+		UPDATE article SET pipeline_state = ?, updated_at = updated_at WHERE id = ? AND pipeline_state = ?
+		""";
+
+	private final JdbcTemplate jdbcTemplate;
+	private final FloatArrayToBinaryConverter floatArrayToBinaryConverter;
+
+	/**
+	 * 기사 목록을 JDBC 배치로 저장한다.
+	 * 중복 링크가 포함된 경우 DataIntegrityViolationException이 발생한다.
+	 *
+	 * @param articles 저장할 기사 목록
+	 * @since 2025-05-21
+	 */
+	public void insertAll(List<ArticleEntity> articles) {
+		LocalDateTime createdAt = LocalDateTime.now();
+		jdbcTemplate.batchUpdate(INSERT_ARTICLE_SQL, articles, articles.size(),
+			(ps, article) -> bindArticle(ps, article, createdAt));
+	}
+
+	/**
+	 * 기사 한 건을 저장한다.
+	 *
+	 * @param article 저장할 기사
+	 * @since 2025-05-21
+	 */
+	public void insert(ArticleEntity article) {
+		LocalDateTime createdAt = LocalDateTime.now();
+		jdbcTemplate.update(INSERT_ARTICLE_SQL, ps -> bindArticle(ps, article, createdAt));
+	}
+
+	/**
+	 * 기사별 요약을 JDBC 배치로 갱신하고 SUMMARIZED 상태로 전이한다.
+	 * 작업 점유도 함께 해제한다.
+	 * owner가 점유 중인 COLLECTED 상태 기사만 갱신하므로, lease가 지나 다른 노드가 가져갔거나
+	 * 이미 다른 상태로 바뀐 기사는 갱신되지 않는다.
+	 *
+	 * @param ids 기사 ID 목록
+	 * @param summaries ids와 같은 순서의 요약 목록
+	 * @param owner 기사를 점유한 노드 식별자
+	 * @return 실제로 갱신된 기사 ID 목록
+	 * @since 2025-05-22
+	 * @modified 2025-05-22 점유 노드와 상태 조건 추가, 갱신된 ID 반환
+	 */
+	public List<Long> updateSummaries(List<Long> ids, List<String> summaries, String owner) {
+		int[] counts = jdbcTemplate.batchUpdate(UPDATE_SUMMARY_SQL, new BatchPreparedStatementSetter() {
+			@Override
+			public void setValues(PreparedStatement ps, int i) throws SQLException {
+				ps.setString(1, summaries.get(i));
+				ps.setByte(2, ArticlePipelineState.SUMMARIZED.getCode());
+				ps.setLong(3, ids.get(i));
+				ps.setString(4, owner);
+				ps.setByte(5, ArticlePipelineState.COLLECTED.getCode());
+			}
+
+			@Override
+			public int getBatchSize() {
+				return ids.size();
+			}
+		});
+		return updatedIds(ids, counts);
+	}
+
+	/**
+	 * 기사별 요약 벡터를 바이너리로 인코딩하여 JDBC 배치로 갱신하고 EMBEDDED 상태로 전이한다.
+	 * 작업 점유도 함께 해제한다.
+	 * 인코딩 형식은 엔티티 매핑과 같은 {@link FloatArrayToBinaryConverter} 설정을 따른다.
+	 * owner가 점유 중인 SUMMARIZED 상태 기사만 갱신한다.
+	 *
+	 * @param ids 기사 ID 목록
+	 * @param vectors ids와 같은 순서의 요약 벡터 목록
+	 * @param owner 기사를 점유한 노드 식별자
+	 * @return 실제로 갱신된 기사 ID 목록
+	 * @since 2025-05-22
+	 * @modified 2025-05-22 점유 노드와 상태 조건 추가, 갱신된 ID 반환
+	 */
+	public List<Long> updateSummaryVectors(List<Long> ids, List<float[]> vectors, String owner) {
+		int[] counts = jdbcTemplate.batchUpdate(UPDATE_SUMMARY_VECTOR_SQL, new BatchPreparedStatementSetter() {
+			@Override
+			public void setValues(PreparedStatement ps, int i) throws SQLException {
+				ps.setBytes(1, floatArrayToBinaryConverter.convertToDatabaseColumn(vectors.get(i)));
+				ps.setByte(2, ArticlePipelineState.EMBEDDED.getCode());
+				ps.setLong(3, ids.get(i));
+				ps.setString(4, owner);
+				ps.setByte(5, ArticlePipelineState.SUMMARIZED.getCode());
+			}
+
+			@Override
+			public int getBatchSize() {
+				return ids.size();
+			}
+		});
+		return updatedIds(ids, counts);
+	}
+
+	/**
+	 * 처리에 실패한 기사의 실패 횟수를 늘리고 작업 점유를 해제한다.
+	 * 실패 횟수가 maxAttempts에 닿으면 failed 상태로 전이하고, 그 전에는 from 상태로 남겨
+	 * (backoff × 실패 횟수)가 지난 뒤 다시 점유되도록 한다.
+	 * owner가 점유 중인 from 상태 기사만 갱신하므로, lease가 지나 다른 노드가 가져간 기사의 처리 결과를 덮어쓰지 않는다.
+	 * 상태 변경만으로 증분 색인 대상이 되지 않도록 updated_at은 유지한다.
+	 *
+	 * @param id 기사 ID
+	 * @param from 처리 중인 상태
+	 * @param failed 재시도 횟수를 모두 쓴 경우 전이할 실패 상태
+	 * @param owner 기사를 점유한 노드 식별자
+	 * @param maxAttempts 실패 상태로 전이하기까지의 최대 처리 횟수
+	 * @param backoff 실패 1회당 다시 점유하기까지 기다릴 시간
+	 * @return 갱신되었으면 true
+	 * @since 2025-05-22
+	 */
+	public boolean recordFailure(Long id, ArticlePipelineState from, ArticlePipelineState failed, String owner,
+		int maxAttempts, Duration backoff) {
+		return jdbcTemplate.update(RECORD_FAILURE_SQL,
+			maxAttempts, failed.getCode(), maxAttempts, Math.max(1, backoff.toSeconds()),
+			id, owner, from.getCode()) > 0;
+	}
+
+	/**
+	 * EMBEDDED 상태의 기사를 INDEXED 상태로 전이한다.
+	 * 상태 변경만으로 updated_at이 갱신되면 증분 색인 대상에 다시 포함되므로 updated_at은 유지한다.
+	 *
+	 * @param ids 색인된 기사 ID 목록
+	 * @since 2025-05-22
+	 */
+	public void markIndexed(List<Long> ids) {
+		jdbcTemplate.batchUpdate(MARK_INDEXED_SQL, ids, ids.size(), (ps, id) -> {
+			ps.setByte(1, ArticlePipelineState.INDEXED.getCode());
+			ps.setLong(2, id);
+			ps.setByte(3, ArticlePipelineState.EMBEDDED.getCode());
+		});
+	}
+
+	/**
+	 * 배치 결과에서 갱신된 행의 ID만 고른다.
+	 * 드라이버가 건수를 알려주지 않은 경우(SUCCESS_NO_INFO)는 갱신된 것으로 본다.
+	 */
+	private List<Long> updatedIds(List<Long> ids, int[] counts) {
+		List<Long> updated = new ArrayList<>(ids.size());
+		for (int i = 0; i < ids.size(); i++) {
+			if (counts[i] != 0) {
+				updated.add(ids.get(i));
+			}
+		}
+		return updated;
+	}
+
+	private void bindArticle(PreparedStatement ps, ArticleEntity article, LocalDateTime createdAt)
+		throws SQLException {
+		ps.setString(1, article.getTitle());
+		ps.setString(2, article.getLink());
+		ps.setTimestamp(3, article.getPubDate() == null ? null : Timestamp.valueOf(article.getPubDate()));
+		ps.setString(4, article.getCategory());
+		ps.setString(5, article.getGuid());
+		ps.setString(6, article.getDescription());
+		ps.setString(7, article.getImageUrl());
+		ps.setTimestamp(8, Timestamp.valueOf(createdAt));
+		ps.setByte(9, ArticlePipelineState.COLLECTED.getCode());
+	}
+}
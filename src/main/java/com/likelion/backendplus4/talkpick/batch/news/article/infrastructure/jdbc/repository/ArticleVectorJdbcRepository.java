@@ -0,0 +1,138 @@
+package com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.jdbc.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.jpa.converter.FloatArrayToBinaryConverter;
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.jpa.converter.VectorStorageFormat;
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.jpa.entity.ArticlePipelineState;
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.vector.EmbeddingProfile;
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.vector.VectorCatchUpCursor;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * article.summary_vector_bin 컬럼에 대한 JDBC 리포지토리.
+ *
+ * - 프로세스 내 벡터 인덱스를 DB와 맞추기 위해 벡터를 (updated_at, id) 순서로 읽는다
+ * - 임베딩 프로필과 차원 수가 다른 벡터를 찾아 재임베딩 대상(SUMMARIZED)으로 되돌린다
+ *
+ * 저장된 벡터의 차원 수는 첫 바이트(형식 코드)와 바이트 길이로 판별하므로 벡터를 읽지 않는다.
+ *
+ * @since 2025-05-22
+ * @modified 2025-05-22 차원 수가 다른 벡터 조회 및 재임베딩 상태 전이 추가
+ * @modified 2025-05-22 id 대신 (updated_at, id) 키셋으로 벡터 조회
+ */
+@Repository
+@RequiredArgsConstructor
+public class ArticleVectorJdbcRepository {
+	private static final String SELECT_VECTORS_CHANGED_AFTER_SQL = """
+		SELECT id, summary_vector_bin, updated_at
+			FROM article
+		WHERE updated_at >= ?
+			AND (updated_at > ? OR id > ?)
+			AND updated_at <= ?
+			AND summary_vector_bin IS NOT NULL
+		ORDER BY updated_at, id
+		LIMIT ?
+		""";
+	private static final String SELECT_MISMATCHED_IDS_SQL = """
+		SELECT id
+			FROM article
+		WHERE pipeline_state IN (?, ?)
+			AND id > ?
+			AND summary_vector_bin IS NOT NULL
+			AND NOT (%s)
+		ORDER BY id
+		LIMIT ?
+		""";
+	private static final String MATCHING_FORMAT_CONDITION =
+		"(ASCII(summary_vector_bin) = ? AND LENGTH(summary_vector_bin) = ?)";
+	private static final String RESET_FOR_REEMBEDDING_SQL = """
+		UPDATE article SET pipeline_state = ?, updated_at = updated_at
+		WHERE id = ? AND pipeline_state IN (?, ?)
+		""";
+
+	private final JdbcTemplate jdbcTemplate;
+	private final FloatArrayToBinaryConverter floatArrayToBinaryConverter;
+
+	/**
+	 * 커서 이후, 변경 시각 상한까지 변경된 벡터가 있는 기사를 (updated_at, id) 오름차순으로 조회한다.
+	 * 임베딩, 재임베딩, 중복 기사 복사로 벡터가 바뀌면 updated_at이 갱신되므로, id 순서와 무관하게 모두 조회된다.
+	 *
+	 * @param cursor 이 위치 이후의 기사만 조회
+	 * @param upperBound 조회할 최대 변경 시각
+	 * @param limit 최대 조회 건수
+	 * @return 기사 ID, 벡터, 변경 시각 목록
+	 * @since 2025-05-22
+	 */
+	public List<ArticleVector> findVectorsChangedAfter(VectorCatchUpCursor cursor, LocalDateTime upperBound,
+		int limit) {
+		Timestamp lastUpdatedAt = Timestamp.valueOf(cursor.lastUpdatedAt());
+		return jdbcTemplate.query(SELECT_VECTORS_CHANGED_AFTER_SQL,
+			(rs, rowNum) -> new ArticleVector(rs.getLong("id"),
+				floatArrayToBinaryConverter.convertToEntityAttribute(rs.getBytes("summary_vector_bin")),
+				rs.getTimestamp("updated_at").toLocalDateTime()),
+			lastUpdatedAt, lastUpdatedAt, cursor.lastArticleId(), Timestamp.valueOf(upperBound), limit);
+	}
+
+	/**
+	 * 임베딩/색인된 기사 중 저장된 벡터의 차원 수가 임베딩 프로필과 다른 기사 ID를 id 오름차순으로 조회한다.
+	 *
+	 * @param embeddingProfile 기준 임베딩 프로필
+	 * @param afterId 이 ID보다 큰 기사만 조회
+	 * @param limit 최대 조회 건수
+	 * @return 기사 ID 목록
+	 * @since 2025-05-22
+	 */
+	public List<Long> findIdsWithMismatchedVectors(EmbeddingProfile embeddingProfile, long afterId, int limit) {
+		VectorStorageFormat[] formats = VectorStorageFormat.values();
+		List<Object> params = new ArrayList<>();
+		params.add(ArticlePipelineState.EMBEDDED.getCode());
+		params.add(ArticlePipelineState.INDEXED.getCode());
+		params.add(afterId);
+		for (VectorStorageFormat format : formats) {
+			params.add(format.getCode());
+			params.add(embeddingProfile.encodedLength(format));
+		}
+		params.add(limit);
+
+		String sql = SELECT_MISMATCHED_IDS_SQL.formatted(
+			String.join(" OR ", Collections.nCopies(formats.length, MATCHING_FORMAT_CONDITION)));
+		return jdbcTemplate.queryForList(sql, Long.class, params.toArray());
+	}
+
+	/**
+	 * 임베딩/색인된 기사를 SUMMARIZED 상태로 되돌려 임베딩 Step이 다시 임베딩하도록 한다.
+	 * 기존 벡터는 다시 임베딩될 때까지 유지하며, 상태 변경만으로 색인 대상이 되지 않도록 updated_at은 유지한다.
+	 *
+	 * @param ids 기사 ID 목록
+	 * @since 2025-05-22
+	 */
+	public void resetForReembedding(List<Long> ids) {
+		jdbcTemplate.batchUpdate(RESET_FOR_REEMBEDDING_SQL, ids, ids.size(), (ps, id) -> {
+			ps.setByte(1, ArticlePipelineState.SUMMARIZED.getCode());
+			ps.setLong(2, id);
+			ps.setByte(3, ArticlePipelineState.EMBEDDED.getCode());
+			ps.setByte(4, ArticlePipelineState.INDEXED.getCode());
+		});
+	}
+
+	/**
+	 * 기사 ID와 요약 벡터
+	 *
+	 * @param id 기사 ID
+	 * @param vector 요약 벡터
+	 * @param updatedAt 기사 변경 시각
+	 * @since 2025-05-22
+	 * @modified 2025-05-22 변경 시각 추가
+	 */
+	public record ArticleVector(long id, float[] vector, LocalDateTime updatedAt) {
+	}
+}
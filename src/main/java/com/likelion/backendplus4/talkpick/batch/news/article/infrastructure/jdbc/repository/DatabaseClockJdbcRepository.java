@@ -0,0 +1,35 @@
+package com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.jdbc.repository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * DB 시계(NOW(6))를 조회하는 JDBC 리포지토리.
+ * updated_at은 DB가 CURRENT_TIMESTAMP로 기록하므로, updated_at 기준 커서의 상한은
+ * 애플리케이션 시계 대신 DB 시계로 계산해야 노드와 DB 간 시계/시간대 차이의 영향을 받지 않는다.
+ *
+ * @since 2025-05-22
+ */
+@Repository
+@RequiredArgsConstructor
+public class DatabaseClockJdbcRepository {
+	private static final String SELECT_NOW_MINUS_SQL = "SELECT NOW(6) - INTERVAL ? MICROSECOND";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	/**
+	 * DB 현재 시각에서 lag만큼 이전 시각을 조회한다.
+	 *
+	 * @param lag 현재 시각에서 뺄 시간
+	 * @return DB 시계 기준 시각
+	 * @since 2025-05-22
+	 */
+	public LocalDateTime currentTimeMinus(Duration lag) {
+		return jdbcTemplate.queryForObject(SELECT_NOW_MINUS_SQL, LocalDateTime.class, lag.toNanos() / 1_000L);
+	}
+}
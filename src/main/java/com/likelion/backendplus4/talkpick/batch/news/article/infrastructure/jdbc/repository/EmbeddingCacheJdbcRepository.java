@@ -0,0 +1,93 @@
+package com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.jdbc.repository;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.jdbc.datasource.AutonomousTransactionPool;
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.jpa.converter.FloatArrayToBinaryConverter;
+
+/**
+ * embedding_cache 테이블에 대한 JDBC 리포지토리.
+ * (임베딩 모델, 텍스트 해시)를 키로 임베딩 벡터를 조회/저장한다.
+ *
+ * - 해시는 호출 측과 16진수 문자열로 주고받고, DB에는 BINARY(32)로 저장한다
+ * - 벡터 인코딩은 summary_vector_bin과 같은 {@link FloatArrayToBinaryConverter} 설정을 따른다
+ * - 이미 있는 키는 덮어쓰지 않는다
+ * - 청크 트랜잭션의 커넥션과 별개로 커밋되도록 {@link AutonomousTransactionPool}의 커넥션을 사용한다
+ *
+ * @since 2025-05-22
+ * @modified 2025-05-22 청크 트랜잭션과 다른 전용 커넥션 풀 사용
+ */
+@Repository
+public class EmbeddingCacheJdbcRepository {
+	private static final HexFormat HEX = HexFormat.of();
+	private static final String SELECT_SQL = """
+		SELECT text_hash, vector_bin
+			FROM embedding_cache
+		WHERE model = ?
+			AND text_hash IN (%s)
+		""";
+	private static final String INSERT_SQL = """
+		INSERT IGNORE INTO embedding_cache (model, text_hash, vector_bin)
+		VALUES (?, ?, ?)
+		""";
+
+	private final JdbcTemplate jdbcTemplate;
+	private final FloatArrayToBinaryConverter floatArrayToBinaryConverter;
+
+	public EmbeddingCacheJdbcRepository(AutonomousTransactionPool autonomousTransactionPool,
+		FloatArrayToBinaryConverter floatArrayToBinaryConverter) {
+		this.jdbcTemplate = autonomousTransactionPool.jdbcTemplate();
+		this.floatArrayToBinaryConverter = floatArrayToBinaryConverter;
+	}
+
+	/**
+	 * 주어진 해시에 해당하는 캐시 벡터를 조회한다.
+	 *
+	 * @param model 임베딩 모델 식별자 (모델 이름:차원 수)
+	 * @param textHashes 조회할 텍스트 해시(16진수) 목록
+	 * @return 텍스트 해시별 벡터 (캐시에 없는 해시는 포함되지 않음)
+	 * @since 2025-05-22
+	 */
+	public Map<String, float[]> findAll(String model, List<String> textHashes) {
+		if (textHashes.isEmpty()) {
+			return Map.of();
+		}
+
+		List<Object> params = new ArrayList<>(textHashes.size() + 1);
+		params.add(model);
+		textHashes.forEach(hash -> params.add(HEX.parseHex(hash)));
+		String sql = SELECT_SQL.formatted(String.join(", ", Collections.nCopies(textHashes.size(), "?")));
+
+		Map<String, float[]> vectors = new HashMap<>();
+		jdbcTemplate.query(sql, (RowCallbackHandler)rs -> {
+			vectors.put(HEX.formatHex(rs.getBytes("text_hash")),
+				floatArrayToBinaryConverter.convertToEntityAttribute(rs.getBytes("vector_bin")));
+		}, params.toArray());
+		return vectors;
+	}
+
+	/**
+	 * 텍스트 해시별 벡터를 JDBC 배치로 저장한다.
+	 *
+	 * @param model 임베딩 모델 식별자 (모델 이름:차원 수)
+	 * @param vectors 텍스트 해시(16진수)별 벡터
+	 * @since 2025-05-22
+	 */
+	public void saveAll(String model, Map<String, float[]> vectors) {
+		List<Map.Entry<String, float[]>> entries = List.copyOf(vectors.entrySet());
+		jdbcTemplate.batchUpdate(INSERT_SQL, entries, entries.size(), (ps, entry) -> {
+			ps.setString(1, model);
+			ps.setBytes(2, HEX.parseHex(entry.getKey()));
+			ps.setBytes(3, floatArrayToBinaryConverter.convertToDatabaseColumn(entry.getValue()));
+		});
+	}
+}
@@ -0,0 +1,51 @@
+package com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.jpa.adapter;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.likelion.backendplus4.talkpick.batch.index.application.port.out.NewsIndexCursorPort;
+import com.likelion.backendplus4.talkpick.batch.index.domain.model.NewsIndexCursor;
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.jpa.entity.NewsIndexCursorEntity;
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.jpa.repository.NewsIndexCursorJpaRepository;
+
+/**
+ * NewsIndexCursorPort의 구현체로, 색인 이름별 커서를 news_index_cursor 테이블에 저장하는 어댑터
+ *
+ * @since 2025-05-22
+ */
+@Component
+public class NewsIndexCursorAdapter implements NewsIndexCursorPort {
+	private final NewsIndexCursorJpaRepository newsIndexCursorJpaRepository;
+	private final String indexName;
+
+	public NewsIndexCursorAdapter(NewsIndexCursorJpaRepository newsIndexCursorJpaRepository,
+		@Value("${news.index.name}") String indexName) {
+		this.newsIndexCursorJpaRepository = newsIndexCursorJpaRepository;
+		this.indexName = indexName;
+	}
+
+	/**
+	 * 현재 색인의 커서를 조회한다.
+	 *
+	 * @return 저장된 커서 또는 초기 커서
+	 * @since 2025-05-22
+	 */
+	@Override
+	public NewsIndexCursor load() {
+		return newsIndexCursorJpaRepository.findById(indexName)
+			.map(entity -> new NewsIndexCursor(entity.getLastUpdatedAt(), entity.getLastArticleId()))
+			.orElseGet(NewsIndexCursor::initial);
+	}
+
+	/**
+	 * 현재 색인의 커서를 저장한다.
+	 *
+	 * @param cursor 저장할 커서
+	 * @since 2025-05-22
+	 */
+	@Override
+	public void save(NewsIndexCursor cursor) {
+		newsIndexCursorJpaRepository.save(
+			new NewsIndexCursorEntity(indexName, cursor.lastUpdatedAt(), cursor.lastArticleId()));
+	}
+}
@@ -0,0 +1,26 @@
+package com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.jpa.converter;
+
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.jpa.entity.ArticlePipelineState;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * {@link AttributeConverter} 구현체로, {@link ArticlePipelineState}를 TINYINT 코드로 변환한다.
+ * 문자열 enum 매핑 대비 인덱스 크기가 작아 (pipeline_state, id) 인덱스만으로 파티션 범위를 계산할 수 있다.
+ *
+ * @since 2025-05-22
+ */
+@Converter
+public class ArticlePipelineStateConverter implements AttributeConverter<ArticlePipelineState, Byte> {
+
+	@Override
+	public Byte convertToDatabaseColumn(ArticlePipelineState attribute) {
+		return attribute == null ? null : attribute.getCode();
+	}
+
+	@Override
+	public ArticlePipelineState convertToEntityAttribute(Byte dbData) {
+		return dbData == null ? null : ArticlePipelineState.fromCode(dbData);
+	}
+}
@@ -0,0 +1,61 @@
+package com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.jpa.converter;
+
+import org.springframework.stereotype.Component;
+
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.vector.EmbeddingProfile;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * {@link AttributeConverter} 구현체로, float 배열(float[])을 little-endian 바이너리로 변환하여
+ * BLOB 컬럼과 매핑한다.
+ *
+ * <p>JSON 대비 행 크기와 변환 비용이 작고, FLOAT32 형식에서는 정밀도 손실이 없다.
+ * 저장 형식은 {@link EmbeddingProfile}의 storageFormat({@code article.vector.storage-format})을 따르며,
+ * 읽을 때는 데이터에 기록된 형식을 따른다.
+ *
+ * <p>Hibernate가 Spring 빈 컨테이너를 통해 생성하므로 설정 값을 주입받을 수 있다.
+ *
+ * @since 2025-05-21
+ * @modified 2025-05-22 저장 형식을 임베딩 프로필에서 조회
+ */
+@Component
+@Converter
+public class FloatArrayToBinaryConverter implements AttributeConverter<float[], byte[]> {
+	private final VectorStorageFormat storageFormat;
+
+	public FloatArrayToBinaryConverter(EmbeddingProfile embeddingProfile) {
+		this.storageFormat = embeddingProfile.getStorageFormat();
+	}
+
+	/**
+	 * float 배열을 바이너리로 변환하여 DB에 저장한다.
+	 *
+	 * @param attribute float 배열
+	 * @return 인코딩된 바이트 배열
+	 * @since 2025-05-21
+	 */
+	@Override
+	public byte[] convertToDatabaseColumn(float[] attribute) {
+		if (attribute == null || attribute.length == 0) {
+			return null;
+		}
+		return VectorBinaryCodec.encode(attribute, storageFormat);
+	}
+
+	/**
+	 * DB에서 조회된 바이너리를 float 배열로 변환하여 엔티티에 주입한다.
+	 *
+	 * @param dbData DB에서 조회된 바이트 배열
+	 * @return float 배열
+	 * @since 2025-05-21
+	 */
+	@Override
+	public float[] convertToEntityAttribute(byte[] dbData) {
+		if (dbData == null || dbData.length == 0) {
+			return new float[0];
+		}
+		return VectorBinaryCodec.decode(dbData);
+	}
+}
@@ -0,0 +1,157 @@
+package com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.jpa.converter;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.nio.ShortBuffer;
+
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.jpa.converter.exception.JpaConvertorException;
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.jpa.converter.exception.error.JpaConvertorErrorCode;
+
+/**
+ * 임베딩 벡터(float[])와 바이너리(byte[]) 사이의 변환을 담당하는 유틸리티.
+ * 모든 값은 little-endian으로 기록하며, 첫 바이트는 {@link VectorStorageFormat} 코드이다.
+ *
+ * - FLOAT32: [code][float32 * n]
+ * - FLOAT16: [code][float16 * n]
+ * - INT8:    [code][float32 scale][int8 * n], 값 = int8 * scale
+ *
+ * 결과 배열 외의 중간 객체 생성을 최소화하기 위해 ByteBuffer 뷰를 사용한다.
+ *
+ * @since 2025-05-21
+ * @modified 2025-05-22 형식별 인코딩 길이 계산 추가
+ */
+public final class VectorBinaryCodec {
+	private static final int HEADER_BYTES = 1;
+	private static final int SCALE_BYTES = Float.BYTES;
+	private static final float INT8_MAX = 127f;
+
+	private VectorBinaryCodec() {
+	}
+
+	/**
+	 * 벡터를 지정한 형식의 바이트 배열로 인코딩한다.
+	 *
+	 * @param vector 인코딩할 벡터
+	 * @param format 저장 형식
+	 * @return 인코딩된 바이트 배열
+	 * @since 2025-05-21
+	 */
+	public static byte[] encode(float[] vector, VectorStorageFormat format) {
+		return switch (format) {
+			case FLOAT32 -> encodeFloat32(vector);
+			case FLOAT16 -> encodeFloat16(vector);
+			case INT8 -> encodeInt8(vector);
+		};
+	}
+
+	/**
+	 * 주어진 차원 수의 벡터를 지정한 형식으로 인코딩했을 때의 바이트 길이를 계산한다.
+	 *
+	 * @param dimensions 벡터 차원 수
+	 * @param format 저장 형식
+	 * @return 인코딩된 바이트 길이
+	 * @since 2025-05-22
+	 */
+	public static int encodedLength(int dimensions, VectorStorageFormat format) {
+		return HEADER_BYTES + switch (format) {
+			case FLOAT32 -> dimensions * Float.BYTES;
+			case FLOAT16 -> dimensions * Short.BYTES;
+			case INT8 -> SCALE_BYTES + dimensions;
+		};
+	}
+
+	/**
+	 * 바이트 배열을 벡터로 디코딩한다. 형식은 첫 바이트에서 판별한다.
+	 *
+	 * @param data 인코딩된 바이트 배열
+	 * @return 디코딩된 벡터
+	 * @throws JpaConvertorException 형식 코드가 올바르지 않거나 길이가 맞지 않는 경우
+	 * @since 2025-05-21
+	 */
+	public static float[] decode(byte[] data) {
+		if (data.length < HEADER_BYTES) {
+			throw new JpaConvertorException(JpaConvertorErrorCode.BINARY_CONVERT_ERROR);
+		}
+		ByteBuffer buffer = ByteBuffer.wrap(data).order(ByteOrder.LITTLE_ENDIAN);
+		VectorStorageFormat format = VectorStorageFormat.fromCode(buffer.get());
+		return switch (format) {
+			case FLOAT32 -> decodeFloat32(buffer);
+			case FLOAT16 -> decodeFloat16(buffer);
+			case INT8 -> decodeInt8(buffer);
+		};
+	}
+
+	private static byte[] encodeFloat32(float[] vector) {
+		ByteBuffer buffer = newBuffer(VectorStorageFormat.FLOAT32, (long)vector.length * Float.BYTES);
+		buffer.asFloatBuffer().put(vector);
+		return buffer.array();
+	}
+
+	private static byte[] encodeFloat16(float[] vector) {
+		ByteBuffer buffer = newBuffer(VectorStorageFormat.FLOAT16, (long)vector.length * Short.BYTES);
+		ShortBuffer shorts = buffer.asShortBuffer();
+		for (float value : vector) {
+			shorts.put(Float.floatToFloat16(value));
+		}
+		return buffer.array();
+	}
+
+	private static byte[] encodeInt8(float[] vector) {
+		ByteBuffer buffer = newBuffer(VectorStorageFormat.INT8, SCALE_BYTES + (long)vector.length);
+		float maxAbs = 0f;
+		for (float value : vector) {
+			maxAbs = Math.max(maxAbs, Math.abs(value));
+		}
+		float scale = maxAbs == 0f ? 0f : maxAbs / INT8_MAX;
+		buffer.putFloat(scale);
+		for (float value : vector) {
+			int quantized = scale == 0f ? 0 : Math.round(value / scale);
+			buffer.put((byte)Math.max(-INT8_MAX, Math.min(INT8_MAX, quantized)));
+		}
+		return buffer.array();
+	}
+
+	private static float[] decodeFloat32(ByteBuffer buffer) {
+		requireMultipleOf(buffer.remaining(), Float.BYTES);
+		FloatBuffer floats = buffer.asFloatBuffer();
+		float[] vector = new float[floats.remaining()];
+		floats.get(vector);
+		return vector;
+	}
+
+	private static float[] decodeFloat16(ByteBuffer buffer) {
+		requireMultipleOf(buffer.remaining(), Short.BYTES);
+		ShortBuffer shorts = buffer.asShortBuffer();
+		float[] vector = new float[shorts.remaining()];
+		for (int i = 0; i < vector.length; i++) {
+			vector[i] = Float.float16ToFloat(shorts.get(i));
+		}
+		return vector;
+	}
+
+	private static float[] decodeInt8(ByteBuffer buffer) {
+		if (buffer.remaining() < SCALE_BYTES) {
+			throw new JpaConvertorException(JpaConvertorErrorCode.BINARY_CONVERT_ERROR);
+		}
+		float scale = buffer.getFloat();
+		float[] vector = new float[buffer.remaining()];
+		for (int i = 0; i < vector.length; i++) {
+			vector[i] = buffer.get() * scale;
+		}
+		return vector;
+	}
+
+	private static ByteBuffer newBuffer(VectorStorageFormat format, long payloadBytes) {
+		ByteBuffer buffer = ByteBuffer.allocate(Math.toIntExact(HEADER_BYTES + payloadBytes))
+			.order(ByteOrder.LITTLE_ENDIAN);
+		buffer.put(format.getCode());
+		return buffer;
+	}
+
+	private static void requireMultipleOf(int length, int unit) {
+		if (length % unit != 0) {
+			throw new JpaConvertorException(JpaConvertorErrorCode.BINARY_CONVERT_ERROR);
+		}
+	}
+}
@@ -0,0 +1,43 @@
+package com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.jpa.converter;
+
+import java.util.Arrays;
+
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.jpa.converter.exception.JpaConvertorException;
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.jpa.converter.exception.error.JpaConvertorErrorCode;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 임베딩 벡터의 바이너리 저장 형식.
+ * 저장되는 바이트 배열의 첫 바이트에 형식 코드를 기록하여, 형식이 섞여 있어도 읽을 수 있도록 한다.
+ *
+ * - FLOAT32: 차원당 4바이트 (손실 없음)
+ * - FLOAT16: 차원당 2바이트 (반정밀도)
+ * - INT8: 차원당 1바이트 + 스케일 4바이트 (대칭 양자화)
+ *
+ * @since 2025-05-21
+ */
+@Getter
+@RequiredArgsConstructor
+public enum VectorStorageFormat {
+	FLOAT32((byte)1),
+	FLOAT16((byte)2),
+	INT8((byte)3);
+
+	private final byte code;
+
+	/**
+	 * 형식 코드로 저장 형식을 조회한다.
+	 *
+	 * @param code 바이트 배열 첫 바이트의 형식 코드
+	 * @return 저장 형식
+	 * @throws JpaConvertorException 알 수 없는 형식 코드인 경우
+	 */
+	public static VectorStorageFormat fromCode(byte code) {
+		return Arrays.stream(values())
+			.filter(format -> format.code == code)
+			.findFirst()
+			.orElseThrow(() -> new JpaConvertorException(JpaConvertorErrorCode.BINARY_CONVERT_ERROR));
+	}
+}
@@ -32,7 +32,9 @@ import lombok.RequiredArgsConstructor;
  */
 @RequiredArgsConstructor
 public enum JpaConvertorErrorCode implements ErrorCode {
-	JSON_CONVERT_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, 440003, "JSON 컨버터 타입 변환 실패");
+	JSON_CONVERT_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, 440003, "JSON 컨버터 타입 변환 실패"),
+	BINARY_CONVERT_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, 440004, "바이너리 벡터 변환 실패"),
+	PIPELINE_STATE_CONVERT_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, 440005, "알 수 없는 파이프라인 상태 코드");
 
 	private final HttpStatus status;
 	private final int code;
@@ -2,7 +2,8 @@ package com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.jpa
 
 import java.time.LocalDateTime;
 
-import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.jpa.converter.FloatArrayToJsonConverter;
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.jpa.converter.ArticlePipelineStateConverter;
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.jpa.converter.FloatArrayToBinaryConverter;
 
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
@@ -30,6 +31,11 @@ import lombok.ToString;
  * @ToString exclude로 대량의 텍스트필드 로그에서 제외
  * @Data -> @Getter후 Setter는 개별 지정해서 식별자 보호
  * @EqualsAndHashCode 지정으로 갹채 비교 최적화
+ * @modified 2025-05-21 summaryVector를 JSON 컬럼에서 바이너리(BLOB) 컬럼으로 변경
+ * @modified 2025-05-22 증분 색인용 updatedAt 추가 (DB가 관리)
+ * @modified 2025-05-22 처리 단계를 나타내는 pipelineState 추가
+ * @modified 2025-05-22 다중 노드 작업 점유용 claimedBy, claimExpiresAt 추가 (DB가 관리)
+ * @modified 2025-05-22 유사 중복 판별용 simhash, canonicalArticleId 추가 (DB가 관리)
  */
 @Entity
 @Table(name = "article", uniqueConstraints = @UniqueConstraint(columnNames = {"link"}))
@@ -86,15 +92,35 @@ public class ArticleEntity {
 	@Column(name = "created_at")
 	private LocalDateTime createdAt;
 
+	@Column(name = "updated_at", insertable = false, updatable = false)
+	private LocalDateTime updatedAt;
+
     @Setter
     @Column(name = "summary", columnDefinition = "TEXT")
     @Size(max = 1000, message = "요약은 최대 1000자까지 허용됩니다")
     private String summary;
 
-	@Convert(converter = FloatArrayToJsonConverter.class)
-	@Column(name = "summary_vector", columnDefinition = "JSON")
+	@Convert(converter = FloatArrayToBinaryConverter.class)
+	@Column(name = "summary_vector_bin", columnDefinition = "BLOB")
 	private float[] summaryVector;
 
+	@Builder.Default
+	@Convert(converter = ArticlePipelineStateConverter.class)
+	@Column(name = "pipeline_state", nullable = false, columnDefinition = "TINYINT")
+	private ArticlePipelineState pipelineState = ArticlePipelineState.COLLECTED;
+
+	@Column(name = "claimed_by", insertable = false, updatable = false)
+	private String claimedBy;
+
+	@Column(name = "claim_expires_at", insertable = false, updatable = false)
+	private LocalDateTime claimExpiresAt;
+
+	@Column(name = "simhash", insertable = false, updatable = false)
+	private Long simhash;
+
+	@Column(name = "canonical_article_id", insertable = false, updatable = false)
+	private Long canonicalArticleId;
+
 	public ArticleEntity changeSummaryVector(float[] vector) {
 		summaryVector = vector;
 		return this;
@@ -0,0 +1,50 @@
+package com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.jpa.entity;
+
+import java.util.Arrays;
+
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.jpa.converter.exception.JpaConvertorException;
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.jpa.converter.exception.error.JpaConvertorErrorCode;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 기사 처리 파이프라인 단계.
+ * article.pipeline_state(TINYINT) 컬럼에 코드로 저장되며, 각 Step은 (pipeline_state, id) 인덱스로 대상 기사를 찾는다.
+ *
+ * - COLLECTED → SUMMARIZED → EMBEDDED → INDEXED 순서로 진행
+ * - 처리에 실패한 기사는 같은 단계에서 잠시 뒤 다시 처리되고, 재시도 횟수를 모두 쓰면 단계별 실패 상태로 표시되어
+ *   다음 실행 대상에서 제외
+ * - 다른 기사와 거의 같은 기사는 DUPLICATE로 대기하다가 대표 기사의 요약/벡터를 복사받아 EMBEDDED로 전이
+ *
+ * @since 2025-05-22
+ * @modified 2025-05-22 유사 중복 기사 상태(DUPLICATE) 추가
+ * @modified 2025-05-22 실패 상태는 재시도 횟수를 모두 쓴 기사에만 사용
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ArticlePipelineState {
+	COLLECTED((byte)0),
+	SUMMARIZED((byte)1),
+	EMBEDDED((byte)2),
+	INDEXED((byte)3),
+	DUPLICATE((byte)4),
+	SUMMARY_FAILED((byte)11),
+	EMBEDDING_FAILED((byte)12);
+
+	private final byte code;
+
+	/**
+	 * 코드로 파이프라인 상태를 조회한다.
+	 *
+	 * @param code pipeline_state 컬럼 값
+	 * @return 파이프라인 상태
+	 * @throws JpaConvertorException 알 수 없는 코드인 경우
+	 */
+	public static ArticlePipelineState fromCode(byte code) {
+		return Arrays.stream(values())
+			.filter(state -> state.code == code)
+			.findFirst()
+			.orElseThrow(() -> new JpaConvertorException(JpaConvertorErrorCode.PIPELINE_STATE_CONVERT_ERROR));
+	}
+}
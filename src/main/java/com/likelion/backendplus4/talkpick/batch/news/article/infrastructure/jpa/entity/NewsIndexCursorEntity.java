@@ -0,0 +1,35 @@
+package com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.jpa.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 색인별 마지막 색인 위치를 저장하는 엔티티
+ *
+ * @since 2025-05-22
+ */
+@Entity
+@Table(name = "news_index_cursor")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class NewsIndexCursorEntity {
+
+	@Id
+	@Column(name = "index_name", length = 100)
+	private String indexName;
+
+	@Column(name = "last_updated_at", nullable = false)
+	private LocalDateTime lastUpdatedAt;
+
+	@Column(name = "last_article_id", nullable = false)
+	private Long lastArticleId;
+}
@@ -0,0 +1,12 @@
+package com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.jpa.projection;
+
+/**
+ * 요약 대상 기사의 ID, GUID, 본문 조회 결과
+ *
+ * @since 2025-05-22
+ */
+public record ArticleDescriptionProjection(Long id, String guid, String description) {
+	public ArticleDescriptionProjection {
+		description = description != null ? description : "";
+	}
+}
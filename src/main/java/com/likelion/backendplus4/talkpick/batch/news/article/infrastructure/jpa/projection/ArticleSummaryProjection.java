@@ -0,0 +1,9 @@
+package com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.jpa.projection;
+
+/**
+ * 임베딩 대상 기사의 ID, 요약 조회 결과
+ *
+ * @since 2025-05-22
+ */
+public record ArticleSummaryProjection(Long id, String summary) {
+}
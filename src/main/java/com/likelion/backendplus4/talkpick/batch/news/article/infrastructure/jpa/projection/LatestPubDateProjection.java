@@ -0,0 +1,14 @@
+package com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.jpa.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * 언론사 GUID 접두어와 카테고리별 최신 발행일 조회 결과
+ *
+ * @param guidPrefix 언론사 GUID 접두어 (예: "KM")
+ * @param category 카테고리 표시 이름
+ * @param latestPubDate 가장 최신 발행일
+ * @since 2025-05-21
+ */
+public record LatestPubDateProjection(String guidPrefix, String category, LocalDateTime latestPubDate) {
+}
@@ -0,0 +1,10 @@
+package com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.jpa.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.jpa.entity.NewsIndexCursorEntity;
+
+@Repository
+public interface NewsIndexCursorJpaRepository extends JpaRepository<NewsIndexCursorEntity, String> {
+}
@@ -1,6 +1,7 @@
 package com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.jpa.repository;
 
-import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -8,6 +9,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.jpa.entity.ArticleEntity;
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.jpa.projection.LatestPubDateProjection;
 
 @Repository
 public interface NewsInfoJpaRepository extends JpaRepository<ArticleEntity, Long> {
@@ -15,11 +17,22 @@ public interface NewsInfoJpaRepository extends JpaRepository<ArticleEntity, Long
 	boolean existsByLink(String link);
 
 	/**
-	 * 특정 언론사의 가장 최신 기사 발행일 조회
+	 * 주어진 링크 중 이미 저장된 링크 목록 조회
 	 *
-	 * @param guidPrefix 언론사 GUID 접두어 (예: "KM", "DA", "KH")
-	 * @return 가장 최신 발행일
+	 * @param links 확인할 링크 목록
+	 * @return 이미 저장된 링크 목록
 	 */
-	@Query("SELECT MAX(a.pubDate) FROM ArticleEntity a WHERE a.guid LIKE CONCAT(:guidPrefix, '%')")
-	LocalDateTime findLatestPubDateByGuidPrefix(@Param("guidPrefix") String guidPrefix);
+	@Query("SELECT a.link FROM ArticleEntity a WHERE a.link IN :links")
+	List<String> findExistingLinks(@Param("links") Collection<String> links);
+
+	/**
+	 * 언론사 GUID 접두어와 카테고리별 가장 최신 기사 발행일 조회
+	 * 워터마크 초기 적재 시 한 번만 호출된다.
+	 *
+	 * @return 접두어/카테고리별 최신 발행일 목록
+	 */
+	@Query("SELECT new com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.jpa.projection"
+		+ ".LatestPubDateProjection(SUBSTRING(a.guid, 1, 2), a.category, MAX(a.pubDate)) "
+		+ "FROM ArticleEntity a GROUP BY SUBSTRING(a.guid, 1, 2), a.category")
+	List<LatestPubDateProjection> findLatestPubDatesByGuidPrefixAndCategory();
 }
\ No newline at end of file
@@ -6,51 +6,53 @@ import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
 import org.springframework.batch.item.ItemWriter;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.task.TaskExecutor;
 import org.springframework.transaction.PlatformTransactionManager;
 
-import com.likelion.backendplus4.talkpick.batch.news.article.exception.ArticleCollectorException;
-import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.jpa.entity.ArticleEntity;
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.jpa.projection.ArticleDescriptionProjection;
 import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.summary.batch.partitioner.ArticleSummaryPartitioner;
-import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.summary.batch.processor.ArticleSummaryProcessor;
 import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.summary.batch.reader.ArticleSummaryPageReader;
 
 /**
  * 배치 작업에서 기사 요약 처리를 위한 파티셔닝 및 슬레이브 Step을 설정하는 구성 클래스.
  *
  * @since 2025-05-17
+ * @modified 2025-05-21 요약을 Writer에서 청크 단위 비동기로 수행하도록 변경
+ * @modified 2025-05-22 건너뛴 기사를 SUMMARY_FAILED 상태로 표시
+ * @modified 2025-05-22 최대 파티션 수를 설정값으로 변경
+ * @modified 2025-05-22 작업 전용 파티션 Executor 사용
+ * @modified 2025-05-22 요약 예외(ArticleSummaryException)에 대해 재시도 및 건너뛰기
+ * @modified 2025-05-22 기사별 실패는 Writer가 기록하므로 Step의 재시도/건너뛰기 설정 제거
  */
 @Configuration
 public class SummaryStepConfig {
 	private static final String partitionedStepName = "articleSummaryStep";
-	private final String executorName = "normalExecutor";
+	private final String executorName = "summaryPartitionExecutor";
 	private final String summaryStepName = "articleSummarySlaveStep";
-	private final int gridSize = 5;
 	private final int chunkSize = 100;
-	private final int retryLimit = 3;
-	private final int skipLimit = 100;
 	private final JobRepository jobRepository;
 	private final Partitioner partitioner;
 	private final PlatformTransactionManager transactionManager;
 	private final TaskExecutor taskExecutor;
-	private final ArticleSummaryProcessor summaryProcessor;
-	private final ItemWriter<ArticleEntity> writer;
+	private final ItemWriter<ArticleDescriptionProjection> writer;
+	private final int gridSize;
 
 	public SummaryStepConfig(JobRepository jobRepository,
 		ArticleSummaryPartitioner partitioner,
 		PlatformTransactionManager platformTransactionManager,
 		@Qualifier(executorName)
 		TaskExecutor taskExecutor,
-		ArticleSummaryProcessor summaryProcessor,
-		ItemWriter<ArticleEntity> articleSummaryWriter) {
+		ItemWriter<ArticleDescriptionProjection> articleSummaryWriter,
+		@Value("${article.partition.max-grid-size:10}") int gridSize) {
 		this.jobRepository = jobRepository;
 		this.partitioner = partitioner;
 		this.transactionManager = platformTransactionManager;
 		this.taskExecutor = taskExecutor;
-		this.summaryProcessor = summaryProcessor;
 		this.writer = articleSummaryWriter;
+		this.gridSize = gridSize;
 	}
 
 	/**
@@ -74,25 +76,24 @@ public class SummaryStepConfig {
 
 	/**
 	 * 기사 데이터를 요약 처리하는 슬레이브 Step을 정의한다.
-	 * 청크 기반으로 데이터를 읽고, 처리하고, 쓰며, 오류에 대해 재시도 및 건너뛰기를 허용한다.
+	 * 청크 기반으로 데이터를 읽고, Writer에서 청크 단위로 요약 후 저장한다.
+	 * 요약 API 오류는 Writer가 기사별로 실패 횟수를 기록하여 다음 실행에서 다시 요약하므로,
+	 * 이미 요약된 기사까지 다시 요약하게 되는 청크 재시도/건너뛰기는 설정하지 않는다.
+	 * Writer 밖으로 전파되는 예외(요약 대기 중 인터럽트, DB 오류)는 Step을 실패시키고,
+	 * 점유된 기사는 lease가 지난 뒤 다시 처리된다.
 	 *
 	 * @param reader 기사 데이터를 읽는 Reader
 	 * @return 슬레이브 Step Bean
 	 * @author 함예정
 	 * @since 2025-05-17
+	 * @modified 2025-05-22 재시도/건너뛰기 설정 제거
 	 */
 	@Bean
 	public Step articleSummarySlaveStep(ArticleSummaryPageReader reader) {
 		return new StepBuilder(summaryStepName, jobRepository)
-			.<ArticleEntity, ArticleEntity>chunk(chunkSize, transactionManager)
+			.<ArticleDescriptionProjection, ArticleDescriptionProjection>chunk(chunkSize, transactionManager)
 			.reader(reader)
-			.processor(summaryProcessor)
 			.writer(writer)
-			.faultTolerant()
-			.retry(ArticleCollectorException.class)
-			.retryLimit(retryLimit)
-			.skip(ArticleCollectorException.class)
-			.skipLimit(skipLimit)
 			.build();
 	}
 }
@@ -32,6 +32,8 @@ import lombok.RequiredArgsConstructor;
  */
 @RequiredArgsConstructor
 public enum ArticleSummaryErrorCode implements ErrorCode {
+	API_CALL_INTERRUPTED(HttpStatus.SERVICE_UNAVAILABLE, 440001, "요약 API 호출 대기 중 중단되었습니다"),
+	API_CALL_ERROR(HttpStatus.SERVICE_UNAVAILABLE, 440002, "요약 API 호출 실패"),
 	ITEM_NOT_FOUND(HttpStatus.SERVICE_UNAVAILABLE, 450001, "요약할 뉴스가 없습니다");
 
 	private final HttpStatus status;
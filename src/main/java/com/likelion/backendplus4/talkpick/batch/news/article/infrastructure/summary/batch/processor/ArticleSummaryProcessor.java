@@ -1,42 +1,149 @@
 package com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.summary.batch.processor;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
+
 import org.springframework.ai.chat.client.ChatClient;
-import org.springframework.batch.item.ItemProcessor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.stereotype.Component;
 
-import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.jpa.entity.ArticleEntity;
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.jpa.projection.ArticleDescriptionProjection;
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.summary.batch.exception.ArticleSummaryException;
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.summary.batch.exception.error.ArticleSummaryErrorCode;
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.support.ratelimit.TokenBucketRateLimiter;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 /**
- * 뉴스 기사를 AI 모델을 통해 요약 처리하는 ItemProcessor 구현체.
- * 입력으로 받은 ArticleEntity의 본문을 요약하여 summary 필드에 설정한 후 반환한다.
+ * 뉴스 기사를 AI 모델을 통해 요약 처리하는 컴포넌트.
+ * {@link #processAll(List)}로 청크의 요약 요청을 비동기로 파이프라이닝한다.
+ *
+ * - in-flight 윈도우: 전체 파티션에서 동시에 진행 중인 요약 요청 수 제한
+ * - Rate Limiter: 분당 요청 수(RPM)와 분당 토큰 수(TPM) 제한
+ * - 결과는 청크 순서대로 반환
+ * - 기사별 실패는 다른 기사의 요약에 영향을 주지 않도록 결과에 담아 반환
  *
  * @since 2025-05-17
+ * @modified 2025-05-21 비동기, Rate Limit 기반 청크 단위 요약 추가
+ * @modified 2025-05-22 엔티티 대신 (id, guid, description) 프로젝션을 입력받고 요약 목록을 반환
+ * @modified 2025-05-22 기사별 성공/실패 결과 반환
+ * @modified 2025-05-22 요약 API 오류를 ArticleSummaryException으로 변환
  */
 @Component
-@RequiredArgsConstructor
 @Slf4j
-public class ArticleSummaryProcessor implements ItemProcessor<ArticleEntity, ArticleEntity> {
+public class ArticleSummaryProcessor {
 	private final String prompt = "Summarize the following news in 3–5 concise sentences, objectively, in Korean.\n\n news: \n";
 	private final ChatClient chatClient;
+	private final TaskExecutor llmExecutor;
+	private final Semaphore inFlightWindow;
+	private final TokenBucketRateLimiter rateLimiter;
+	private final int maxCompletionTokens;
+
+	public ArticleSummaryProcessor(ChatClient chatClient,
+		@Qualifier("llmExecutor") TaskExecutor llmExecutor,
+		@Value("${spring.ai.openai.summary.max-in-flight:16}") int maxInFlight,
+		@Value("${spring.ai.openai.summary.requests-per-minute:500}") int requestsPerMinute,
+		@Value("${spring.ai.openai.summary.tokens-per-minute:200000}") int tokensPerMinute,
+		@Value("${spring.ai.openai.summary.maxCompletionTokens}") int maxCompletionTokens) {
+		this.chatClient = chatClient;
+		this.llmExecutor = llmExecutor;
+		this.inFlightWindow = new Semaphore(maxInFlight);
+		this.rateLimiter = new TokenBucketRateLimiter(requestsPerMinute, tokensPerMinute);
+		this.maxCompletionTokens = maxCompletionTokens;
+	}
 
 	/**
-	 * 기사 내용을 AI를 통해 요약하고, 요약 결과를 ArticleEntity에 설정하여 반환한다.
+	 * 여러 기사를 비동기로 요약하고, 청크 순서대로 기사별 결과를 반환한다.
+	 * in-flight 윈도우가 가득 차면 다음 요청 제출을 대기한다.
+	 * 한 기사의 요약이 실패해도 나머지 기사의 요약은 그대로 반환하여,
+	 * 재시도나 건너뛰기 과정에서 청크 전체를 다시 요약하지 않도록 한다.
 	 *
-	 * @param item 요약할 뉴스 기사 엔티티
-	 * @return 요약이 포함된 뉴스 기사 엔티티
-	 * @author 함예정
-	 * @since 2025-05-17
+	 * @param items 요약할 기사 (id, guid, description) 목록
+	 * @return items와 같은 순서의 기사별 요약 결과 목록
+	 * @since 2025-05-21
+	 * @modified 2025-05-22 엔티티에 설정하는 대신 요약 목록 반환
+	 * @modified 2025-05-22 첫 실패를 던지는 대신 기사별 성공/실패 결과 반환
+	 */
+	public List<SummaryResult> processAll(List<? extends ArticleDescriptionProjection> items) {
+		List<CompletableFuture<String>> futures = new ArrayList<>(items.size());
+		try {
+			for (ArticleDescriptionProjection item : items) {
+				log.info("뉴스 요약: id = {}, guid = {}", item.id(), item.guid());
+				acquireWindow();
+				futures.add(submitSummary(item.description()));
+			}
+		} catch (RuntimeException e) {
+			futures.forEach(future -> future.cancel(true));
+			throw e;
+		}
+
+		List<SummaryResult> results = new ArrayList<>(items.size());
+		for (int i = 0; i < items.size(); i++) {
+			results.add(join(items.get(i).id(), futures.get(i)));
+		}
+		return results;
+	}
+
+	/**
+	 * 요약 요청을 비동기로 제출한다. 요청은 Rate Limiter를 통과한 뒤 전송되며,
+	 * 완료되면 in-flight 윈도우를 반환한다.
+	 *
+	 * @param text 뉴스 기사 본문
+	 * @return 요약 결과 Future
+	 * @since 2025-05-21
+	 */
+	private CompletableFuture<String> submitSummary(String text) {
+		try {
+			return CompletableFuture.supplyAsync(() -> {
+				try {
+					rateLimiter.acquire(estimateTokens(text));
+					return getSummary(text);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					throw new ArticleSummaryException(ArticleSummaryErrorCode.API_CALL_INTERRUPTED, e);
+				} finally {
+					inFlightWindow.release();
+				}
+			}, llmExecutor);
+		} catch (RuntimeException e) {
+			inFlightWindow.release();
+			throw e;
+		}
+	}
+
+	private void acquireWindow() {
+		try {
+			inFlightWindow.acquire();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new ArticleSummaryException(ArticleSummaryErrorCode.API_CALL_INTERRUPTED, e);
+		}
+	}
+
+	private SummaryResult join(Long id, CompletableFuture<String> future) {
+		try {
+			return SummaryResult.success(id, future.join());
+		} catch (CompletionException e) {
+			RuntimeException cause = e.getCause() instanceof RuntimeException runtime ? runtime : e;
+			return SummaryResult.failure(id, cause);
+		}
+	}
+
+	/**
+	 * 요청에 사용될 토큰 수를 추정한다. 입력은 문자 수, 출력은 최대 완성 토큰 수로 계산한다.
+	 *
+	 * @param text 뉴스 기사 본문
+	 * @return 추정 토큰 수
+	 * @since 2025-05-21
 	 */
-	@Override
-	public ArticleEntity process(ArticleEntity item) {
-		log.info("뉴스 요약: id = {}, guid = {}", item.getId(), item.getGuid());
-		String newsContent = item.getDescription();
-		String summary = getSummary(newsContent);
-		item.setSummary(summary);
-		return item;
+	private int estimateTokens(String text) {
+		int inputLength = prompt.length() + (null == text ? 0 : text.length());
+		return inputLength + maxCompletionTokens;
 	}
 
 	/**
@@ -44,10 +151,38 @@ public class ArticleSummaryProcessor implements ItemProcessor<ArticleEntity, Art
 	 *
 	 * @param text 뉴스 기사 본문
 	 * @return 요약된 텍스트
+	 * @throws ArticleSummaryException API 호출 중 오류 발생 시
 	 * @author 함예정
 	 * @since 2025-05-17
+	 * @modified 2025-05-22 API 호출 오류를 ArticleSummaryException으로 변환
 	 */
 	private String getSummary(String text) {
-		return chatClient.prompt().user(prompt + text).call().content();
+		try {
+			return chatClient.prompt().user(prompt + text).call().content();
+		} catch (Exception e) {
+			throw new ArticleSummaryException(ArticleSummaryErrorCode.API_CALL_ERROR, e);
+		}
+	}
+
+	/**
+	 * 기사 한 건의 요약 결과. 성공 시 summary, 실패 시 failure가 채워진다.
+	 *
+	 * @param id 기사 ID
+	 * @param summary 요약 결과 (실패 시 null)
+	 * @param failure 요약 실패 원인 (성공 시 null)
+	 * @since 2025-05-22
+	 */
+	public record SummaryResult(Long id, String summary, RuntimeException failure) {
+		static SummaryResult success(Long id, String summary) {
+			return new SummaryResult(id, summary, null);
+		}
+
+		static SummaryResult failure(Long id, RuntimeException failure) {
+			return new SummaryResult(id, null, failure);
+		}
+
+		public boolean isSuccess() {
+			return null == failure;
+		}
 	}
 }
@@ -1,57 +1,70 @@
 package com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.summary.batch.reader;
 
-import java.util.HashMap;
-import java.util.Map;
-
 import org.springframework.batch.core.configuration.annotation.StepScope;
-import org.springframework.batch.item.database.JpaPagingItemReader;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.jpa.entity.ArticleEntity;
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.jpa.entity.ArticlePipelineState;
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.jpa.projection.ArticleDescriptionProjection;
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.support.claim.ArticleWorkClaimer;
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.support.reader.ClaimingKeysetItemReader;
 
 import jakarta.persistence.EntityManagerFactory;
 import lombok.extern.slf4j.Slf4j;
 
 /**
- * 요약되지 않은 뉴스 기사 데이터를 ID 범위 기반으로 페이징 조회하는 JPA ItemReader.
+ * 요약되지 않은 뉴스 기사 데이터를 ID 범위 기반으로 키셋 조회하는 JPA ItemReader.
  * 파티셔닝된 슬레이브 Step에서 각 파티션이 담당할 ID 구간의 데이터를 읽기 위해 사용된다.
+ * 요약에 필요한 ID, GUID, 본문만 조회한다.
+ *
+ * 페이지마다 대상 기사를 먼저 점유하므로 여러 노드가 같은 구간을 읽어도 중복 요약하지 않는다.
  *
  * @since 2025-05-17
+ * @modified 2025-05-22 OFFSET 페이징을 ID 키셋 조회로 변경
+ * @modified 2025-05-22 엔티티 대신 필요한 컬럼만 프로젝션으로 조회
+ * @modified 2025-05-22 SKIP LOCKED 점유 후 조회
  */
 @Component
 @Slf4j
 @StepScope
-public class ArticleSummaryPageReader extends JpaPagingItemReader<ArticleEntity> {
+public class ArticleSummaryPageReader extends ClaimingKeysetItemReader<ArticleDescriptionProjection> {
 	private static final String JPQL = """
-		SELECT a
+		SELECT new %s(a.id, a.guid, a.description)
 			FROM ArticleEntity a
-		WHERE a.summary IS NULL
-			AND a.id BETWEEN :minId AND :maxId
-		""";
+		WHERE a.id IN :ids
+		ORDER BY a.id ASC
+		""".formatted(ArticleDescriptionProjection.class.getName());
 
 	/**
-	 * 지정된 ID 범위에 해당하는 기사 데이터를 페이징 방식으로 읽어오는 Reader를 초기화한다.
+	 * 지정된 ID 범위에 해당하는 기사 데이터를 키셋 방식으로 읽어오는 Reader를 초기화한다.
 	 *
 	 * @param entityManagerFactory JPA EntityManagerFactory
+	 * @param articleWorkClaimer 기사 작업 점유 컴포넌트
 	 * @param minId 파티션에서 처리할 최소 ID (StepExecutionContext에서 주입됨)
 	 * @param maxId 파티션에서 처리할 최대 ID (StepExecutionContext에서 주입됨)
 	 * @author 함예정
 	 * @since 2025-05-17
+	 * @modified 2025-05-22 minId 직전 ID부터 키셋 조회
+	 * @modified 2025-05-22 점유한 기사만 조회
 	 */
 	public ArticleSummaryPageReader(
 		EntityManagerFactory entityManagerFactory,
+		ArticleWorkClaimer articleWorkClaimer,
 		@Value("#{stepExecutionContext[minId]}") Long minId,
 		@Value("#{stepExecutionContext[maxId]}") Long maxId) {
 
 		this.setName("articleSummaryReader-" + minId + "-" + maxId);
 		this.setEntityManagerFactory(entityManagerFactory);
-		this.setQueryString(JPQL);
-		Map<String, Object> params = new HashMap<>();
-		params.put("minId", minId);
-		params.put("maxId", maxId);
-		this.setParameterValues(params);
+		this.setQueryString(JPQL, ArticleDescriptionProjection.class);
+		this.setArticleWorkClaimer(articleWorkClaimer);
+		this.setClaimState(ArticlePipelineState.COLLECTED);
+		this.setMaxId(maxId);
+		this.setStartAfterId(minId - 1);
 		this.setPageSize(100);
-		this.setSaveState(false);
+	}
+
+	@Override
+	protected Long extractId(ArticleDescriptionProjection item) {
+		return item.id();
 	}
 }
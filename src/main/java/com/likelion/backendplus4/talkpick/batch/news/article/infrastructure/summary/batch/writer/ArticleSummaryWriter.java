@@ -1,34 +1,78 @@
 package com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.summary.batch.writer;
 
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
 import org.springframework.batch.item.Chunk;
 import org.springframework.batch.item.ItemWriter;
 import org.springframework.stereotype.Component;
 
-import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.jpa.entity.ArticleEntity;
-import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.jpa.repository.NewsInfoJpaRepository;
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.jdbc.repository.ArticleJdbcRepository;
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.jpa.entity.ArticlePipelineState;
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.jpa.projection.ArticleDescriptionProjection;
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.summary.batch.processor.ArticleSummaryProcessor;
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.summary.batch.processor.ArticleSummaryProcessor.SummaryResult;
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.support.claim.ArticleWorkClaimer;
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.support.retry.PipelineFailureRecorder;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
 /**
- * 처리된 뉴스 기사 요약 데이터를 DB에 저장하는 ItemWriter 구현체.
+ * 청크 단위로 뉴스 기사를 비동기 요약한 뒤 DB에 저장하는 ItemWriter 구현체.
+ * 요약 요청을 청크 단위로 파이프라이닝하기 위해 Processor 단계 대신 Writer에서 요약을 수행한다.
  *
  * @since 2025-05-17
+ * @modified 2025-05-21 청크 단위 비동기 요약 후 저장하도록 변경
+ * @modified 2025-05-22 엔티티 merge 대신 summary 컬럼만 JDBC 배치 UPDATE
+ * @modified 2025-05-22 요약에 실패한 기사만 SUMMARY_FAILED 상태로 표시
+ * @modified 2025-05-22 이 노드가 점유한 기사만 저장
+ * @modified 2025-05-22 요약에 실패한 기사는 재시도 횟수를 모두 쓸 때까지 다시 대기
  */
+@Slf4j
 @Component
 @RequiredArgsConstructor
-public class ArticleSummaryWriter implements ItemWriter<ArticleEntity> {
-	private final NewsInfoJpaRepository newsInfoJpaRepository;
+public class ArticleSummaryWriter implements ItemWriter<ArticleDescriptionProjection> {
+	private final ArticleJdbcRepository articleJdbcRepository;
+	private final ArticleSummaryProcessor articleSummaryProcessor;
+	private final ArticleWorkClaimer articleWorkClaimer;
+	private final PipelineFailureRecorder pipelineFailureRecorder;
 
 	/**
-	 * 청크 단위로 받은 기사 요약 데이터를 데이터베이스에 일괄 저장한다.
+	 * 청크 단위로 받은 기사를 요약한 뒤, 요약 데이터를 데이터베이스에 일괄 저장한다.
+	 * 요약에 실패한 기사는 청크를 실패시키지 않고 실패 횟수를 기록하여, 성공한 기사에 대해 다시 요약 API를 호출하지 않도록 한다.
+	 * 실패한 기사는 잠시 뒤 다음 실행에서 다시 요약되고, 재시도 횟수를 모두 쓰면 SUMMARY_FAILED 상태로 표시된다.
+	 * lease가 지나 다른 노드가 가져간 기사는 저장하지 않고 경고만 남긴다.
 	 *
 	 * @param chunk 요약이 완료된 기사 데이터 목록
 	 * @throws Exception 저장 중 발생할 수 있는 예외
 	 * @author 함예정
 	 * @since 2025-05-17
+	 * @modified 2025-05-21 저장 전 청크 단위 요약 수행
+	 * @modified 2025-05-22 summary 컬럼만 갱신
+	 * @modified 2025-05-22 성공한 요약만 저장하고 실패한 기사는 SUMMARY_FAILED로 표시
+	 * @modified 2025-05-22 점유를 잃은 기사는 저장하지 않음
+	 * @modified 2025-05-22 실패한 기사는 바로 SUMMARY_FAILED로 표시하는 대신 실패 횟수 기록
 	 */
 	@Override
-	public void write(Chunk<? extends ArticleEntity> chunk) throws Exception {
-		newsInfoJpaRepository.saveAll(chunk);
+	public void write(Chunk<? extends ArticleDescriptionProjection> chunk) throws Exception {
+		Map<Boolean, List<SummaryResult>> results = articleSummaryProcessor.processAll(chunk.getItems()).stream()
+			.collect(Collectors.partitioningBy(SummaryResult::isSuccess));
+
+		List<SummaryResult> succeeded = results.get(true);
+		if (!succeeded.isEmpty()) {
+			List<Long> ids = succeeded.stream().map(SummaryResult::id).toList();
+			List<Long> updatedIds = articleJdbcRepository.updateSummaries(ids,
+				succeeded.stream().map(SummaryResult::summary).toList(), articleWorkClaimer.getWorkerId());
+			if (updatedIds.size() < ids.size()) {
+				log.warn("점유를 잃어 요약을 저장하지 않은 기사: {}건", ids.size() - updatedIds.size());
+			}
+		}
+
+		for (SummaryResult failed : results.get(false)) {
+			pipelineFailureRecorder.record(failed.id(), ArticlePipelineState.COLLECTED,
+				ArticlePipelineState.SUMMARY_FAILED, failed.failure());
+		}
 	}
 }
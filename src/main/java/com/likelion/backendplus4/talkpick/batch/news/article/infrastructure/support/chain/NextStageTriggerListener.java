@@ -0,0 +1,61 @@
+package com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.support.chain;
+
+import java.util.function.ToLongFunction;
+
+import org.quartz.JobKey;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionListener;
+import org.springframework.batch.core.StepExecution;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Job이 완료되고 새로 처리한 기사가 있으면 파이프라인 다음 단계의 실행을 요청하는 리스너.
+ * 처리 건수는 Job마다 다르게 집계하므로 생성 시 집계 함수를 받는다.
+ *
+ * @since 2025-05-22
+ */
+@Slf4j
+public class NextStageTriggerListener implements JobExecutionListener {
+	private final PipelineStageTrigger pipelineStageTrigger;
+	private final JobKey nextJobKey;
+	private final ToLongFunction<JobExecution> producedCounter;
+
+	public NextStageTriggerListener(PipelineStageTrigger pipelineStageTrigger, JobKey nextJobKey,
+		ToLongFunction<JobExecution> producedCounter) {
+		this.pipelineStageTrigger = pipelineStageTrigger;
+		this.nextJobKey = nextJobKey;
+		this.producedCounter = producedCounter;
+	}
+
+	/**
+	 * Step들의 writeCount 합계로 처리 건수를 집계하는 리스너를 생성한다.
+	 *
+	 * @param pipelineStageTrigger 다음 단계 예약 컴포넌트
+	 * @param nextJobKey 다음 단계 Quartz Job 키
+	 * @return 리스너
+	 * @since 2025-05-22
+	 */
+	public static NextStageTriggerListener onWrites(PipelineStageTrigger pipelineStageTrigger, JobKey nextJobKey) {
+		return new NextStageTriggerListener(pipelineStageTrigger, nextJobKey,
+			jobExecution -> jobExecution.getStepExecutions().stream()
+				.mapToLong(StepExecution::getWriteCount)
+				.sum());
+	}
+
+	@Override
+	public void afterJob(JobExecution jobExecution) {
+		if (jobExecution.getStatus() != BatchStatus.COMPLETED) {
+			return;
+		}
+
+		long produced = producedCounter.applyAsLong(jobExecution);
+		if (produced <= 0) {
+			return;
+		}
+
+		log.info("{} 처리 건수 {}건, 다음 단계 요청: {}", jobExecution.getJobInstance().getJobName(), produced, nextJobKey);
+		pipelineStageTrigger.request(nextJobKey);
+	}
+}
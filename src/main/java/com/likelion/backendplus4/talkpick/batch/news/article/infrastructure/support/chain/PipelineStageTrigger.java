@@ -0,0 +1,99 @@
+package com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.support.chain;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.UUID;
+
+import org.quartz.JobKey;
+import org.quartz.Scheduler;
+import org.quartz.SchedulerException;
+import org.quartz.SimpleScheduleBuilder;
+import org.quartz.Trigger;
+import org.quartz.Trigger.TriggerState;
+import org.quartz.TriggerBuilder;
+import org.quartz.TriggerKey;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 파이프라인 다음 단계의 Quartz Job을 일회성 Trigger로 예약하는 컴포넌트.
+ *
+ * 같은 Job에 대한 요청이 debounce 시간 안에 여러 번 들어오면 하나의 실행으로 합쳐진다.
+ * 첫 요청이 debounce 뒤에 실행되는 Trigger를 만들고, 그 Trigger가 아직 실행되지 않은 동안의 요청은 무시한다.
+ * Trigger는 JDBC JobStore에 저장되므로 여러 노드의 요청도 함께 합쳐진다.
+ *
+ * 실행된 일회성 Trigger는 Job이 끝날 때까지 COMPLETE 상태로 JobStore에 남으므로, 존재 여부가 아니라 상태로 판단한다.
+ * 다음 단계 Job이 실행 중일 때 들어온 요청은 그 실행에 포함되지 않았을 수 있으므로,
+ * 새 키의 Trigger로 예약하여 실행이 끝난 뒤 한 번 더 실행되도록 한다.
+ *
+ * 예약에 실패해도 이전 단계 Job의 결과에는 영향을 주지 않으며, 각 단계의 cron Trigger가 남은 작업을 처리한다.
+ *
+ * @since 2025-05-22
+ * @modified 2025-05-22 실행 중인 Trigger가 있어도 다음 실행을 예약하도록 Trigger 상태로 판단
+ */
+@Slf4j
+@Component
+public class PipelineStageTrigger {
+	private static final String TRIGGER_SUFFIX = "ChainTrigger-";
+	private static final Set<TriggerState> WAITING_STATES =
+		EnumSet.of(TriggerState.NORMAL, TriggerState.BLOCKED, TriggerState.PAUSED);
+
+	private final Scheduler scheduler;
+	private final Duration debounce;
+
+	public PipelineStageTrigger(Scheduler scheduler,
+		@Value("${pipeline.chain.debounce:PT10S}") Duration debounce) {
+		this.scheduler = scheduler;
+		this.debounce = debounce;
+	}
+
+	/**
+	 * 다음 단계 Job의 실행을 debounce 뒤로 예약한다. 아직 실행되지 않은 예약이 있으면 아무 작업도 하지 않는다.
+	 *
+	 * @param jobKey 실행할 Quartz Job 키
+	 * @since 2025-05-22
+	 * @modified 2025-05-22 실행 대기 중인 Trigger만 기존 예약으로 판단
+	 */
+	public void request(JobKey jobKey) {
+		try {
+			if (hasWaitingTrigger(jobKey)) {
+				log.debug("다음 단계 실행이 이미 예약됨: {}", jobKey);
+				return;
+			}
+			TriggerKey triggerKey = TriggerKey.triggerKey(
+				jobKey.getName() + TRIGGER_SUFFIX + UUID.randomUUID(), jobKey.getGroup());
+			scheduler.scheduleJob(createTrigger(jobKey, triggerKey));
+			log.info("다음 단계 실행 예약: {} ({} 후)", jobKey, debounce);
+		} catch (SchedulerException e) {
+			log.warn("다음 단계 실행 예약 실패: {}", jobKey, e);
+		}
+	}
+
+	/**
+	 * 아직 실행되지 않은(대기, 이전 실행 종료 대기, 일시 정지) 연쇄 실행 Trigger가 있는지 확인한다.
+	 * 이미 실행되어 Job이 끝나기를 기다리는 COMPLETE 상태의 Trigger는 제외한다.
+	 */
+	private boolean hasWaitingTrigger(JobKey jobKey) throws SchedulerException {
+		String prefix = jobKey.getName() + TRIGGER_SUFFIX;
+		for (Trigger trigger : scheduler.getTriggersOfJob(jobKey)) {
+			if (trigger.getKey().getName().startsWith(prefix)
+				&& WAITING_STATES.contains(scheduler.getTriggerState(trigger.getKey()))) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private Trigger createTrigger(JobKey jobKey, TriggerKey triggerKey) {
+		return TriggerBuilder.newTrigger()
+			.forJob(jobKey)
+			.withIdentity(triggerKey)
+			.startAt(new Date(System.currentTimeMillis() + debounce.toMillis()))
+			.withSchedule(SimpleScheduleBuilder.simpleSchedule().withMisfireHandlingInstructionFireNow())
+			.build();
+	}
+}
@@ -0,0 +1,83 @@
+package com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.support.claim;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.jdbc.datasource.AutonomousTransactionPool;
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.jdbc.repository.ArticleClaimJdbcRepository;
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.jpa.entity.ArticlePipelineState;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 요약/임베딩 대상 기사를 이 노드의 작업으로 점유하는 컴포넌트.
+ *
+ * Reader는 청크 트랜잭션 안에서 호출되므로, 점유는 {@link AutonomousTransactionPool}의 별도 트랜잭션에서 바로 커밋한다.
+ * 청크 트랜잭션과 같은 풀에서 커넥션을 하나 더 얻지 않으므로, 파티션이 모두 실행 중이어도 커넥션 대기로 멈추지 않는다.
+ * 행 잠금은 점유 표시 직후 풀리고, 이후 다른 노드는 claim_expires_at으로 점유 여부를 판단한다.
+ *
+ * - 노드가 비정상 종료되면 lease가 지난 뒤 다른 노드가 다시 점유한다
+ * - 처리가 끝난 기사는 Writer가 상태를 바꾸면서 점유를 해제한다
+ * - 청크가 롤백되면 점유는 lease가 끝날 때까지 유지된다
+ * - Writer는 점유한 노드 식별자를 조건으로 결과를 저장하여, lease가 지나 다른 노드가 가져간 기사는 덮어쓰지 않는다
+ *
+ * @since 2025-05-22
+ * @modified 2025-05-22 전용 커넥션 풀에서 점유, 노드 식별자 조회 추가
+ */
+@Slf4j
+@Component
+public class ArticleWorkClaimer {
+	private final ArticleClaimJdbcRepository articleClaimJdbcRepository;
+	private final TransactionTemplate transactionTemplate;
+	private final Duration lease;
+	@Getter
+	private final String workerId;
+
+	public ArticleWorkClaimer(ArticleClaimJdbcRepository articleClaimJdbcRepository,
+		AutonomousTransactionPool autonomousTransactionPool,
+		@Value("${article.claim.lease:PT10M}") Duration lease,
+		@Value("${article.claim.worker-id:}") String workerId) {
+		this.articleClaimJdbcRepository = articleClaimJdbcRepository;
+		this.transactionTemplate = autonomousTransactionPool.transactionTemplate();
+		this.lease = lease;
+		this.workerId = workerId.isBlank() ? defaultWorkerId() : workerId;
+		log.info("기사 작업 점유 노드 식별자: {}, lease: {}", this.workerId, lease);
+	}
+
+	/**
+	 * ID 범위 안에서 점유 가능한 기사를 최대 limit건 점유한다.
+	 *
+	 * @param state 처리 대상 파이프라인 상태
+	 * @param afterId 이 ID보다 큰 행부터 점유
+	 * @param maxId 점유할 최대 ID
+	 * @param limit 최대 점유 건수
+	 * @return 점유한 기사 ID 목록 (ID 오름차순)
+	 * @since 2025-05-22
+	 */
+	public List<Long> claim(ArticlePipelineState state, long afterId, long maxId, int limit) {
+		return transactionTemplate.execute(status -> {
+			List<Long> ids = articleClaimJdbcRepository.lockClaimableIds(state, afterId, maxId, limit);
+			if (!ids.isEmpty()) {
+				articleClaimJdbcRepository.claim(ids, workerId, lease);
+			}
+			return ids;
+		});
+	}
+
+	private String defaultWorkerId() {
+		String host;
+		try {
+			host = InetAddress.getLocalHost().getHostName();
+		} catch (UnknownHostException e) {
+			host = "unknown-host";
+		}
+		return host + ":" + ProcessHandle.current().pid();
+	}
+}
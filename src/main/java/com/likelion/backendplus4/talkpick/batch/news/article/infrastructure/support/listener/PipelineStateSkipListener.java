@@ -0,0 +1,47 @@
+package com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.support.listener;
+
+import java.util.function.Function;
+
+import org.springframework.batch.core.SkipListener;
+
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.jpa.entity.ArticlePipelineState;
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.support.retry.PipelineFailureRecorder;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 처리 중 건너뛴(skip) 기사의 실패를 기록하는 SkipListener.
+ * 건너뛴 기사는 잠시 뒤 다시 처리되도록 대기하고, 재시도 횟수를 모두 쓰면 단계별 실패 상태로 표시되어
+ * 다음 실행의 파티션/Reader 대상에서 제외된다.
+ * 이 노드가 점유 중인 기사만 표시하여, lease가 지나 다른 노드가 가져간 기사의 처리를 방해하지 않는다.
+ *
+ * @param <T> 청크 아이템 타입
+ * @since 2025-05-22
+ * @modified 2025-05-22 점유 노드 조건 추가
+ * @modified 2025-05-22 바로 실패 상태로 전이하는 대신 실패 횟수 기록
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class PipelineStateSkipListener<T> implements SkipListener<T, T> {
+	private final PipelineFailureRecorder pipelineFailureRecorder;
+	private final Function<T, Long> idExtractor;
+	private final ArticlePipelineState from;
+	private final ArticlePipelineState failed;
+
+	@Override
+	public void onSkipInProcess(T item, Throwable t) {
+		markFailed(item, t);
+	}
+
+	@Override
+	public void onSkipInWrite(T item, Throwable t) {
+		markFailed(item, t);
+	}
+
+	private void markFailed(T item, Throwable t) {
+		Long id = idExtractor.apply(item);
+		log.warn("기사 처리 건너뜀: id = {}, state = {}", id, from);
+		pipelineFailureRecorder.record(id, from, failed, t);
+	}
+}
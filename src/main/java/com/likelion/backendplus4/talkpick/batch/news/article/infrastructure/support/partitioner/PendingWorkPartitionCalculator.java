@@ -0,0 +1,87 @@
+package com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.support.partitioner;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.jpa.entity.ArticlePipelineState;
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.support.partitioner.dto.ArticleIdRange;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 처리 대기 중인 기사 수를 기준으로 ID 범위를 분할하는 계산기.
+ *
+ * ID 구간을 균등하게 나누면 대기 기사가 최근 ID에 몰려 있을 때 한 파티션이 대부분의 작업을 맡게 된다.
+ * 대기 기사 ID에 NTILE을 적용해 파티션마다 같은 수의 기사를 담당하도록 경계를 정한다.
+ *
+ * - 파티션 수는 대기 건수 / min-items-per-partition 으로 정하고, 요청된 gridSize를 넘지 않는다
+ * - (pipeline_state, id) 인덱스만으로 계산된다
+ * - 인접 파티션 경계 사이의 ID는 앞 파티션에 포함시켜 범위가 연속되도록 한다
+ *
+ * @since 2025-05-22
+ */
+@Slf4j
+@Component
+public class PendingWorkPartitionCalculator {
+	private static final String COUNT_PENDING_SQL = "SELECT COUNT(*) FROM article WHERE pipeline_state = ?";
+	private static final String PENDING_ID_TILES_SQL = """
+		SELECT MIN(t.id) AS min_id, MAX(t.id) AS max_id
+			FROM (
+				SELECT id, NTILE(?) OVER (ORDER BY id) AS tile
+					FROM article
+				WHERE pipeline_state = ?
+			) t
+		GROUP BY t.tile
+		ORDER BY t.tile
+		""";
+
+	private final JdbcTemplate jdbcTemplate;
+	private final int minItemsPerPartition;
+
+	public PendingWorkPartitionCalculator(JdbcTemplate jdbcTemplate,
+		@Value("${article.partition.min-items-per-partition:100}") int minItemsPerPartition) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.minItemsPerPartition = minItemsPerPartition;
+	}
+
+	/**
+	 * 주어진 상태의 기사를 대기 건수 기준으로 분할한다.
+	 *
+	 * @param state 처리 대상 파이프라인 상태
+	 * @param maxGridSize 최대 파티션 수
+	 * @return 각 파티션의 IdRange 리스트 (대기 기사가 없으면 빈 리스트)
+	 * @since 2025-05-22
+	 */
+	public List<ArticleIdRange> calculate(ArticlePipelineState state, int maxGridSize) {
+		Long pendingCount = jdbcTemplate.queryForObject(COUNT_PENDING_SQL, Long.class, state.getCode());
+		if (pendingCount == null || pendingCount == 0) {
+			return List.of();
+		}
+
+		int gridSize = resolveGridSize(pendingCount, maxGridSize);
+		List<ArticleIdRange> tiles = jdbcTemplate.query(PENDING_ID_TILES_SQL,
+			(rs, rowNum) -> new ArticleIdRange(rs.getLong("min_id"), rs.getLong("max_id")),
+			gridSize, state.getCode());
+
+		log.info("대기 기사 기준 파티션 분할: state = {}, pending = {}, gridSize = {}", state, pendingCount, tiles.size());
+		return toContiguousRanges(tiles);
+	}
+
+	private int resolveGridSize(long pendingCount, int maxGridSize) {
+		long byWorkload = (pendingCount + minItemsPerPartition - 1) / minItemsPerPartition;
+		return (int)Math.max(1, Math.min(maxGridSize, byWorkload));
+	}
+
+	private List<ArticleIdRange> toContiguousRanges(List<ArticleIdRange> tiles) {
+		List<ArticleIdRange> ranges = new ArrayList<>(tiles.size());
+		for (int i = 0; i < tiles.size(); i++) {
+			long end = i == tiles.size() - 1 ? tiles.get(i).end() : tiles.get(i + 1).start() - 1;
+			ranges.add(new ArticleIdRange(tiles.get(i).start(), end));
+		}
+		return ranges;
+	}
+}
@@ -0,0 +1,112 @@
+package com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.support.ratelimit;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * 분당 요청 수(RPM)와 분당 토큰 수(TPM)를 함께 제한하는 토큰 버킷 Rate Limiter.
+ * 두 버킷은 1분 동안 용량만큼 균등하게 채워지며, 두 버킷 모두 여유가 있을 때만 통과한다.
+ *
+ * 여유가 없으면 잠금을 해제한 상태에서 대기한다.
+ *
+ * @since 2025-05-21
+ * @modified 2025-05-22 시계와 대기 방식을 주입할 수 있도록 생성자 추가
+ */
+public class TokenBucketRateLimiter {
+	private static final long NANOS_PER_MINUTE = TimeUnit.MINUTES.toNanos(1);
+
+	private final ReentrantLock lock = new ReentrantLock();
+	private final double requestCapacity;
+	private final double tokenCapacity;
+	private double availableRequests;
+	private double availableTokens;
+	private final LongSupplier nanoClock;
+	private final Sleeper sleeper;
+	private long lastRefillNanos;
+
+	public TokenBucketRateLimiter(int requestsPerMinute, int tokensPerMinute) {
+		this(requestsPerMinute, tokensPerMinute, System::nanoTime, LockSupport::parkNanos);
+	}
+
+	/**
+	 * 현재 시각(나노초)과 대기 방식을 지정해 생성한다. 테스트에서 실제 시간 없이 대기 시간을 검증할 때 사용한다.
+	 *
+	 * @param requestsPerMinute 분당 요청 수
+	 * @param tokensPerMinute 분당 토큰 수
+	 * @param nanoClock 현재 시각(나노초)
+	 * @param sleeper 주어진 나노초 동안 대기하는 방식
+	 * @since 2025-05-22
+	 */
+	TokenBucketRateLimiter(int requestsPerMinute, int tokensPerMinute, LongSupplier nanoClock, Sleeper sleeper) {
+		this.requestCapacity = requestsPerMinute;
+		this.tokenCapacity = tokensPerMinute;
+		this.availableRequests = requestsPerMinute;
+		this.availableTokens = tokensPerMinute;
+		this.nanoClock = nanoClock;
+		this.sleeper = sleeper;
+		this.lastRefillNanos = nanoClock.getAsLong();
+	}
+
+	/**
+	 * 요청 1건과 주어진 토큰 수를 사용할 수 있을 때까지 대기한 후 차감한다.
+	 * 버킷 용량보다 큰 토큰 요청은 용량으로 제한한다.
+	 *
+	 * @param tokens 요청에 사용할 추정 토큰 수
+	 * @throws InterruptedException 대기 중 인터럽트된 경우
+	 * @since 2025-05-21
+	 */
+	public void acquire(int tokens) throws InterruptedException {
+		double requiredTokens = Math.min(tokens, tokenCapacity);
+		while (true) {
+			long waitNanos;
+			lock.lock();
+			try {
+				refill(nanoClock.getAsLong());
+				if (availableRequests >= 1 && availableTokens >= requiredTokens) {
+					availableRequests -= 1;
+					availableTokens -= requiredTokens;
+					return;
+				}
+				waitNanos = Math.max(
+					nanosUntil(1 - availableRequests, requestCapacity),
+					nanosUntil(requiredTokens - availableTokens, tokenCapacity));
+			} finally {
+				lock.unlock();
+			}
+
+			sleeper.sleep(Math.max(waitNanos, TimeUnit.MILLISECONDS.toNanos(1)));
+			if (Thread.interrupted()) {
+				throw new InterruptedException();
+			}
+		}
+	}
+
+	private void refill(long now) {
+		long elapsed = now - lastRefillNanos;
+		if (elapsed <= 0) {
+			return;
+		}
+		availableRequests = Math.min(requestCapacity, availableRequests + requestCapacity * elapsed / NANOS_PER_MINUTE);
+		availableTokens = Math.min(tokenCapacity, availableTokens + tokenCapacity * elapsed / NANOS_PER_MINUTE);
+		lastRefillNanos = now;
+	}
+
+	private long nanosUntil(double deficit, double capacityPerMinute) {
+		if (deficit <= 0) {
+			return 0;
+		}
+		return (long)Math.ceil(deficit * NANOS_PER_MINUTE / capacityPerMinute);
+	}
+
+	/**
+	 * 버킷이 다시 채워질 때까지 대기하는 방식.
+	 *
+	 * @since 2025-05-22
+	 */
+	@FunctionalInterface
+	interface Sleeper {
+		void sleep(long nanos);
+	}
+}
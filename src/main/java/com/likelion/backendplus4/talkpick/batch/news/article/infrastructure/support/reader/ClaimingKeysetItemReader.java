@@ -0,0 +1,46 @@
+package com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.support.reader;
+
+import java.util.List;
+
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.jpa.entity.ArticlePipelineState;
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.support.claim.ArticleWorkClaimer;
+
+/**
+ * 페이지마다 대상 기사를 먼저 점유한 뒤, 점유한 기사만 조회하는 키셋 ItemReader.
+ * 여러 배치 노드가 같은 ID 범위를 읽더라도 각 기사는 한 노드에서만 처리된다.
+ *
+ * - 점유는 {@link ArticleWorkClaimer}가 SELECT ... FOR UPDATE SKIP LOCKED로 수행한다
+ * - 쿼리는 {@code :ids} 파라미터로 점유한 ID 목록을 받고 ID 오름차순으로 정렬해야 한다
+ * - 상태와 ID 범위 조건은 점유 쿼리에서 적용되므로 조회 쿼리에는 필요 없다
+ *
+ * @param <T> 조회할 타입
+ * @since 2025-05-22
+ */
+public abstract class ClaimingKeysetItemReader<T> extends JpaKeysetItemReader<T> {
+	private ArticleWorkClaimer articleWorkClaimer;
+	private ArticlePipelineState claimState;
+	private long maxId;
+
+	public void setArticleWorkClaimer(ArticleWorkClaimer articleWorkClaimer) {
+		this.articleWorkClaimer = articleWorkClaimer;
+	}
+
+	public void setClaimState(ArticlePipelineState claimState) {
+		this.claimState = claimState;
+	}
+
+	public void setMaxId(long maxId) {
+		this.maxId = maxId;
+	}
+
+	@Override
+	protected List<T> fetchPage(long lastId, int pageSize) {
+		List<Long> claimedIds = articleWorkClaimer.claim(claimState, lastId, maxId, pageSize);
+		if (claimedIds.isEmpty()) {
+			return List.of();
+		}
+		return createQuery()
+			.setParameter("ids", claimedIds)
+			.getResultList();
+	}
+}
@@ -0,0 +1,171 @@
+package com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.support.reader;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.support.AbstractItemCountingItemStreamItemReader;
+import org.springframework.util.Assert;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.TypedQuery;
+
+/**
+ * ID 키셋(WHERE id > :lastId ORDER BY id) 방식으로 페이지를 조회하는 JPA ItemReader.
+ *
+ * OFFSET 페이징은 뒤 페이지로 갈수록 앞 행을 다시 스캔하고,
+ * Writer가 조회 조건(예: summary IS NULL)을 바꾸면 결과 집합이 밀려 행을 건너뛴다.
+ * 키셋 방식은 마지막으로 읽은 ID 다음부터 조회하므로 두 문제가 모두 없다.
+ *
+ * - 쿼리는 {@code :lastId} 파라미터를 사용하고 ID 오름차순으로 정렬해야 한다
+ * - 마지막으로 반환한 ID를 ExecutionContext에 저장하여 재시작 시 그 다음부터 읽는다
+ * - Reader마다 별도의 EntityManager를 사용하고, 조회한 엔티티는 준영속 상태로 반환한다
+ *
+ * @param <T> 조회할 엔티티 타입
+ * @since 2025-05-22
+ * @modified 2025-05-22 페이지 조회 방식을 하위 클래스에서 바꿀 수 있도록 분리
+ */
+public abstract class JpaKeysetItemReader<T> extends AbstractItemCountingItemStreamItemReader<T> {
+	private static final String LAST_ID_KEY = "last.id";
+
+	private final Deque<T> buffer = new ArrayDeque<>();
+	private EntityManagerFactory entityManagerFactory;
+	private EntityManager entityManager;
+	private String queryString;
+	private Class<T> entityClass;
+	private Map<String, Object> parameterValues = new HashMap<>();
+	private int pageSize = 100;
+	private long lastId;
+	private boolean exhausted;
+
+	public void setEntityManagerFactory(EntityManagerFactory entityManagerFactory) {
+		this.entityManagerFactory = entityManagerFactory;
+	}
+
+	public void setQueryString(String queryString, Class<T> entityClass) {
+		this.queryString = queryString;
+		this.entityClass = entityClass;
+	}
+
+	public void setParameterValues(Map<String, Object> parameterValues) {
+		this.parameterValues = parameterValues;
+	}
+
+	public void setPageSize(int pageSize) {
+		this.pageSize = pageSize;
+	}
+
+	/**
+	 * 처음 읽을 때의 기준 ID를 설정한다. 이 ID보다 큰 행부터 조회한다.
+	 *
+	 * @param startAfterId 기준 ID
+	 * @since 2025-05-22
+	 */
+	public void setStartAfterId(long startAfterId) {
+		this.lastId = startAfterId;
+	}
+
+	/**
+	 * 엔티티의 ID를 반환한다. 다음 페이지 조회 기준으로 사용된다.
+	 *
+	 * @param item 조회된 엔티티
+	 * @return 엔티티 ID
+	 * @since 2025-05-22
+	 */
+	protected abstract Long extractId(T item);
+
+	@Override
+	public void open(ExecutionContext executionContext) {
+		if (isSaveState() && executionContext.containsKey(getExecutionContextKey(LAST_ID_KEY))) {
+			lastId = executionContext.getLong(getExecutionContextKey(LAST_ID_KEY));
+		}
+		super.open(executionContext);
+	}
+
+	@Override
+	public void update(ExecutionContext executionContext) {
+		super.update(executionContext);
+		if (isSaveState()) {
+			executionContext.putLong(getExecutionContextKey(LAST_ID_KEY), lastId);
+		}
+	}
+
+	@Override
+	protected void doOpen() {
+		Assert.notNull(entityManagerFactory, "EntityManagerFactory is required");
+		Assert.hasText(queryString, "Query string is required");
+		entityManager = entityManagerFactory.createEntityManager();
+		buffer.clear();
+		exhausted = false;
+	}
+
+	@Override
+	protected T doRead() {
+		if (buffer.isEmpty() && !exhausted) {
+			fetchNextPage();
+		}
+
+		T item = buffer.poll();
+		if (item != null) {
+			lastId = extractId(item);
+		}
+		return item;
+	}
+
+	/**
+	 * 키셋 방식은 마지막 ID부터 이어서 읽으므로 읽은 건수만큼 건너뛸 필요가 없다.
+	 */
+	@Override
+	protected void jumpToItem(int itemIndex) {
+	}
+
+	@Override
+	protected void doClose() {
+		buffer.clear();
+		if (entityManager != null) {
+			entityManager.close();
+			entityManager = null;
+		}
+	}
+
+	/**
+	 * lastId 다음 페이지를 조회한다.
+	 * 기본 구현은 쿼리의 {@code :lastId}에 기준 ID를 바인딩하여 pageSize건을 조회한다.
+	 * 반환 건수가 pageSize보다 적으면 더 이상 읽을 데이터가 없는 것으로 본다.
+	 *
+	 * @param lastId 마지막으로 읽은 ID
+	 * @param pageSize 페이지 크기
+	 * @return ID 오름차순으로 정렬된 페이지
+	 * @since 2025-05-22
+	 */
+	protected List<T> fetchPage(long lastId, int pageSize) {
+		return createQuery()
+			.setParameter("lastId", lastId)
+			.setMaxResults(pageSize)
+			.getResultList();
+	}
+
+	/**
+	 * 설정된 쿼리와 파라미터로 TypedQuery를 생성한다.
+	 *
+	 * @return 파라미터가 바인딩된 쿼리
+	 * @since 2025-05-22
+	 */
+	protected TypedQuery<T> createQuery() {
+		TypedQuery<T> query = entityManager.createQuery(queryString, entityClass);
+		parameterValues.forEach(query::setParameter);
+		return query;
+	}
+
+	private void fetchNextPage() {
+		List<T> page = fetchPage(lastId, pageSize);
+		entityManager.clear();
+
+		buffer.addAll(page);
+		exhausted = page.size() < pageSize;
+	}
+}
@@ -0,0 +1,59 @@
+package com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.support.retry;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.jdbc.repository.ArticleJdbcRepository;
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.jpa.entity.ArticlePipelineState;
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.support.claim.ArticleWorkClaimer;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 요약/임베딩에 실패한 기사를 다시 처리되도록 대기시키거나, 재시도 횟수를 모두 쓰면 실패 상태로 표시하는 컴포넌트.
+ *
+ * - 실패한 기사는 같은 단계에 남고, (backoff × 실패 횟수)가 지난 뒤 다음 실행에서 다시 점유된다
+ * - max-attempts번 실패한 기사만 단계별 실패 상태(SUMMARY_FAILED, EMBEDDING_FAILED)로 전이된다
+ * - 단계가 성공하면 실패 횟수는 0으로 돌아간다
+ * - 이 노드가 점유 중인 기사만 갱신한다
+ *
+ * @since 2025-05-22
+ */
+@Slf4j
+@Component
+public class PipelineFailureRecorder {
+	private final ArticleJdbcRepository articleJdbcRepository;
+	private final ArticleWorkClaimer articleWorkClaimer;
+	private final int maxAttempts;
+	private final Duration backoff;
+
+	public PipelineFailureRecorder(ArticleJdbcRepository articleJdbcRepository,
+		ArticleWorkClaimer articleWorkClaimer,
+		@Value("${article.retry.max-attempts:3}") int maxAttempts,
+		@Value("${article.retry.backoff:PT10M}") Duration backoff) {
+		this.articleJdbcRepository = articleJdbcRepository;
+		this.articleWorkClaimer = articleWorkClaimer;
+		this.maxAttempts = maxAttempts;
+		this.backoff = backoff;
+	}
+
+	/**
+	 * 기사 처리 실패를 기록한다.
+	 *
+	 * @param id 기사 ID
+	 * @param from 처리 중인 상태
+	 * @param failed 재시도 횟수를 모두 쓴 경우 전이할 실패 상태
+	 * @param cause 실패 원인
+	 * @since 2025-05-22
+	 */
+	public void record(Long id, ArticlePipelineState from, ArticlePipelineState failed, Throwable cause) {
+		if (articleJdbcRepository.recordFailure(id, from, failed, articleWorkClaimer.getWorkerId(), maxAttempts,
+			backoff)) {
+			log.warn("기사 처리 실패 기록: id = {}, state = {}, cause = {}", id, from, cause.getMessage());
+		} else {
+			log.warn("점유를 잃어 실패를 기록하지 않은 기사: id = {}", id);
+		}
+	}
+}
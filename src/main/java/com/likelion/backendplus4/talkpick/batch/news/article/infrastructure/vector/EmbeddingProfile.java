@@ -0,0 +1,70 @@
+package com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.vector;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.jpa.converter.VectorBinaryCodec;
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.jpa.converter.VectorStorageFormat;
+
+import lombok.Getter;
+
+/**
+ * 요약 임베딩 벡터의 형태를 정하는 설정.
+ * 임베딩 요청, DB 저장, 임베딩 캐시, 프로세스 내 벡터 인덱스가 모두 이 설정을 따른다.
+ *
+ * - model: 임베딩 모델 이름
+ * - dimensions: 임베딩 차원 수 (text-embedding-3 계열은 요청 시 차원을 줄일 수 있다)
+ * - storageFormat: summary_vector_bin 저장 시 양자화 형식
+ *
+ * 차원 수를 바꾸면 기존 벡터는 임베딩 Job이 다시 임베딩하고, 캐시는 다른 키를 사용한다.
+ *
+ * @since 2025-05-22
+ */
+@Getter
+@Component
+public class EmbeddingProfile {
+	private final String model;
+	private final int dimensions;
+	private final VectorStorageFormat storageFormat;
+
+	public EmbeddingProfile(
+		@Value("${spring.ai.openai.embedding-model}") String model,
+		@Value("${article.vector.dimensions:1536}") int dimensions,
+		@Value("${article.vector.storage-format:FLOAT32}") VectorStorageFormat storageFormat) {
+		this.model = model;
+		this.dimensions = dimensions;
+		this.storageFormat = storageFormat;
+	}
+
+	/**
+	 * 임베딩 캐시 키로 사용할 (모델, 차원 수) 식별자를 반환한다.
+	 *
+	 * @return 모델 이름과 차원 수를 이은 식별자
+	 * @since 2025-05-22
+	 */
+	public String cacheKey() {
+		return model + ":" + dimensions;
+	}
+
+	/**
+	 * 벡터가 현재 설정의 차원 수와 같은지 확인한다.
+	 *
+	 * @param vector 확인할 벡터
+	 * @return 차원 수가 같으면 true
+	 * @since 2025-05-22
+	 */
+	public boolean matches(float[] vector) {
+		return null != vector && vector.length == dimensions;
+	}
+
+	/**
+	 * 현재 차원 수의 벡터를 주어진 형식으로 저장했을 때의 바이트 길이를 반환한다.
+	 *
+	 * @param format 저장 형식
+	 * @return 인코딩된 바이트 길이
+	 * @since 2025-05-22
+	 */
+	public int encodedLength(VectorStorageFormat format) {
+		return VectorBinaryCodec.encodedLength(dimensions, format);
+	}
+}
@@ -0,0 +1,35 @@
+package com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.vector;
+
+import java.time.LocalDateTime;
+
+/**
+ * 노드의 벡터 저장소(HNSW 인덱스, 벡터 파일)가 DB에서 마지막으로 적재한 기사 벡터의 위치.
+ * 기사 변경 시각(updatedAt)과 기사 ID의 순서쌍으로 키셋 조회의 시작점을 표현한다.
+ *
+ * @since 2025-05-22
+ */
+public record VectorCatchUpCursor(LocalDateTime lastUpdatedAt, long lastArticleId) {
+	private static final LocalDateTime INITIAL_UPDATED_AT = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+	/**
+	 * 아직 적재한 벡터가 없을 때의 초기 커서를 반환한다.
+	 *
+	 * @return 모든 기사보다 앞선 커서
+	 * @since 2025-05-22
+	 */
+	public static VectorCatchUpCursor initial() {
+		return new VectorCatchUpCursor(INITIAL_UPDATED_AT, 0L);
+	}
+
+	/**
+	 * 이 커서가 other보다 (updatedAt, id) 순서상 뒤에 있는지 확인한다.
+	 *
+	 * @param other 비교할 커서
+	 * @return 뒤에 있으면 true
+	 * @since 2025-05-22
+	 */
+	public boolean isAfter(VectorCatchUpCursor other) {
+		int compared = lastUpdatedAt.compareTo(other.lastUpdatedAt);
+		return compared > 0 || (compared == 0 && lastArticleId > other.lastArticleId);
+	}
+}
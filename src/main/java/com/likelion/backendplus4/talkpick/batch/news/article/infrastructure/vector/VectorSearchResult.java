@@ -0,0 +1,11 @@
+package com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.vector;
+
+/**
+ * 벡터 유사도 검색 결과
+ *
+ * @param articleId 기사 ID
+ * @param similarity 질의 벡터와의 코사인 유사도
+ * @since 2025-05-22
+ */
+public record VectorSearchResult(long articleId, float similarity) {
+}
@@ -0,0 +1,492 @@
+package com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.vector.file;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.vector.EmbeddingProfile;
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.vector.VectorCatchUpCursor;
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.vector.VectorSearchResult;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 기사 요약 벡터를 고정 길이 레코드로 이어 쓰는 메모리 매핑 파일(vectors.dat).
+ * 중복 판별, 군집화, 재색인처럼 전체 벡터를 훑는 배치 작업이 DB를 다시 읽지 않고
+ * 페이지 캐시에 올라간 파일을 복사 없이 순회할 수 있도록 한다.
+ *
+ * - 파일 = 64바이트 헤더(매직, 버전, 차원 수, 레코드 수, DB 적재 커서) + 레코드 배열
+ * - 레코드 = 기사 ID(long) + float32 벡터, 모두 little endian이며 길이가 같아 슬롯 번호로 위치를 계산한다
+ * - 파일은 segment-records개 레코드 단위로 매핑하며, 가득 차면 다음 구간을 매핑하여 파일을 늘린다
+ * - 기사 ID → 슬롯 번호 인덱스는 메모리에 두고 시작 시 레코드의 기사 ID를 읽어 다시 만든다
+ * - 이미 있는 기사는 같은 슬롯을 덮어쓴다
+ * - 레코드를 기록한 뒤 헤더의 레코드 수를 갱신하고 force하므로, 기록 도중 종료되어도 헤더가 가리키는 레코드는 온전하다
+ *
+ * 파일은 DB 벡터에서 파생된 데이터이므로, 파일 오류는 로그만 남기고 배치를 실패시키지 않는다.
+ * 노드마다 별도 파일을 가지며, 다른 노드가 임베딩한 기사는 임베딩 Job 시작 시 DB에서 이어서 적재한다.
+ * 이어서 적재할 위치는 헤더의 (updated_at, id) 커서로 기록하므로, 파일을 새로 만들면 처음부터 다시 적재된다.
+ *
+ * @since 2025-05-22
+ * @modified 2025-05-22 차원 수를 임베딩 프로필에서 조회
+ * @modified 2025-05-22 최대 기사 ID 대신 헤더에 DB 적재 커서 기록
+ */
+@Slf4j
+@Component
+public class MappedVectorFile implements SmartLifecycle {
+	private static final int FILE_MAGIC = 0x56454346;
+	private static final int FILE_VERSION = 1;
+	private static final int HEADER_BYTES = 64;
+	private static final int DIMENSIONS_OFFSET = 8;
+	private static final int COUNT_OFFSET = 16;
+	private static final int CURSOR_UPDATED_AT_OFFSET = 24;
+	private static final int CURSOR_ARTICLE_ID_OFFSET = 32;
+	private static final LocalDateTime EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+	private static final String DATA_FILE = "vectors.dat";
+
+	private final boolean enabled;
+	private final Path directory;
+	private final int dimensions;
+	private final int segmentRecords;
+	private final int recordBytes;
+	private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+	private final Map<Long, Integer> slotByArticleId = new HashMap<>();
+	private final List<MappedByteBuffer> segments = new ArrayList<>();
+	private final List<FloatBuffer> floatSegments = new ArrayList<>();
+	private FileChannel channel;
+	private MappedByteBuffer header;
+	private int count;
+	private volatile boolean running;
+
+	public MappedVectorFile(
+		@Value("${article.vector.file.enabled:false}") boolean enabled,
+		@Value("${article.vector.file.directory:data/vectors}") Path directory,
+		EmbeddingProfile embeddingProfile,
+		@Value("${article.vector.file.segment-records:8192}") int segmentRecords) {
+		this.enabled = enabled;
+		this.directory = directory;
+		this.dimensions = embeddingProfile.getDimensions();
+		this.segmentRecords = segmentRecords;
+		this.recordBytes = Long.BYTES + dimensions * Float.BYTES;
+	}
+
+	/**
+	 * 벡터 파일을 열고 매핑한 뒤 기사 ID 인덱스를 만든다.
+	 * 헤더의 형식이나 차원 수가 다르면 파일을 새로 만든다.
+	 *
+	 * @since 2025-05-22
+	 */
+	@Override
+	public void start() {
+		if (!enabled) {
+			return;
+		}
+
+		lock.writeLock().lock();
+		try {
+			Files.createDirectories(directory);
+			open();
+			running = true;
+			log.info("벡터 파일 시작 - {}건, 경로: {}", count, directory.resolve(DATA_FILE).toAbsolutePath());
+		} catch (IOException e) {
+			log.error("벡터 파일을 열 수 없어 비활성화합니다: {}", e.getMessage());
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * 매핑된 내용을 디스크에 반영하고 파일을 닫는다.
+	 *
+	 * @since 2025-05-22
+	 */
+	@Override
+	public void stop() {
+		if (!running) {
+			return;
+		}
+
+		lock.writeLock().lock();
+		try {
+			segments.forEach(MappedByteBuffer::force);
+			header.force();
+			channel.close();
+		} catch (IOException e) {
+			log.warn("벡터 파일 종료 중 오류: {}", e.getMessage());
+		} finally {
+			running = false;
+			lock.writeLock().unlock();
+		}
+	}
+
+	@Override
+	public boolean isRunning() {
+		return running;
+	}
+
+	/**
+	 * DB에서 마지막으로 적재한 기사 벡터의 위치를 반환한다.
+	 *
+	 * @return 헤더에 기록된 커서, 새 파일이면 초기 커서
+	 * @since 2025-05-22
+	 */
+	public VectorCatchUpCursor catchUpCursor() {
+		lock.readLock().lock();
+		try {
+			return readCursor();
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * DB 적재 커서를 헤더에 기록한다. 커서까지의 벡터를 기록한 뒤에 호출해야 하며,
+	 * 현재 커서보다 앞선 커서는 무시한다.
+	 *
+	 * @param cursor 마지막으로 적재한 기사 벡터의 위치
+	 * @since 2025-05-22
+	 */
+	public void advanceCatchUpCursor(VectorCatchUpCursor cursor) {
+		if (!running) {
+			return;
+		}
+
+		lock.writeLock().lock();
+		try {
+			if (!cursor.isAfter(readCursor())) {
+				return;
+			}
+			header.putLong(CURSOR_UPDATED_AT_OFFSET, ChronoUnit.MICROS.between(EPOCH, cursor.lastUpdatedAt()));
+			header.putLong(CURSOR_ARTICLE_ID_OFFSET, cursor.lastArticleId());
+			header.force();
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * 기사 벡터를 기록한다. 트랜잭션 안에서 호출되면 커밋 이후에 기록한다.
+	 *
+	 * @param articleIds 기사 ID 목록
+	 * @param vectors articleIds와 같은 순서의 벡터 목록
+	 * @since 2025-05-22
+	 */
+	public void appendAfterCommit(List<Long> articleIds, List<float[]> vectors) {
+		if (!running || articleIds.isEmpty()) {
+			return;
+		}
+
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			appendAll(articleIds, vectors);
+			return;
+		}
+
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				appendAll(articleIds, vectors);
+			}
+		});
+	}
+
+	/**
+	 * 기사 벡터를 기록한다. 새 기사는 파일 끝에 붙이고, 이미 있는 기사는 같은 슬롯을 덮어쓴다.
+	 *
+	 * @param articleIds 기사 ID 목록
+	 * @param vectors articleIds와 같은 순서의 벡터 목록
+	 * @since 2025-05-22
+	 */
+	public void appendAll(List<Long> articleIds, List<float[]> vectors) {
+		if (!running) {
+			return;
+		}
+
+		lock.writeLock().lock();
+		try {
+			BitSet dirtySegments = new BitSet();
+			for (int i = 0; i < articleIds.size(); i++) {
+				long articleId = articleIds.get(i);
+				float[] vector = vectors.get(i);
+				if (null == vector || vector.length != dimensions) {
+					log.warn("벡터 파일 차원 불일치로 제외 - articleId: {}", articleId);
+					continue;
+				}
+
+				Integer slot = slotByArticleId.get(articleId);
+				if (null == slot) {
+					slot = count;
+					ensureSegment(slot / segmentRecords);
+				}
+				write(slot, articleId, vector);
+				dirtySegments.set(slot / segmentRecords);
+				if (slot == count) {
+					slotByArticleId.put(articleId, slot);
+					count++;
+				}
+			}
+
+			dirtySegments.stream().forEach(segment -> segments.get(segment).force());
+			header.putLong(COUNT_OFFSET, count);
+			header.force();
+		} catch (IOException e) {
+			log.warn("벡터 파일 기록 실패: {}", e.getMessage());
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * 기사 벡터를 복사하여 반환한다.
+	 *
+	 * @param articleId 기사 ID
+	 * @return 벡터 복사본, 파일에 없는 기사면 null
+	 * @since 2025-05-22
+	 */
+	public float[] get(long articleId) {
+		if (!running) {
+			return null;
+		}
+
+		lock.readLock().lock();
+		try {
+			Integer slot = slotByArticleId.get(articleId);
+			if (null == slot) {
+				return null;
+			}
+			float[] vector = new float[dimensions];
+			floatSegments.get(slot / segmentRecords).get(vectorOffset(slot), vector);
+			return vector;
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * 모든 레코드를 슬롯 순서로 복사 없이 순회한다.
+	 * 방문자는 매핑된 버퍼의 읽기 전용 뷰와 벡터 시작 위치를 받으며, 순회가 끝난 뒤에는 뷰를 보관하지 않아야 한다.
+	 * 순회하는 동안에는 기록이 대기한다.
+	 *
+	 * @param visitor 레코드 방문자
+	 * @return 방문한 레코드 수
+	 * @since 2025-05-22
+	 */
+	public int scan(VectorVisitor visitor) {
+		if (!running) {
+			return 0;
+		}
+
+		lock.readLock().lock();
+		try {
+			for (int segment = 0; segment * segmentRecords < count; segment++) {
+				ByteBuffer bytes = segments.get(segment);
+				FloatBuffer floats = floatSegments.get(segment).asReadOnlyBuffer();
+				int end = Math.min(count - segment * segmentRecords, segmentRecords);
+				for (int record = 0; record < end; record++) {
+					visitor.visit(bytes.getLong(record * recordBytes), floats, vectorOffset(record));
+				}
+			}
+			return count;
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * 질의 벡터와 코사인 유사도가 가장 높은 기사를 전체 레코드를 훑어 찾는다.
+	 *
+	 * @param query 질의 벡터
+	 * @param k 반환할 최대 개수
+	 * @return 유사도 내림차순 검색 결과
+	 * @since 2025-05-22
+	 */
+	public List<VectorSearchResult> findNearest(float[] query, int k) {
+		if (!running || query.length != dimensions || k <= 0) {
+			return List.of();
+		}
+
+		float queryNorm = (float)Math.sqrt(dot(FloatBuffer.wrap(query), 0, query));
+		if (queryNorm == 0f) {
+			return List.of();
+		}
+
+		PriorityQueue<VectorSearchResult> results =
+			new PriorityQueue<>(Comparator.comparingDouble(VectorSearchResult::similarity));
+		scan((articleId, vectors, offset) -> {
+			float norm = (float)Math.sqrt(squaredNorm(vectors, offset));
+			if (norm == 0f) {
+				return;
+			}
+			float similarity = dot(vectors, offset, query) / (norm * queryNorm);
+			if (results.size() < k || similarity > results.peek().similarity()) {
+				results.add(new VectorSearchResult(articleId, similarity));
+				if (results.size() > k) {
+					results.poll();
+				}
+			}
+		});
+
+		List<VectorSearchResult> sorted = new ArrayList<>(results);
+		sorted.sort(Comparator.comparingDouble(VectorSearchResult::similarity).reversed());
+		return sorted;
+	}
+
+	/**
+	 * 버퍼의 벡터와 질의 벡터의 내적을 계산한다.
+	 * 누적 변수를 나누어 루프를 펼쳐, JIT이 자동 벡터화할 수 있도록 한다.
+	 *
+	 * @param vectors 벡터가 들어 있는 버퍼
+	 * @param offset 벡터 시작 위치
+	 * @param query 질의 벡터
+	 * @return 내적
+	 * @since 2025-05-22
+	 */
+	public static float dot(FloatBuffer vectors, int offset, float[] query) {
+		float sum0 = 0f;
+		float sum1 = 0f;
+		float sum2 = 0f;
+		float sum3 = 0f;
+		int i = 0;
+		for (; i + 3 < query.length; i += 4) {
+			sum0 += vectors.get(offset + i) * query[i];
+			sum1 += vectors.get(offset + i + 1) * query[i + 1];
+			sum2 += vectors.get(offset + i + 2) * query[i + 2];
+			sum3 += vectors.get(offset + i + 3) * query[i + 3];
+		}
+		for (; i < query.length; i++) {
+			sum0 += vectors.get(offset + i) * query[i];
+		}
+		return sum0 + sum1 + sum2 + sum3;
+	}
+
+	private float squaredNorm(FloatBuffer vectors, int offset) {
+		float sum0 = 0f;
+		float sum1 = 0f;
+		int i = 0;
+		for (; i + 1 < dimensions; i += 2) {
+			float value0 = vectors.get(offset + i);
+			float value1 = vectors.get(offset + i + 1);
+			sum0 += value0 * value0;
+			sum1 += value1 * value1;
+		}
+		for (; i < dimensions; i++) {
+			float value = vectors.get(offset + i);
+			sum0 += value * value;
+		}
+		return sum0 + sum1;
+	}
+
+	private void open() throws IOException {
+		Path dataPath = directory.resolve(DATA_FILE);
+		channel = FileChannel.open(dataPath,
+			StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+		if (channel.size() >= HEADER_BYTES && !hasCompatibleHeader()) {
+			log.warn("벡터 파일 형식 또는 차원 수가 달라 새로 만듭니다: {}", dataPath);
+			channel.truncate(0);
+		}
+
+		header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_BYTES);
+		header.order(ByteOrder.LITTLE_ENDIAN);
+		if (header.getInt(0) != FILE_MAGIC) {
+			header.putInt(0, FILE_MAGIC);
+			header.putInt(4, FILE_VERSION);
+			header.putInt(DIMENSIONS_OFFSET, dimensions);
+			header.putLong(COUNT_OFFSET, 0L);
+			header.putLong(CURSOR_UPDATED_AT_OFFSET, 0L);
+			header.putLong(CURSOR_ARTICLE_ID_OFFSET, 0L);
+			header.force();
+		}
+
+		long storedCount = header.getLong(COUNT_OFFSET);
+		long completeRecords = (channel.size() - HEADER_BYTES) / recordBytes;
+		count = (int)Math.min(storedCount, completeRecords);
+		for (int segment = 0; segment * segmentRecords < count; segment++) {
+			ensureSegment(segment);
+		}
+		for (int slot = 0; slot < count; slot++) {
+			long articleId = segments.get(slot / segmentRecords).getLong((slot % segmentRecords) * recordBytes);
+			slotByArticleId.put(articleId, slot);
+		}
+	}
+
+	private VectorCatchUpCursor readCursor() {
+		return new VectorCatchUpCursor(
+			EPOCH.plus(header.getLong(CURSOR_UPDATED_AT_OFFSET), ChronoUnit.MICROS),
+			header.getLong(CURSOR_ARTICLE_ID_OFFSET));
+	}
+
+	private boolean hasCompatibleHeader() throws IOException {
+		ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+		while (buffer.hasRemaining()) {
+			if (channel.read(buffer, buffer.position()) < 0) {
+				break;
+			}
+		}
+		return buffer.getInt(0) == FILE_MAGIC
+			&& buffer.getInt(4) == FILE_VERSION
+			&& buffer.getInt(DIMENSIONS_OFFSET) == dimensions;
+	}
+
+	/**
+	 * 세그먼트를 매핑한다. 파일 끝을 넘는 구간을 READ_WRITE로 매핑하면 파일이 그만큼 늘어난다.
+	 */
+	private void ensureSegment(int segment) throws IOException {
+		while (segments.size() <= segment) {
+			long position = HEADER_BYTES + (long)segments.size() * segmentRecords * recordBytes;
+			MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_WRITE, position,
+				(long)segmentRecords * recordBytes);
+			mapped.order(ByteOrder.LITTLE_ENDIAN);
+			segments.add(mapped);
+			floatSegments.add(mapped.asFloatBuffer());
+		}
+	}
+
+	private void write(int slot, long articleId, float[] vector) {
+		segments.get(slot / segmentRecords).putLong((slot % segmentRecords) * recordBytes, articleId);
+		floatSegments.get(slot / segmentRecords).put(vectorOffset(slot), vector);
+	}
+
+	/**
+	 * 세그먼트의 float 뷰에서 슬롯 벡터가 시작하는 위치. 레코드 길이와 기사 ID 길이가 모두 4의 배수이므로 나누어떨어진다.
+	 */
+	private int vectorOffset(int slot) {
+		return ((slot % segmentRecords) * recordBytes + Long.BYTES) / Float.BYTES;
+	}
+
+	/**
+	 * 벡터 파일 레코드 방문자
+	 *
+	 * @since 2025-05-22
+	 */
+	@FunctionalInterface
+	public interface VectorVisitor {
+		/**
+		 * 레코드 하나를 방문한다.
+		 *
+		 * @param articleId 기사 ID
+		 * @param vectors 매핑된 버퍼의 읽기 전용 float 뷰
+		 * @param offset vectors에서 이 레코드 벡터가 시작하는 위치
+		 */
+		void visit(long articleId, FloatBuffer vectors, int offset);
+	}
+}
@@ -0,0 +1,307 @@
+package com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.vector.hnsw;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.SplittableRandom;
+
+/**
+ * HNSW(Hierarchical Navigable Small World) 그래프.
+ * 노드 번호(0부터 연속)로 벡터와 계층별 이웃 목록을 관리하며, 유사도는 정규화 벡터의 내적(코사인)을 사용한다.
+ *
+ * - 노드의 최상위 계층은 1/ln(M) 배율의 지수 분포로 정한다
+ * - 이웃은 후보 중 이미 고른 이웃보다 질의에 더 가까운 것만 고르는 휴리스틱으로 선택하여 군집 사이 연결을 유지한다
+ * - 계층 0은 2M개, 그 위 계층은 M개까지 이웃을 둔다
+ *
+ * 스레드 안전하지 않으며, 동기화는 {@link HnswVectorIndex}가 담당한다.
+ *
+ * @since 2025-05-22
+ */
+class HnswGraph {
+	private static final Comparator<Candidate> BY_SIMILARITY = Comparator.comparingDouble(Candidate::similarity);
+
+	private final OffHeapVectorStore vectors;
+	private final int m;
+	private final int maxM0;
+	private final int efConstruction;
+	private final double levelMultiplier;
+	private final SplittableRandom random = new SplittableRandom(42);
+	private int[][][] links = new int[1024][][];
+	private int size;
+	private int entryPoint = -1;
+	private int maxLevel = -1;
+
+	HnswGraph(OffHeapVectorStore vectors, int m, int efConstruction) {
+		this.vectors = vectors;
+		this.m = m;
+		this.maxM0 = m * 2;
+		this.efConstruction = efConstruction;
+		this.levelMultiplier = 1 / Math.log(m);
+	}
+
+	int size() {
+		return size;
+	}
+
+	/**
+	 * 벡터를 새 노드로 추가하고 이웃과 연결한다.
+	 *
+	 * @param vector 추가할 벡터
+	 * @return 새 노드 번호
+	 */
+	int insert(float[] vector) {
+		int node = size;
+		int level = (int)Math.floor(-Math.log(1 - random.nextDouble()) * levelMultiplier);
+		vectors.set(node, vector);
+		allocate(node, level);
+		size++;
+
+		if (entryPoint < 0) {
+			entryPoint = node;
+			maxLevel = level;
+			return node;
+		}
+
+		float[] query = vectors.get(node);
+		Candidate nearest = new Candidate(entryPoint, vectors.similarity(entryPoint, query));
+		for (int l = maxLevel; l > level; l--) {
+			nearest = searchLayer(query, List.of(nearest), 1, l).getFirst();
+		}
+
+		List<Candidate> entryPoints = List.of(nearest);
+		for (int l = Math.min(level, maxLevel); l >= 0; l--) {
+			List<Candidate> candidates = searchLayer(query, entryPoints, efConstruction, l);
+			connect(node, selectNeighbors(candidates, maxLinks(l)), l);
+			entryPoints = candidates;
+		}
+
+		if (level > maxLevel) {
+			entryPoint = node;
+			maxLevel = level;
+		}
+		return node;
+	}
+
+	/**
+	 * 기존 노드의 벡터를 교체한다. 이웃 연결은 유지한다.
+	 *
+	 * @param node 노드 번호
+	 * @param vector 새 벡터
+	 */
+	void update(int node, float[] vector) {
+		vectors.set(node, vector);
+	}
+
+	/**
+	 * 질의 벡터와 가장 유사한 노드를 찾는다.
+	 *
+	 * @param vector 질의 벡터
+	 * @param k 반환할 최대 개수
+	 * @param ef 계층 0 탐색 후보 수 (k 이상)
+	 * @return 유사도 내림차순 후보 목록
+	 */
+	List<Candidate> search(float[] vector, int k, int ef) {
+		if (entryPoint < 0) {
+			return List.of();
+		}
+
+		float[] query = vectors.normalize(vector);
+		Candidate nearest = new Candidate(entryPoint, vectors.similarity(entryPoint, query));
+		for (int l = maxLevel; l > 0; l--) {
+			nearest = searchLayer(query, List.of(nearest), 1, l).getFirst();
+		}
+		List<Candidate> candidates = searchLayer(query, List.of(nearest), Math.max(ef, k), 0);
+		return candidates.subList(0, Math.min(k, candidates.size()));
+	}
+
+	/**
+	 * 노드의 정규화 벡터를 복사한다.
+	 *
+	 * @param node 노드 번호
+	 * @return 정규화된 벡터
+	 */
+	float[] vector(int node) {
+		return vectors.get(node);
+	}
+
+	/**
+	 * 그래프(벡터 포함)를 기록한다.
+	 *
+	 * @param out 출력 스트림
+	 * @throws IOException 기록 중 오류가 발생한 경우
+	 */
+	void write(DataOutputStream out) throws IOException {
+		out.writeInt(size);
+		out.writeInt(entryPoint);
+		out.writeInt(maxLevel);
+		for (int node = 0; node < size; node++) {
+			for (float value : vectors.get(node)) {
+				out.writeFloat(value);
+			}
+			out.writeInt(links[node].length);
+			for (int[] levelLinks : links[node]) {
+				out.writeInt(levelLinks[0]);
+				for (int i = 1; i <= levelLinks[0]; i++) {
+					out.writeInt(levelLinks[i]);
+				}
+			}
+		}
+	}
+
+	/**
+	 * {@link #write(DataOutputStream)}로 기록한 그래프를 읽어 현재 그래프를 채운다.
+	 *
+	 * @param in 입력 스트림
+	 * @throws IOException 읽기 중 오류가 발생한 경우
+	 */
+	void read(DataInputStream in) throws IOException {
+		int count = in.readInt();
+		int storedEntryPoint = in.readInt();
+		int storedMaxLevel = in.readInt();
+		float[] vector = new float[vectors.dimensions()];
+		for (int node = 0; node < count; node++) {
+			for (int i = 0; i < vector.length; i++) {
+				vector[i] = in.readFloat();
+			}
+			vectors.set(node, vector);
+			int levels = in.readInt();
+			allocate(node, levels - 1);
+			for (int l = 0; l < levels; l++) {
+				int linkCount = in.readInt();
+				links[node][l][0] = linkCount;
+				for (int i = 1; i <= linkCount; i++) {
+					links[node][l][i] = in.readInt();
+				}
+			}
+		}
+		size = count;
+		entryPoint = storedEntryPoint;
+		maxLevel = storedMaxLevel;
+	}
+
+	private void allocate(int node, int level) {
+		if (node >= links.length) {
+			links = Arrays.copyOf(links, links.length * 2);
+		}
+		links[node] = new int[level + 1][];
+		for (int l = 0; l <= level; l++) {
+			links[node][l] = new int[maxLinks(l) + 1];
+		}
+	}
+
+	private int maxLinks(int level) {
+		return level == 0 ? maxM0 : m;
+	}
+
+	private List<Candidate> searchLayer(float[] query, List<Candidate> entryPoints, int ef, int level) {
+		BitSet visited = new BitSet(size);
+		PriorityQueue<Candidate> candidates = new PriorityQueue<>(BY_SIMILARITY.reversed());
+		PriorityQueue<Candidate> results = new PriorityQueue<>(BY_SIMILARITY);
+		for (Candidate entry : entryPoints) {
+			visited.set(entry.node());
+			candidates.add(entry);
+			results.add(entry);
+			if (results.size() > ef) {
+				results.poll();
+			}
+		}
+
+		while (!candidates.isEmpty()) {
+			Candidate current = candidates.poll();
+			if (results.size() >= ef && current.similarity() < results.peek().similarity()) {
+				break;
+			}
+
+			int[] neighbors = links[current.node()][level];
+			for (int i = 1; i <= neighbors[0]; i++) {
+				int neighbor = neighbors[i];
+				if (visited.get(neighbor)) {
+					continue;
+				}
+				visited.set(neighbor);
+
+				float similarity = vectors.similarity(neighbor, query);
+				if (results.size() < ef || similarity > results.peek().similarity()) {
+					Candidate candidate = new Candidate(neighbor, similarity);
+					candidates.add(candidate);
+					results.add(candidate);
+					if (results.size() > ef) {
+						results.poll();
+					}
+				}
+			}
+		}
+
+		List<Candidate> sorted = new ArrayList<>(results);
+		sorted.sort(BY_SIMILARITY.reversed());
+		return sorted;
+	}
+
+	private List<Candidate> selectNeighbors(List<Candidate> candidates, int maxCount) {
+		List<Candidate> selected = new ArrayList<>(maxCount);
+		List<Candidate> pruned = new ArrayList<>();
+		for (Candidate candidate : candidates) {
+			if (selected.size() >= maxCount) {
+				break;
+			}
+			boolean diverse = true;
+			for (Candidate chosen : selected) {
+				if (vectors.similarity(candidate.node(), chosen.node()) > candidate.similarity()) {
+					diverse = false;
+					break;
+				}
+			}
+			if (diverse) {
+				selected.add(candidate);
+			} else {
+				pruned.add(candidate);
+			}
+		}
+
+		for (int i = 0; i < pruned.size() && selected.size() < maxCount; i++) {
+			selected.add(pruned.get(i));
+		}
+		return selected;
+	}
+
+	private void connect(int node, List<Candidate> neighbors, int level) {
+		int[] nodeLinks = links[node][level];
+		for (Candidate neighbor : neighbors) {
+			if (neighbor.node() == node) {
+				continue;
+			}
+			nodeLinks[++nodeLinks[0]] = neighbor.node();
+			addLink(neighbor.node(), node, level);
+		}
+	}
+
+	private void addLink(int node, int neighbor, int level) {
+		int[] nodeLinks = links[node][level];
+		if (nodeLinks[0] < nodeLinks.length - 1) {
+			nodeLinks[++nodeLinks[0]] = neighbor;
+			return;
+		}
+
+		List<Candidate> candidates = new ArrayList<>(nodeLinks[0] + 1);
+		candidates.add(new Candidate(neighbor, vectors.similarity(node, neighbor)));
+		for (int i = 1; i <= nodeLinks[0]; i++) {
+			candidates.add(new Candidate(nodeLinks[i], vectors.similarity(node, nodeLinks[i])));
+		}
+		candidates.sort(BY_SIMILARITY.reversed());
+
+		List<Candidate> selected = selectNeighbors(candidates, nodeLinks.length - 1);
+		nodeLinks[0] = selected.size();
+		for (int i = 0; i < selected.size(); i++) {
+			nodeLinks[i + 1] = selected.get(i).node();
+		}
+	}
+
+	record Candidate(int node, float similarity) {
+	}
+}
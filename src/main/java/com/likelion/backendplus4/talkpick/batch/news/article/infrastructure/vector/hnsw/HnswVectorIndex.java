@@ -0,0 +1,531 @@
+package com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.vector.hnsw;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.vector.EmbeddingProfile;
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.vector.VectorCatchUpCursor;
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.vector.VectorSearchResult;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 기사 요약 벡터에 대한 프로세스 내 HNSW 근사 최근접 이웃 인덱스.
+ * 배치 단계에서 관련 기사 조회, 군집화 등을 Elasticsearch 왕복 없이 수행하기 위해 사용한다.
+ *
+ * - 벡터는 힙 밖(direct buffer)에, 그래프 이웃 목록은 힙에 둔다
+ * - 임베딩 Writer의 트랜잭션이 커밋된 후 추가되며, 추가할 때마다 로그 파일(hnsw.log)에 (기사 ID, 벡터)를 이어 쓴다
+ * - 로그 파일은 헤더(매직, 버전, 차원 수)로 시작하며, 스냅샷이나 로그 헤더가 현재 설정과 다르면 둘 다 버리고 새로 만든다
+ * - snapshot-interval건마다, 그리고 애플리케이션 종료 시 전체 그래프를 스냅샷(hnsw.snapshot)으로 저장하고 로그를 비운다
+ * - 시작 시 스냅샷을 읽은 뒤 로그를 다시 적용하므로, 비정상 종료되어도 커밋된 추가분을 잃지 않는다
+ * - 이미 있는 기사를 다시 추가하면 벡터만 교체하고 이웃 연결은 유지한다
+ *
+ * 인덱스는 DB 벡터에서 파생된 데이터이므로, 파일 오류는 로그만 남기고 배치를 실패시키지 않는다.
+ * 노드마다 별도 인덱스를 가지며, 다른 노드가 임베딩한 기사는 임베딩 Job 시작 시 DB에서 이어서 적재한다.
+ * 이어서 적재할 위치는 (updated_at, id) 커서 파일(hnsw.cursor)에 기록하며, 빈 인덱스로 시작하면 처음부터 다시 적재한다.
+ *
+ * @since 2025-05-22
+ * @modified 2025-05-22 차원 수를 임베딩 프로필에서 조회
+ * @modified 2025-05-22 최대 기사 ID 대신 DB 적재 커서 파일 기록
+ * @modified 2025-05-22 로그 파일 헤더 추가, 설정이 다른 스냅샷/로그를 버리면 커서도 초기화
+ */
+@Slf4j
+@Component
+public class HnswVectorIndex implements SmartLifecycle {
+	private static final int SNAPSHOT_MAGIC = 0x484E5357;
+	private static final int SNAPSHOT_VERSION = 1;
+	private static final String SNAPSHOT_FILE = "hnsw.snapshot";
+	private static final String LOG_FILE = "hnsw.log";
+	private static final int LOG_MAGIC = 0x484E534C;
+	private static final int LOG_VERSION = 1;
+	private static final int LOG_HEADER_BYTES = 3 * Integer.BYTES;
+	private static final String CURSOR_FILE = "hnsw.cursor";
+	private static final LocalDateTime EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+	private final boolean enabled;
+	private final Path directory;
+	private final int dimensions;
+	private final int m;
+	private final int efConstruction;
+	private final int efSearch;
+	private final int snapshotInterval;
+	private final int segmentSize;
+	private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+	private final Map<Long, Integer> nodeByArticleId = new HashMap<>();
+	private long[] articleIdByNode = new long[1024];
+	private HnswGraph graph;
+	private FileChannel logChannel;
+	private int addsSinceSnapshot;
+	private boolean discarded;
+	private VectorCatchUpCursor catchUpCursor = VectorCatchUpCursor.initial();
+	private volatile boolean running;
+
+	public HnswVectorIndex(
+		@Value("${article.vector.hnsw.enabled:false}") boolean enabled,
+		@Value("${article.vector.hnsw.directory:data/hnsw}") Path directory,
+		EmbeddingProfile embeddingProfile,
+		@Value("${article.vector.hnsw.m:16}") int m,
+		@Value("${article.vector.hnsw.ef-construction:200}") int efConstruction,
+		@Value("${article.vector.hnsw.ef-search:64}") int efSearch,
+		@Value("${article.vector.hnsw.snapshot-interval:10000}") int snapshotInterval,
+		@Value("${article.vector.hnsw.segment-size:8192}") int segmentSize) {
+		this.enabled = enabled;
+		this.directory = directory;
+		this.dimensions = embeddingProfile.getDimensions();
+		this.m = m;
+		this.efConstruction = efConstruction;
+		this.efSearch = efSearch;
+		this.snapshotInterval = snapshotInterval;
+		this.segmentSize = segmentSize;
+		this.graph = newGraph();
+	}
+
+	/**
+	 * 스냅샷과 로그를 읽어 인덱스를 복원하고 로그 파일을 연다.
+	 *
+	 * @since 2025-05-22
+	 */
+	@Override
+	public void start() {
+		if (!enabled) {
+			return;
+		}
+
+		lock.writeLock().lock();
+		try {
+			Files.createDirectories(directory);
+			loadSnapshot();
+			replayLog();
+			loadCursor();
+			openLog(StandardOpenOption.APPEND);
+			running = true;
+			log.info("HNSW 벡터 인덱스 시작 - {}건, 경로: {}", graph.size(), directory.toAbsolutePath());
+		} catch (IOException e) {
+			log.error("HNSW 벡터 인덱스를 열 수 없어 비활성화합니다: {}", e.getMessage());
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * 스냅샷을 저장하고 로그 파일을 닫는다.
+	 *
+	 * @since 2025-05-22
+	 */
+	@Override
+	public void stop() {
+		if (!running) {
+			return;
+		}
+
+		lock.writeLock().lock();
+		try {
+			snapshot();
+			logChannel.close();
+		} catch (IOException e) {
+			log.warn("HNSW 벡터 인덱스 종료 중 오류: {}", e.getMessage());
+		} finally {
+			running = false;
+			lock.writeLock().unlock();
+		}
+	}
+
+	@Override
+	public boolean isRunning() {
+		return running;
+	}
+
+	/**
+	 * DB에서 마지막으로 적재한 기사 벡터의 위치를 반환한다.
+	 *
+	 * @return 커서 파일에 기록된 커서, 인덱스가 비어 있으면 초기 커서
+	 * @since 2025-05-22
+	 */
+	public VectorCatchUpCursor catchUpCursor() {
+		lock.readLock().lock();
+		try {
+			return catchUpCursor;
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * DB 적재 커서를 커서 파일에 기록한다. 커서까지의 벡터를 추가한 뒤에 호출해야 하며,
+	 * 현재 커서보다 앞선 커서는 무시한다.
+	 *
+	 * @param cursor 마지막으로 적재한 기사 벡터의 위치
+	 * @since 2025-05-22
+	 */
+	public void advanceCatchUpCursor(VectorCatchUpCursor cursor) {
+		if (!running) {
+			return;
+		}
+
+		lock.writeLock().lock();
+		try {
+			if (!cursor.isAfter(catchUpCursor)) {
+				return;
+			}
+			catchUpCursor = cursor;
+			writeCursor(cursor);
+		} catch (IOException e) {
+			log.warn("HNSW 벡터 인덱스 커서 기록 실패: {}", e.getMessage());
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * 기사 벡터를 추가한다. 트랜잭션 안에서 호출되면 커밋 이후에 추가한다.
+	 *
+	 * @param articleIds 기사 ID 목록
+	 * @param vectors articleIds와 같은 순서의 벡터 목록
+	 * @since 2025-05-22
+	 */
+	public void addAfterCommit(List<Long> articleIds, List<float[]> vectors) {
+		if (!running || articleIds.isEmpty()) {
+			return;
+		}
+
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			addAll(articleIds, vectors);
+			return;
+		}
+
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				addAll(articleIds, vectors);
+			}
+		});
+	}
+
+	/**
+	 * 기사 벡터를 추가하고 로그 파일에 기록한다.
+	 *
+	 * @param articleIds 기사 ID 목록
+	 * @param vectors articleIds와 같은 순서의 벡터 목록
+	 * @since 2025-05-22
+	 */
+	public void addAll(List<Long> articleIds, List<float[]> vectors) {
+		if (!running) {
+			return;
+		}
+
+		lock.writeLock().lock();
+		try {
+			ByteBuffer record = ByteBuffer.allocate(Long.BYTES + dimensions * Float.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+			for (int i = 0; i < articleIds.size(); i++) {
+				float[] vector = vectors.get(i);
+				if (null == vector || vector.length != dimensions) {
+					log.warn("HNSW 벡터 인덱스 차원 불일치로 제외 - articleId: {}", articleIds.get(i));
+					continue;
+				}
+				put(articleIds.get(i), vector);
+				appendLog(record, articleIds.get(i), vector);
+			}
+			logChannel.force(false);
+
+			addsSinceSnapshot += articleIds.size();
+			if (addsSinceSnapshot >= snapshotInterval) {
+				snapshot();
+			}
+		} catch (IOException e) {
+			log.warn("HNSW 벡터 인덱스 로그 기록 실패: {}", e.getMessage());
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * 질의 벡터와 가장 유사한 기사를 찾는다.
+	 *
+	 * @param vector 질의 벡터
+	 * @param k 반환할 최대 개수
+	 * @return 유사도 내림차순 검색 결과
+	 * @since 2025-05-22
+	 */
+	public List<VectorSearchResult> search(float[] vector, int k) {
+		if (!running || vector.length != dimensions) {
+			return List.of();
+		}
+
+		lock.readLock().lock();
+		try {
+			return toResults(graph.search(vector, k, efSearch), -1L);
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * 주어진 기사와 가장 유사한 다른 기사를 찾는다.
+	 *
+	 * @param articleId 기준 기사 ID
+	 * @param k 반환할 최대 개수
+	 * @return 유사도 내림차순 검색 결과 (기준 기사 제외), 인덱스에 없는 기사면 빈 목록
+	 * @since 2025-05-22
+	 */
+	public List<VectorSearchResult> findSimilar(long articleId, int k) {
+		if (!running) {
+			return List.of();
+		}
+
+		lock.readLock().lock();
+		try {
+			Integer node = nodeByArticleId.get(articleId);
+			if (null == node) {
+				return List.of();
+			}
+			List<VectorSearchResult> results = toResults(graph.search(graph.vector(node), k + 1, efSearch), articleId);
+			return results.subList(0, Math.min(k, results.size()));
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	private List<VectorSearchResult> toResults(List<HnswGraph.Candidate> candidates, long excludedArticleId) {
+		List<VectorSearchResult> results = new ArrayList<>(candidates.size());
+		for (HnswGraph.Candidate candidate : candidates) {
+			long articleId = articleIdByNode[candidate.node()];
+			if (articleId != excludedArticleId) {
+				results.add(new VectorSearchResult(articleId, candidate.similarity()));
+			}
+		}
+		return results;
+	}
+
+	private void put(long articleId, float[] vector) {
+		Integer node = nodeByArticleId.get(articleId);
+		if (null != node) {
+			graph.update(node, vector);
+			return;
+		}
+
+		int newNode = graph.insert(vector);
+		if (newNode >= articleIdByNode.length) {
+			articleIdByNode = Arrays.copyOf(articleIdByNode, articleIdByNode.length * 2);
+		}
+		articleIdByNode[newNode] = articleId;
+		nodeByArticleId.put(articleId, newNode);
+	}
+
+	private void appendLog(ByteBuffer record, long articleId, float[] vector) throws IOException {
+		record.clear();
+		record.putLong(articleId);
+		for (float value : vector) {
+			record.putFloat(value);
+		}
+		record.flip();
+		while (record.hasRemaining()) {
+			logChannel.write(record);
+		}
+	}
+
+	/**
+	 * 그래프 전체를 임시 파일에 기록한 뒤 스냅샷 파일로 교체하고 로그를 비운다.
+	 * 교체 후 로그를 비우기 전에 종료되면, 다음 시작 시 로그가 다시 적용되지만 같은 기사는 벡터만 교체되므로 결과는 같다.
+	 */
+	private void snapshot() throws IOException {
+		Path snapshotPath = directory.resolve(SNAPSHOT_FILE);
+		Path tempPath = directory.resolve(SNAPSHOT_FILE + ".tmp");
+		try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempPath)))) {
+			out.writeInt(SNAPSHOT_MAGIC);
+			out.writeInt(SNAPSHOT_VERSION);
+			out.writeInt(dimensions);
+			out.writeInt(m);
+			graph.write(out);
+			for (int node = 0; node < graph.size(); node++) {
+				out.writeLong(articleIdByNode[node]);
+			}
+		}
+		Files.move(tempPath, snapshotPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+		logChannel.close();
+		openLog(StandardOpenOption.TRUNCATE_EXISTING);
+		addsSinceSnapshot = 0;
+		log.info("HNSW 벡터 인덱스 스냅샷 저장 - {}건", graph.size());
+	}
+
+	private void loadSnapshot() throws IOException {
+		Path snapshotPath = directory.resolve(SNAPSHOT_FILE);
+		if (!Files.exists(snapshotPath)) {
+			return;
+		}
+
+		boolean compatible;
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(snapshotPath)))) {
+			compatible = in.readInt() == SNAPSHOT_MAGIC && in.readInt() == SNAPSHOT_VERSION
+				&& in.readInt() == dimensions && in.readInt() == m;
+			if (!compatible) {
+				log.warn("HNSW 스냅샷 형식 또는 설정이 달라 새로 만듭니다: {}", snapshotPath);
+			} else {
+				readGraph(in);
+			}
+		} catch (IOException e) {
+			log.warn("HNSW 스냅샷을 읽을 수 없어 새로 만듭니다: {}", e.getMessage());
+			graph = newGraph();
+			nodeByArticleId.clear();
+			articleIdByNode = new long[1024];
+			compatible = false;
+		}
+
+		if (!compatible) {
+			discardFiles();
+		}
+	}
+
+	private void readGraph(DataInputStream in) throws IOException {
+		graph.read(in);
+		articleIdByNode = new long[Math.max(1024, graph.size())];
+		for (int node = 0; node < graph.size(); node++) {
+			articleIdByNode[node] = in.readLong();
+			nodeByArticleId.put(articleIdByNode[node], node);
+		}
+	}
+
+	/**
+	 * 스냅샷과 로그를 버린다. 버린 스냅샷 이후의 로그는 다른 설정으로 기록되었을 수 있으므로 함께 버리며,
+	 * 다시 시작할 때 같은 스냅샷 때문에 새 로그를 또 버리지 않도록 스냅샷 파일도 지운다.
+	 */
+	private void discardFiles() throws IOException {
+		Files.deleteIfExists(directory.resolve(SNAPSHOT_FILE));
+		Files.deleteIfExists(directory.resolve(LOG_FILE));
+		discarded = true;
+	}
+
+	/**
+	 * 로그의 완전한 레코드만 다시 적용하고, 기록 도중 종료되어 남은 불완전한 꼬리는 잘라낸다.
+	 * 헤더의 형식이나 차원 수가 다르면 레코드 길이를 알 수 없으므로 로그를 버린다.
+	 */
+	private void replayLog() throws IOException {
+		Path logPath = directory.resolve(LOG_FILE);
+		if (!Files.exists(logPath)) {
+			return;
+		}
+
+		int recordBytes = Long.BYTES + dimensions * Float.BYTES;
+		float[] vector = new float[dimensions];
+		ByteBuffer record = ByteBuffer.allocate(recordBytes).order(ByteOrder.LITTLE_ENDIAN);
+		int replayed = 0;
+		try (FileChannel channel = FileChannel.open(logPath, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+			if (!hasCompatibleLogHeader(channel)) {
+				log.warn("HNSW 로그 형식 또는 차원 수가 달라 버립니다: {}", logPath);
+				channel.close();
+				Files.delete(logPath);
+				discarded = true;
+				return;
+			}
+
+			long completeRecords = (channel.size() - LOG_HEADER_BYTES) / recordBytes;
+			channel.position(LOG_HEADER_BYTES);
+			for (long i = 0; i < completeRecords; i++) {
+				record.clear();
+				while (record.hasRemaining()) {
+					channel.read(record);
+				}
+				record.flip();
+				long articleId = record.getLong();
+				record.asFloatBuffer().get(vector);
+				put(articleId, vector);
+				replayed++;
+			}
+			channel.truncate(LOG_HEADER_BYTES + completeRecords * recordBytes);
+		}
+		addsSinceSnapshot = replayed;
+		if (replayed > 0) {
+			log.info("HNSW 벡터 인덱스 로그 적용 - {}건", replayed);
+		}
+	}
+
+	/**
+	 * 커서 파일을 읽는다. 인덱스가 비어 있거나 스냅샷/로그를 버렸으면 커서가 가리키는 벡터가 없으므로
+	 * 커서 파일을 지우고 처음부터 적재한다.
+	 */
+	private void loadCursor() throws IOException {
+		Path cursorPath = directory.resolve(CURSOR_FILE);
+		if (graph.size() == 0 || discarded) {
+			Files.deleteIfExists(cursorPath);
+			return;
+		}
+		if (!Files.exists(cursorPath)) {
+			return;
+		}
+
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(cursorPath)))) {
+			catchUpCursor = new VectorCatchUpCursor(EPOCH.plus(in.readLong(), ChronoUnit.MICROS), in.readLong());
+		} catch (IOException e) {
+			log.warn("HNSW 커서 파일을 읽을 수 없어 처음부터 적재합니다: {}", e.getMessage());
+		}
+	}
+
+	private void writeCursor(VectorCatchUpCursor cursor) throws IOException {
+		Path cursorPath = directory.resolve(CURSOR_FILE);
+		Path tempPath = directory.resolve(CURSOR_FILE + ".tmp");
+		try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(tempPath))) {
+			out.writeLong(ChronoUnit.MICROS.between(EPOCH, cursor.lastUpdatedAt()));
+			out.writeLong(cursor.lastArticleId());
+		}
+		Files.move(tempPath, cursorPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+	}
+
+	private boolean hasCompatibleLogHeader(FileChannel channel) throws IOException {
+		if (channel.size() < LOG_HEADER_BYTES) {
+			return false;
+		}
+		ByteBuffer header = ByteBuffer.allocate(LOG_HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+		while (header.hasRemaining()) {
+			if (channel.read(header, header.position()) < 0) {
+				return false;
+			}
+		}
+		return header.getInt(0) == LOG_MAGIC
+			&& header.getInt(Integer.BYTES) == LOG_VERSION
+			&& header.getInt(2 * Integer.BYTES) == dimensions;
+	}
+
+	/**
+	 * 로그 파일을 연다. 비어 있으면 헤더를 기록한다.
+	 */
+	private void openLog(StandardOpenOption mode) throws IOException {
+		logChannel = FileChannel.open(directory.resolve(LOG_FILE),
+			StandardOpenOption.CREATE, StandardOpenOption.WRITE, mode);
+		if (logChannel.size() == 0) {
+			ByteBuffer header = ByteBuffer.allocate(LOG_HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+			header.putInt(LOG_MAGIC).putInt(LOG_VERSION).putInt(dimensions).flip();
+			while (header.hasRemaining()) {
+				logChannel.write(header);
+			}
+			logChannel.force(false);
+		}
+	}
+
+	private HnswGraph newGraph() {
+		return new HnswGraph(new OffHeapVectorStore(dimensions, segmentSize), m, efConstruction);
+	}
+}
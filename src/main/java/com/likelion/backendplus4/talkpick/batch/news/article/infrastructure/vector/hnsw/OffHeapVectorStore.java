@@ -0,0 +1,143 @@
+package com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.vector.hnsw;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * HNSW 노드 번호별 벡터를 힙 밖(direct buffer)에 고정 길이로 보관하는 저장소.
+ * 벡터 수만큼 float[]를 힙에 두면 GC 대상 객체가 커지므로, 세그먼트 단위의 direct buffer에 이어 붙인다.
+ *
+ * - 벡터는 저장 시 L2 정규화하여, 내적이 곧 코사인 유사도가 되도록 한다
+ * - 세그먼트가 가득 차면 같은 크기의 세그먼트를 추가한다
+ *
+ * 스레드 안전하지 않으며, 동기화는 {@link HnswVectorIndex}가 담당한다.
+ *
+ * @since 2025-05-22
+ */
+class OffHeapVectorStore {
+	private final int dimensions;
+	private final int vectorsPerSegment;
+	private final List<FloatBuffer> segments = new ArrayList<>();
+
+	OffHeapVectorStore(int dimensions, int vectorsPerSegment) {
+		this.dimensions = dimensions;
+		this.vectorsPerSegment = vectorsPerSegment;
+	}
+
+	int dimensions() {
+		return dimensions;
+	}
+
+	/**
+	 * 노드 번호 위치에 정규화한 벡터를 기록한다. 필요하면 세그먼트를 추가한다.
+	 *
+	 * @param node 노드 번호
+	 * @param vector 원본 벡터
+	 */
+	void set(int node, float[] vector) {
+		while (node / vectorsPerSegment >= segments.size()) {
+			segments.add(ByteBuffer.allocateDirect(vectorsPerSegment * dimensions * Float.BYTES)
+				.order(ByteOrder.nativeOrder())
+				.asFloatBuffer());
+		}
+
+		float norm = norm(vector);
+		FloatBuffer segment = segment(node);
+		int offset = offset(node);
+		for (int i = 0; i < dimensions; i++) {
+			segment.put(offset + i, norm == 0f ? 0f : vector[i] / norm);
+		}
+	}
+
+	/**
+	 * 저장된 벡터와 정규화된 질의 벡터의 내적(코사인 유사도)을 계산한다.
+	 *
+	 * @param node 노드 번호
+	 * @param query 정규화된 질의 벡터
+	 * @return 코사인 유사도
+	 */
+	float similarity(int node, float[] query) {
+		FloatBuffer segment = segment(node);
+		int offset = offset(node);
+		float sum0 = 0f;
+		float sum1 = 0f;
+		float sum2 = 0f;
+		float sum3 = 0f;
+		int i = 0;
+		for (; i + 3 < dimensions; i += 4) {
+			sum0 += segment.get(offset + i) * query[i];
+			sum1 += segment.get(offset + i + 1) * query[i + 1];
+			sum2 += segment.get(offset + i + 2) * query[i + 2];
+			sum3 += segment.get(offset + i + 3) * query[i + 3];
+		}
+		for (; i < dimensions; i++) {
+			sum0 += segment.get(offset + i) * query[i];
+		}
+		return sum0 + sum1 + sum2 + sum3;
+	}
+
+	/**
+	 * 저장된 두 벡터의 코사인 유사도를 계산한다.
+	 *
+	 * @param node 노드 번호
+	 * @param other 다른 노드 번호
+	 * @return 코사인 유사도
+	 */
+	float similarity(int node, int other) {
+		FloatBuffer segment = segment(node);
+		FloatBuffer otherSegment = segment(other);
+		int offset = offset(node);
+		int otherOffset = offset(other);
+		float sum = 0f;
+		for (int i = 0; i < dimensions; i++) {
+			sum += segment.get(offset + i) * otherSegment.get(otherOffset + i);
+		}
+		return sum;
+	}
+
+	/**
+	 * 저장된 정규화 벡터를 복사한다.
+	 *
+	 * @param node 노드 번호
+	 * @return 정규화된 벡터 복사본
+	 */
+	float[] get(int node) {
+		float[] vector = new float[dimensions];
+		segment(node).get(offset(node), vector);
+		return vector;
+	}
+
+	/**
+	 * 질의 벡터를 저장 형식과 같게 L2 정규화한 복사본을 만든다.
+	 *
+	 * @param vector 원본 벡터
+	 * @return 정규화된 벡터
+	 */
+	float[] normalize(float[] vector) {
+		float norm = norm(vector);
+		float[] normalized = new float[dimensions];
+		for (int i = 0; i < dimensions; i++) {
+			normalized[i] = norm == 0f ? 0f : vector[i] / norm;
+		}
+		return normalized;
+	}
+
+	private float norm(float[] vector) {
+		float sum = 0f;
+		for (int i = 0; i < dimensions; i++) {
+			sum += vector[i] * vector[i];
+		}
+		return (float)Math.sqrt(sum);
+	}
+
+	private FloatBuffer segment(int node) {
+		return segments.get(node / vectorsPerSegment);
+	}
+
+	private int offset(int node) {
+		return (node % vectorsPerSegment) * dimensions;
+	}
+}
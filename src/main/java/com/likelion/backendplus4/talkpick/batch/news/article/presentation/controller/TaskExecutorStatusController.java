@@ -0,0 +1,39 @@
+package com.likelion.backendplus4.talkpick.batch.news.article.presentation.controller;
+
+import static com.likelion.backendplus4.talkpick.batch.common.response.ApiResponse.*;
+
+import java.util.List;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.likelion.backendplus4.talkpick.batch.common.response.ApiResponse;
+import com.likelion.backendplus4.talkpick.batch.news.article.application.port.in.TaskExecutorStatusUseCase;
+import com.likelion.backendplus4.talkpick.batch.news.article.application.service.dto.TaskExecutorStatusResponse;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 배치 작업용 TaskExecutor의 실행 현황(실행 중 작업 수, 대기 큐 길이)을 조회하는 컨트롤러.
+ *
+ * @since 2025-05-22
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/news/executors")
+public class TaskExecutorStatusController {
+	private final TaskExecutorStatusUseCase taskExecutorStatusUseCase;
+
+	/**
+	 * 모든 TaskExecutor의 실행 현황을 조회한다.
+	 *
+	 * @return Executor별 실행 현황
+	 * @since 2025-05-22
+	 */
+	@GetMapping
+	public ResponseEntity<ApiResponse<List<TaskExecutorStatusResponse>>> getStatuses() {
+		return success(taskExecutorStatusUseCase.getStatuses());
+	}
+}
@@ -0,0 +1,14 @@
+-- 증분 색인을 위한 변경 시각 컬럼과 색인 커서 테이블
+-- 1. 변경 시각 컬럼 추가 (기존 행은 추가 시점 시각으로 채워져 최초 실행 시 전체 색인된다)
+ALTER TABLE article
+    ADD COLUMN updated_at DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6) ON UPDATE CURRENT_TIMESTAMP(6);
+
+-- 2. 키셋 조회 (updated_at, id) 순서용 인덱스
+CREATE INDEX idx_article_updated_at_id ON article (updated_at, id);
+
+-- 3. 색인별 마지막 색인 위치
+CREATE TABLE news_index_cursor (
+    index_name      VARCHAR(100) NOT NULL PRIMARY KEY,
+    last_updated_at DATETIME(6)  NOT NULL,
+    last_article_id BIGINT       NOT NULL
+) ENGINE=InnoDB;
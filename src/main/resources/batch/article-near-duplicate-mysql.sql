@@ -0,0 +1,16 @@
+-- 유사 중복 기사 판별 컬럼
+-- simhash: description 문단의 문자 shingle로 계산한 64비트 SimHash (판별을 마친 기사만 값이 있음)
+-- canonical_article_id: 유사 중복으로 판별된 기사가 요약/벡터를 재사용할 대표 기사 ID
+-- 유사 중복 기사는 pipeline_state = 4 (DUPLICATE)로 대기하다가 대표 기사가 임베딩되면 요약/벡터를 복사받는다.
+
+-- 1. 컬럼 추가 (배포 전 실행)
+ALTER TABLE article
+    ADD COLUMN simhash BIGINT NULL,
+    ADD COLUMN canonical_article_id BIGINT NULL;
+
+-- 2. 대표 기사 기준 조회용 인덱스
+CREATE INDEX idx_article_canonical_article_id ON article (canonical_article_id);
+
+-- 이미 요약된 기사는 판별 대상이 아니므로 simhash가 NULL로 남고, COLLECTED 상태 기사는 다음 수집 Job에서 판별된다.
+-- 중복 판별을 취소하고 개별 요약하려면 아래를 실행한다.
+-- UPDATE article SET pipeline_state = 0, canonical_article_id = NULL, updated_at = updated_at WHERE pipeline_state = 4;
@@ -0,0 +1,11 @@
+-- 요약/임베딩 실패 횟수 컬럼
+-- 실패한 기사는 같은 단계에 남아 (article.retry.backoff × 실패 횟수) 동안 claim_expires_at으로 점유가 막힌 뒤 다시 처리되고,
+-- article.retry.max-attempts번 실패하면 단계별 실패 상태(11: SUMMARY_FAILED, 12: EMBEDDING_FAILED)로 전이된다.
+-- 단계가 성공하면 0으로 돌아간다.
+
+-- 1. 컬럼 추가 (배포 전 실행)
+ALTER TABLE article ADD COLUMN failed_attempts TINYINT NOT NULL DEFAULT 0;
+
+-- 재시도 횟수를 모두 쓴 기사를 다시 처리하려면 이전 단계로 되돌리고 실패 횟수를 초기화한다.
+-- UPDATE article SET pipeline_state = 0, failed_attempts = 0, updated_at = updated_at WHERE pipeline_state = 11;
+-- UPDATE article SET pipeline_state = 1, failed_attempts = 0, updated_at = updated_at WHERE pipeline_state = 12;
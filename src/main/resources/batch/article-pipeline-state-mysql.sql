@@ -0,0 +1,23 @@
+-- 기사 처리 단계(pipeline_state) 컬럼
+-- 0: COLLECTED, 1: SUMMARIZED, 2: EMBEDDED, 3: INDEXED, 4: DUPLICATE, 11: SUMMARY_FAILED, 12: EMBEDDING_FAILED
+
+-- 1. 컬럼 추가 (배포 전 실행)
+ALTER TABLE article ADD COLUMN pipeline_state TINYINT NOT NULL DEFAULT 0;
+
+-- 2. 기존 데이터 상태 채우기 (updated_at이 바뀌지 않도록 유지)
+--    summary_vector(JSON) 컬럼을 읽으므로 article-summary-vector-binary-mysql.sql 3번(컬럼 삭제)보다 먼저 실행한다.
+--    이미 컬럼을 삭제했다면 CASE의 "OR summary_vector IS NOT NULL"을 빼고 실행한다.
+UPDATE article
+SET pipeline_state = CASE
+        WHEN summary_vector_bin IS NOT NULL OR summary_vector IS NOT NULL THEN 2
+        WHEN summary IS NOT NULL THEN 1
+        ELSE 0
+    END,
+    updated_at = updated_at;
+
+-- 3. 단계별 파티션 범위(MIN/MAX id)와 키셋 조회용 인덱스
+CREATE INDEX idx_article_pipeline_state_id ON article (pipeline_state, id);
+
+-- 실패 상태 기사를 다시 처리하려면 이전 단계로 되돌린다. (실패 횟수는 article-pipeline-retry-mysql.sql 참고)
+-- UPDATE article SET pipeline_state = 0 WHERE pipeline_state = 11;
+-- UPDATE article SET pipeline_state = 1 WHERE pipeline_state = 12;
@@ -0,0 +1,13 @@
+-- summary_vector(JSON) -> summary_vector_bin(BLOB) 이관
+-- 1. 바이너리 컬럼 추가 (배포 전 실행)
+ALTER TABLE article ADD COLUMN summary_vector_bin BLOB NULL AFTER summary_vector;
+
+-- 2. 데이터 이관은 articleEmbeddingJob의 summaryVectorMigrationStep이 수행한다.
+--    아래 쿼리 결과가 0이면 이관 완료
+-- SELECT COUNT(*) FROM article WHERE summary_vector_bin IS NULL AND summary_vector IS NOT NULL;
+
+-- 3. 이관 완료 확인 후 기존 JSON 컬럼 삭제
+--    컬럼 삭제와 함께 article.vector.migration.legacy-json을 false로 설정한다.
+--    (컬럼이 없으면 summaryVectorMigrationStep은 조회 없이 건너뛰지만, 다음 릴리스에서 Step과 설정을 함께 제거한다.)
+--    article-pipeline-state-mysql.sql의 상태 채우기(2번)도 summary_vector를 읽으므로 그보다 먼저 실행되어야 한다.
+-- ALTER TABLE article DROP COLUMN summary_vector;
@@ -0,0 +1,13 @@
+-- 요약/임베딩 작업 점유(lease) 컬럼
+-- 여러 배치 노드가 같은 기사를 동시에 처리하지 않도록 SELECT ... FOR UPDATE SKIP LOCKED로 점유한다.
+-- claim_expires_at이 지난 점유는 노드가 비정상 종료된 것으로 보고 다른 노드가 다시 점유할 수 있다.
+
+-- 1. 컬럼 추가 (배포 전 실행)
+ALTER TABLE article
+    ADD COLUMN claimed_by VARCHAR(100) NULL,
+    ADD COLUMN claim_expires_at DATETIME(6) NULL;
+
+-- 점유 조회는 기존 idx_article_pipeline_state_id (pipeline_state, id) 인덱스를 사용한다.
+
+-- 특정 노드의 점유를 즉시 해제하려면 아래를 실행한다.
+-- UPDATE article SET claimed_by = NULL, claim_expires_at = NULL, updated_at = updated_at WHERE claimed_by = '<worker-id>';
@@ -0,0 +1,15 @@
+-- 요약 임베딩 캐시
+-- (임베딩 모델, 정규화된 요약의 SHA-256)을 키로 벡터를 보관하여 같은 요약을 다시 임베딩하지 않는다.
+-- 벡터는 summary_vector_bin과 같은 바이너리 형식(article.vector.storage-format)으로 저장한다.
+
+-- 1. 테이블 생성 (배포 전 실행)
+CREATE TABLE IF NOT EXISTS embedding_cache (
+    model      VARCHAR(100) NOT NULL,
+    text_hash  BINARY(32)   NOT NULL,
+    vector_bin BLOB         NOT NULL,
+    created_at DATETIME(6)  NOT NULL DEFAULT CURRENT_TIMESTAMP(6),
+    PRIMARY KEY (model, text_hash)
+);
+
+-- 임베딩 모델을 바꾼 뒤 이전 모델의 캐시를 정리하려면 아래를 실행한다.
+-- DELETE FROM embedding_cache WHERE model = '<이전 모델>';
@@ -0,0 +1,16 @@
+-- 임베딩 프로필(article.vector.dimensions, article.vector.storage-format) 변경 절차
+-- 스키마 변경은 없다. 차원 수를 바꾸면 임베딩 Job의 summaryVectorReembedStep이
+-- 차원 수가 다른 기사를 SUMMARIZED(1)로 되돌려 같은 실행에서 다시 임베딩한다.
+
+-- 1. Elasticsearch dense_vector의 dims는 바꿀 수 없으므로 news.index.name을 새 인덱스로 바꾼다.
+--    색인 커서는 인덱스 이름별로 저장되므로 새 인덱스는 처음부터 전체 색인되고,
+--    재임베딩을 기다리는 기사는 벡터 없이 색인되었다가 재임베딩 후 다시 색인된다.
+--    int8 양자화 HNSW를 쓰려면 news.index.vector.index-type을 int8_hnsw로 지정한다.
+
+-- 2. 재임베딩 대상 건수 확인 (예: 512차원, FLOAT32 = 1 + 512 * 4 바이트)
+-- SELECT COUNT(*) FROM article
+-- WHERE pipeline_state IN (2, 3) AND summary_vector_bin IS NOT NULL
+--     AND NOT (ASCII(summary_vector_bin) = 1 AND LENGTH(summary_vector_bin) = 2049);
+
+-- 3. 임베딩 캐시 키는 '모델:차원 수' 형식이다. 차원 수가 없는 이전 키나 더 이상 쓰지 않는 키의 행은 삭제해도 된다.
+-- DELETE FROM embedding_cache WHERE model NOT LIKE '%:%';
@@ -0,0 +1,43 @@
+package com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.dedup.batch.fingerprint;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class SimHashFingerprinterTest {
+	private static final String ARTICLE = "정부는 오늘 내년도 예산안을 발표하며 청년 일자리와 주거 지원을 크게 늘리겠다고 밝혔다. "
+		+ "기획재정부는 경기 둔화에 대응하기 위해 재정 지출을 확대하고 지방 교부금도 함께 조정할 계획이라고 설명했다.";
+
+	private final SimHashFingerprinter fingerprinter = new SimHashFingerprinter(4, 50);
+
+	@Test
+	void 본문이_짧으면_지문을_만들지_않는다() {
+		assertThat(fingerprinter.fingerprint(null)).isEqualTo(SimHashFingerprinter.NO_FINGERPRINT);
+		assertThat(fingerprinter.fingerprint("  ")).isEqualTo(SimHashFingerprinter.NO_FINGERPRINT);
+		assertThat(fingerprinter.fingerprint("짧은 기사 본문입니다.")).isEqualTo(SimHashFingerprinter.NO_FINGERPRINT);
+	}
+
+	@Test
+	void 문단_배열과_일반_텍스트는_같은_지문을_만든다() {
+		String paragraphs = "[\"" + ARTICLE.substring(0, 60) + "\", \"" + ARTICLE.substring(60) + "\"]";
+
+		assertThat(fingerprinter.fingerprint(paragraphs)).isEqualTo(fingerprinter.fingerprint(ARTICLE));
+	}
+
+	@Test
+	void 공백과_문장부호_차이는_무시한다() {
+		String reformatted = "  " + ARTICLE.replace(" ", "\n").replace(".", "!") + "  ";
+
+		assertThat(fingerprinter.fingerprint(reformatted)).isEqualTo(fingerprinter.fingerprint(ARTICLE));
+	}
+
+	@Test
+	void 일부만_다른_본문은_다른_본문보다_가깝다() {
+		long original = fingerprinter.fingerprint(ARTICLE);
+		long edited = fingerprinter.fingerprint(ARTICLE.replace("오늘", "어제"));
+		long unrelated = fingerprinter.fingerprint("프로야구 정규시즌 마지막 경기에서 홈팀이 연장 접전 끝에 승리하며 "
+			+ "가을야구 진출을 확정했고 감독은 선수들의 집중력이 돋보였다고 평가했다. 관중석은 만원이었다.");
+
+		assertThat(Long.bitCount(original ^ edited)).isLessThan(Long.bitCount(original ^ unrelated));
+	}
+}
@@ -0,0 +1,96 @@
+package com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.dedup.batch.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.dedup.batch.fingerprint.SimHashFingerprinter;
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.jdbc.repository.ArticleDuplicateJdbcRepository;
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.jdbc.repository.ArticleDuplicateJdbcRepository.CanonicalFingerprint;
+
+class NearDuplicateIndexTest {
+	private static final long SIMHASH = 0x0123_4567_89ab_cdefL;
+
+	private final ArticleDuplicateJdbcRepository repository = mock(ArticleDuplicateJdbcRepository.class);
+
+	@Test
+	void 밴드마다_한_비트씩_달라도_남은_밴드로_찾는다() {
+		NearDuplicateIndex index = new NearDuplicateIndex(repository, 3, Duration.ofHours(48), 100);
+		index.add(1L, SIMHASH);
+
+		long threeBandsFlipped = SIMHASH ^ (1L | 1L << 16 | 1L << 32);
+
+		assertThat(index.findNearest(2L, threeBandsFlipped)).hasValue(1L);
+	}
+
+	@Test
+	void 허용_거리를_넘으면_찾지_않는다() {
+		NearDuplicateIndex index = new NearDuplicateIndex(repository, 3, Duration.ofHours(48), 100);
+		index.add(1L, SIMHASH);
+
+		long fourBandsFlipped = SIMHASH ^ (1L | 1L << 16 | 1L << 32 | 1L << 48);
+		long sameBandFourBits = SIMHASH ^ 0xFL;
+
+		assertThat(index.findNearest(2L, fourBandsFlipped)).isEmpty();
+		assertThat(index.findNearest(2L, sameBandFourBits)).isEmpty();
+	}
+
+	@Test
+	void 가장_가까운_기사를_고르고_거리가_같으면_ID가_작은_기사를_고른다() {
+		NearDuplicateIndex index = new NearDuplicateIndex(repository, 3, Duration.ofHours(48), 100);
+		index.add(5L, SIMHASH ^ 0b11L);
+		index.add(3L, SIMHASH ^ 0b1L << 20);
+		index.add(4L, SIMHASH ^ 0b1L << 40);
+
+		assertThat(index.findNearest(9L, SIMHASH)).hasValue(3L);
+	}
+
+	@Test
+	void 자기_자신과_지문이_없는_기사는_찾지_않는다() {
+		NearDuplicateIndex index = new NearDuplicateIndex(repository, 3, Duration.ofHours(48), 100);
+		index.add(1L, SIMHASH);
+		index.add(2L, SimHashFingerprinter.NO_FINGERPRINT);
+
+		assertThat(index.findNearest(1L, SIMHASH)).isEmpty();
+		assertThat(index.findNearest(3L, SimHashFingerprinter.NO_FINGERPRINT)).isEmpty();
+	}
+
+	@Test
+	void 최대_크기를_넘으면_오래된_기사부터_제거한다() {
+		NearDuplicateIndex index = new NearDuplicateIndex(repository, 3, Duration.ofHours(48), 2);
+		index.add(1L, SIMHASH);
+		index.add(2L, ~SIMHASH);
+		index.add(3L, SIMHASH ^ 0x00ff_0000_ff00_0000L);
+
+		assertThat(index.findNearest(9L, SIMHASH)).isEmpty();
+		assertThat(index.findNearest(9L, ~SIMHASH)).hasValue(2L);
+	}
+
+	@Test
+	void 기간이_지난_대표_기사는_적재하지_않고_이어서_적재한다() {
+		NearDuplicateIndex index = new NearDuplicateIndex(repository, 3, Duration.ofHours(48), 100);
+		given(repository.findCanonicalFingerprints(anyLong(), any())).willReturn(List.of(
+			new CanonicalFingerprint(1L, SIMHASH, LocalDateTime.now().minusDays(3)),
+			new CanonicalFingerprint(2L, ~SIMHASH, LocalDateTime.now())));
+
+		index.refresh();
+
+		assertThat(index.findNearest(9L, SIMHASH)).isEmpty();
+		assertThat(index.findNearest(9L, ~SIMHASH)).hasValue(2L);
+
+		given(repository.findCanonicalFingerprints(anyLong(), any())).willReturn(List.of());
+		index.refresh();
+
+		verify(repository).findCanonicalFingerprints(eq(2L), any());
+	}
+}
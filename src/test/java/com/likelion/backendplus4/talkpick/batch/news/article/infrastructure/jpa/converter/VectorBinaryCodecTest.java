@@ -0,0 +1,96 @@
+package com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.jpa.converter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.jpa.converter.exception.JpaConvertorException;
+
+class VectorBinaryCodecTest {
+	private static final int DIMENSIONS = 1536;
+
+	@Test
+	void FLOAT32는_손실_없이_복원한다() {
+		float[] vector = randomVector(DIMENSIONS);
+
+		byte[] encoded = VectorBinaryCodec.encode(vector, VectorStorageFormat.FLOAT32);
+
+		assertThat(encoded[0]).isEqualTo(VectorStorageFormat.FLOAT32.getCode());
+		assertThat(VectorBinaryCodec.decode(encoded)).containsExactly(vector);
+	}
+
+	@Test
+	void FLOAT16은_반정밀도_오차_안에서_복원한다() {
+		float[] vector = randomVector(DIMENSIONS);
+
+		float[] decoded = VectorBinaryCodec.decode(VectorBinaryCodec.encode(vector, VectorStorageFormat.FLOAT16));
+
+		assertThat(decoded).hasSize(DIMENSIONS);
+		for (int i = 0; i < DIMENSIONS; i++) {
+			assertThat(decoded[i]).isCloseTo(vector[i], within(Math.abs(vector[i]) / 1024f + 1e-7f));
+		}
+	}
+
+	@Test
+	void INT8은_스케일의_절반_오차_안에서_복원한다() {
+		float[] vector = randomVector(DIMENSIONS);
+		float maxAbs = 0f;
+		for (float value : vector) {
+			maxAbs = Math.max(maxAbs, Math.abs(value));
+		}
+		float scale = maxAbs / 127f;
+
+		float[] decoded = VectorBinaryCodec.decode(VectorBinaryCodec.encode(vector, VectorStorageFormat.INT8));
+
+		assertThat(decoded).hasSize(DIMENSIONS);
+		for (int i = 0; i < DIMENSIONS; i++) {
+			assertThat(decoded[i]).isCloseTo(vector[i], within(scale / 2f + 1e-6f));
+		}
+	}
+
+	@ParameterizedTest
+	@EnumSource(VectorStorageFormat.class)
+	void 영벡터와_빈_벡터를_복원한다(VectorStorageFormat format) {
+		float[] zero = new float[8];
+
+		assertThat(VectorBinaryCodec.decode(VectorBinaryCodec.encode(zero, format))).containsExactly(zero);
+		assertThat(VectorBinaryCodec.decode(VectorBinaryCodec.encode(new float[0], format))).isEmpty();
+	}
+
+	@ParameterizedTest
+	@EnumSource(VectorStorageFormat.class)
+	void 인코딩_길이는_계산한_길이와_같다(VectorStorageFormat format) {
+		byte[] encoded = VectorBinaryCodec.encode(randomVector(DIMENSIONS), format);
+
+		assertThat(encoded).hasSize(VectorBinaryCodec.encodedLength(DIMENSIONS, format));
+	}
+
+	@Test
+	void 길이나_형식_코드가_맞지_않으면_예외가_발생한다() {
+		assertThatThrownBy(() -> VectorBinaryCodec.decode(new byte[0]))
+			.isInstanceOf(JpaConvertorException.class);
+		assertThatThrownBy(() -> VectorBinaryCodec.decode(new byte[] {VectorStorageFormat.FLOAT32.getCode(), 1, 2}))
+			.isInstanceOf(JpaConvertorException.class);
+		assertThatThrownBy(() -> VectorBinaryCodec.decode(new byte[] {VectorStorageFormat.FLOAT16.getCode(), 1}))
+			.isInstanceOf(JpaConvertorException.class);
+		assertThatThrownBy(() -> VectorBinaryCodec.decode(new byte[] {VectorStorageFormat.INT8.getCode(), 1, 2}))
+			.isInstanceOf(JpaConvertorException.class);
+		assertThatThrownBy(() -> VectorBinaryCodec.decode(new byte[] {9, 0, 0, 0, 0}))
+			.isInstanceOf(JpaConvertorException.class);
+	}
+
+	private float[] randomVector(int dimensions) {
+		Random random = new Random(42);
+		float[] vector = new float[dimensions];
+		for (int i = 0; i < dimensions; i++) {
+			vector[i] = (float)random.nextGaussian() * 0.05f;
+		}
+		return vector;
+	}
+}
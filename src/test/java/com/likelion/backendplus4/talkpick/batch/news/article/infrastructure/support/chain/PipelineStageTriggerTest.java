@@ -0,0 +1,74 @@
+package com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.support.chain;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.quartz.JobKey;
+import org.quartz.Scheduler;
+import org.quartz.SchedulerException;
+import org.quartz.Trigger;
+import org.quartz.Trigger.TriggerState;
+import org.quartz.TriggerBuilder;
+
+class PipelineStageTriggerTest {
+	private static final JobKey JOB_KEY = JobKey.jobKey("articleEmbeddingJob", "batch");
+
+	private final Scheduler scheduler = mock(Scheduler.class);
+	private final PipelineStageTrigger trigger = new PipelineStageTrigger(scheduler, Duration.ofSeconds(10));
+
+	@Test
+	void 예약이_없으면_새로_예약한다() throws SchedulerException {
+		given(scheduler.getTriggersOfJob(JOB_KEY)).willReturn(List.of());
+
+		trigger.request(JOB_KEY);
+
+		verify(scheduler).scheduleJob(any(Trigger.class));
+	}
+
+	@Test
+	void 실행_대기_중인_예약이_있으면_합친다() throws SchedulerException {
+		Trigger waiting = chainTrigger("waiting");
+		given(scheduler.getTriggersOfJob(JOB_KEY)).willAnswer(invocation -> List.of(waiting));
+		given(scheduler.getTriggerState(waiting.getKey())).willReturn(TriggerState.NORMAL);
+
+		trigger.request(JOB_KEY);
+
+		verify(scheduler, never()).scheduleJob(any(Trigger.class));
+	}
+
+	@Test
+	void 이미_실행된_예약만_있으면_다음_실행을_새로_예약한다() throws SchedulerException {
+		Trigger fired = chainTrigger("fired");
+		given(scheduler.getTriggersOfJob(JOB_KEY)).willAnswer(invocation -> List.of(fired));
+		given(scheduler.getTriggerState(fired.getKey())).willReturn(TriggerState.COMPLETE);
+
+		trigger.request(JOB_KEY);
+
+		verify(scheduler).scheduleJob(any(Trigger.class));
+	}
+
+	@Test
+	void 연쇄_실행이_아닌_Trigger는_예약으로_보지_않는다() throws SchedulerException {
+		Trigger cron = TriggerBuilder.newTrigger().forJob(JOB_KEY).withIdentity("articleEmbeddingCronTrigger").build();
+		given(scheduler.getTriggersOfJob(JOB_KEY)).willAnswer(invocation -> List.of(cron));
+		given(scheduler.getTriggerState(cron.getKey())).willReturn(TriggerState.NORMAL);
+
+		trigger.request(JOB_KEY);
+
+		verify(scheduler).scheduleJob(any(Trigger.class));
+	}
+
+	private Trigger chainTrigger(String suffix) {
+		return TriggerBuilder.newTrigger()
+			.forJob(JOB_KEY)
+			.withIdentity(JOB_KEY.getName() + "ChainTrigger-" + suffix, JOB_KEY.getGroup())
+			.build();
+	}
+}
@@ -0,0 +1,84 @@
+package com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.support.partitioner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.jpa.entity.ArticlePipelineState;
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.support.partitioner.dto.ArticleIdRange;
+
+@SuppressWarnings("unchecked")
+class PendingWorkPartitionCalculatorTest {
+	private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+	private final PendingWorkPartitionCalculator calculator = new PendingWorkPartitionCalculator(jdbcTemplate, 100);
+
+	@Test
+	void 타일_사이의_ID를_앞_파티션에_포함해_범위를_연속시킨다() {
+		givenPending(300L);
+		givenTiles(new long[] {5, 40}, new long[] {52, 90}, new long[] {101, 130});
+
+		List<ArticleIdRange> ranges = calculator.calculate(ArticlePipelineState.COLLECTED, 10);
+
+		assertThat(ranges).containsExactly(
+			new ArticleIdRange(5, 51),
+			new ArticleIdRange(52, 100),
+			new ArticleIdRange(101, 130));
+		for (int i = 1; i < ranges.size(); i++) {
+			assertThat(ranges.get(i).start()).isEqualTo(ranges.get(i - 1).end() + 1);
+		}
+	}
+
+	@Test
+	void 대기_기사가_없으면_분할하지_않는다() {
+		givenPending(0L);
+
+		assertThat(calculator.calculate(ArticlePipelineState.SUMMARIZED, 10)).isEmpty();
+		verify(jdbcTemplate, never()).query(contains("NTILE"), any(RowMapper.class), any(), any());
+	}
+
+	@ParameterizedTest
+	@CsvSource({"1, 10, 1", "150, 10, 2", "1000, 10, 10", "5000, 4, 4"})
+	void 파티션_수는_대기_건수와_최대_파티션_수로_정한다(long pending, int maxGridSize, int expectedGridSize) {
+		givenPending(pending);
+		givenTiles(new long[] {1, pending});
+
+		calculator.calculate(ArticlePipelineState.COLLECTED, maxGridSize);
+
+		verify(jdbcTemplate).query(contains("NTILE"), any(RowMapper.class), eq(expectedGridSize),
+			eq(ArticlePipelineState.COLLECTED.getCode()));
+	}
+
+	private void givenPending(long count) {
+		given(jdbcTemplate.queryForObject(anyString(), eq(Long.class), any())).willReturn(count);
+	}
+
+	private void givenTiles(long[]... tiles) {
+		given(jdbcTemplate.query(contains("NTILE"), any(RowMapper.class), any(), any())).willAnswer(invocation -> {
+			RowMapper<ArticleIdRange> rowMapper = invocation.getArgument(1);
+			List<ArticleIdRange> mapped = new ArrayList<>();
+			for (int i = 0; i < tiles.length; i++) {
+				ResultSet rs = mock(ResultSet.class);
+				given(rs.getLong("min_id")).willReturn(tiles[i][0]);
+				given(rs.getLong("max_id")).willReturn(tiles[i][1]);
+				mapped.add(rowMapper.mapRow(rs, i));
+			}
+			return mapped;
+		});
+	}
+}
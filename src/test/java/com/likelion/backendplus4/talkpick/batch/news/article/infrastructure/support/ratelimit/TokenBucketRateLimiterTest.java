@@ -0,0 +1,101 @@
+package com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.support.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class TokenBucketRateLimiterTest {
+	private final FakeClock clock = new FakeClock();
+
+	@Test
+	void 용량_안의_요청은_기다리지_않는다() throws InterruptedException {
+		TokenBucketRateLimiter limiter = clock.limiter(5, 1_000);
+
+		for (int i = 0; i < 5; i++) {
+			limiter.acquire(200);
+		}
+
+		assertThat(clock.waits).isEmpty();
+	}
+
+	@Test
+	void 요청_수가_소진되면_다시_채워질_때까지_기다린다() throws InterruptedException {
+		TokenBucketRateLimiter limiter = clock.limiter(600, 1_000_000);
+		for (int i = 0; i < 600; i++) {
+			limiter.acquire(1);
+		}
+
+		limiter.acquire(1);
+
+		assertThat(clock.waits).containsExactly(Duration.ofMillis(100));
+	}
+
+	@Test
+	void 토큰이_소진되면_필요한_토큰이_채워질_때까지_기다린다() throws InterruptedException {
+		TokenBucketRateLimiter limiter = clock.limiter(10_000, 6_000);
+		limiter.acquire(6_000);
+
+		limiter.acquire(50);
+
+		assertThat(clock.waits).containsExactly(Duration.ofMillis(500));
+	}
+
+	@Test
+	void 지난_시간만큼_채워진_양은_기다리지_않는다() throws InterruptedException {
+		TokenBucketRateLimiter limiter = clock.limiter(10_000, 6_000);
+		limiter.acquire(6_000);
+		clock.advance(Duration.ofMillis(200));
+
+		limiter.acquire(50);
+
+		assertThat(clock.waits).containsExactly(Duration.ofMillis(300));
+	}
+
+	@Test
+	void 용량보다_큰_토큰_요청은_용량으로_제한한다() throws InterruptedException {
+		TokenBucketRateLimiter limiter = clock.limiter(10, 100);
+
+		limiter.acquire(1_000);
+
+		assertThat(clock.waits).isEmpty();
+	}
+
+	@Test
+	void 대기_중_인터럽트되면_예외가_발생한다() throws InterruptedException {
+		TokenBucketRateLimiter limiter = clock.limiter(1, 100);
+		limiter.acquire(1);
+
+		Thread.currentThread().interrupt();
+		try {
+			assertThatThrownBy(() -> limiter.acquire(1)).isInstanceOf(InterruptedException.class);
+		} finally {
+			Thread.interrupted();
+		}
+	}
+
+	/**
+	 * 대기 요청을 기록하고, 기다린 만큼 시간을 앞당기는 가짜 시계.
+	 */
+	private static class FakeClock {
+		private final List<Duration> waits = new ArrayList<>();
+		private long nanos;
+
+		TokenBucketRateLimiter limiter(int requestsPerMinute, int tokensPerMinute) {
+			return new TokenBucketRateLimiter(requestsPerMinute, tokensPerMinute, () -> nanos, this::sleep);
+		}
+
+		void advance(Duration duration) {
+			nanos += duration.toNanos();
+		}
+
+		private void sleep(long waitNanos) {
+			waits.add(Duration.ofNanos(waitNanos));
+			nanos += waitNanos;
+		}
+	}
+}
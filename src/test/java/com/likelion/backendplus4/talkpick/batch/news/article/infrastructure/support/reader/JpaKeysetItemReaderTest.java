@@ -0,0 +1,95 @@
+package com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.support.reader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.item.ExecutionContext;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
+class JpaKeysetItemReaderTest {
+	private static final List<Long> IDS = LongStream.rangeClosed(1, 10).map(id -> id * 10).boxed().toList();
+
+	@Test
+	void 재시작하면_마지막으로_읽은_ID_다음부터_읽는다() throws Exception {
+		ExecutionContext executionContext = new ExecutionContext();
+		InMemoryKeysetItemReader first = newReader();
+		first.open(executionContext);
+		List<Long> read = new ArrayList<>();
+		for (int i = 0; i < 4; i++) {
+			read.add(first.read());
+		}
+		first.update(executionContext);
+		first.close();
+
+		InMemoryKeysetItemReader restarted = newReader();
+		restarted.open(executionContext);
+		Long id;
+		while ((id = restarted.read()) != null) {
+			read.add(id);
+		}
+
+		assertThat(read).containsExactlyElementsOf(IDS);
+		assertThat(restarted.requestedLastIds.getFirst()).isEqualTo(40L);
+	}
+
+	@Test
+	void 저장된_위치가_없으면_시작_ID_다음부터_읽는다() throws Exception {
+		InMemoryKeysetItemReader reader = newReader();
+		reader.setStartAfterId(55L);
+		reader.open(new ExecutionContext());
+
+		List<Long> read = new ArrayList<>();
+		Long id;
+		while ((id = reader.read()) != null) {
+			read.add(id);
+		}
+
+		assertThat(read).containsExactly(60L, 70L, 80L, 90L, 100L);
+	}
+
+	@Test
+	void 페이지가_가득_차지_않으면_더_조회하지_않는다() throws Exception {
+		InMemoryKeysetItemReader reader = newReader();
+		reader.open(new ExecutionContext());
+
+		while (reader.read() != null) {
+		}
+
+		assertThat(reader.requestedLastIds).containsExactly(0L, 30L, 60L, 90L);
+	}
+
+	private InMemoryKeysetItemReader newReader() {
+		EntityManagerFactory entityManagerFactory = mock(EntityManagerFactory.class);
+		given(entityManagerFactory.createEntityManager()).willReturn(mock(EntityManager.class));
+
+		InMemoryKeysetItemReader reader = new InMemoryKeysetItemReader();
+		reader.setName("keysetReader");
+		reader.setEntityManagerFactory(entityManagerFactory);
+		reader.setQueryString("SELECT a FROM ArticleEntity a WHERE a.id > :lastId ORDER BY a.id", Long.class);
+		reader.setPageSize(3);
+		return reader;
+	}
+
+	private static class InMemoryKeysetItemReader extends JpaKeysetItemReader<Long> {
+		private final List<Long> requestedLastIds = new ArrayList<>();
+
+		@Override
+		protected Long extractId(Long item) {
+			return item;
+		}
+
+		@Override
+		protected List<Long> fetchPage(long lastId, int pageSize) {
+			requestedLastIds.add(lastId);
+			return IDS.stream().filter(id -> id > lastId).limit(pageSize).toList();
+		}
+	}
+}
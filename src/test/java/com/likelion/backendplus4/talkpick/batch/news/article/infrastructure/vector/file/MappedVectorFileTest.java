@@ -0,0 +1,115 @@
+package com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.vector.file;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.jpa.converter.VectorStorageFormat;
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.vector.EmbeddingProfile;
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.vector.VectorCatchUpCursor;
+import com.likelion.backendplus4.talkpick.batch.news.article.infrastructure.vector.VectorSearchResult;
+
+class MappedVectorFileTest {
+	private static final int DIMENSIONS = 4;
+	private static final int SEGMENT_RECORDS = 2;
+
+	@TempDir
+	Path directory;
+
+	@Test
+	void 다시_열면_세그먼트를_넘는_레코드를_모두_읽는다() {
+		MappedVectorFile file = open(DIMENSIONS);
+		file.appendAll(List.of(10L, 20L, 30L), List.of(vector(1), vector(2), vector(3)));
+		file.stop();
+
+		MappedVectorFile reopened = open(DIMENSIONS);
+
+		assertThat(scannedIds(reopened)).containsExactly(10L, 20L, 30L);
+		assertThat(reopened.get(30L)).containsExactly(vector(3));
+		assertThat(reopened.get(40L)).isNull();
+	}
+
+	@Test
+	void 이미_있는_기사는_같은_슬롯을_덮어쓴다() {
+		MappedVectorFile file = open(DIMENSIONS);
+		file.appendAll(List.of(10L, 20L), List.of(vector(1), vector(2)));
+		file.appendAll(List.of(10L), List.of(vector(5)));
+		file.stop();
+
+		MappedVectorFile reopened = open(DIMENSIONS);
+
+		assertThat(scannedIds(reopened)).containsExactly(10L, 20L);
+		assertThat(reopened.get(10L)).containsExactly(vector(5));
+	}
+
+	@Test
+	void 차원_수가_다른_벡터는_기록하지_않는다() {
+		MappedVectorFile file = open(DIMENSIONS);
+
+		file.appendAll(List.of(10L, 20L), List.of(new float[DIMENSIONS + 1], vector(2)));
+
+		assertThat(scannedIds(file)).containsExactly(20L);
+	}
+
+	@Test
+	void 적재_커서는_다시_열어도_유지되고_뒤로_가지_않는다() {
+		VectorCatchUpCursor cursor = new VectorCatchUpCursor(LocalDateTime.of(2025, 5, 22, 10, 0, 0, 123_456_000), 42L);
+		MappedVectorFile file = open(DIMENSIONS);
+		assertThat(file.catchUpCursor()).isEqualTo(VectorCatchUpCursor.initial());
+
+		file.advanceCatchUpCursor(cursor);
+		file.advanceCatchUpCursor(new VectorCatchUpCursor(cursor.lastUpdatedAt(), 41L));
+		file.stop();
+
+		assertThat(open(DIMENSIONS).catchUpCursor()).isEqualTo(cursor);
+	}
+
+	@Test
+	void 차원_수가_바뀌면_파일을_새로_만든다() {
+		MappedVectorFile file = open(DIMENSIONS);
+		file.appendAll(List.of(10L), List.of(vector(1)));
+		file.advanceCatchUpCursor(new VectorCatchUpCursor(LocalDateTime.of(2025, 5, 22, 10, 0), 10L));
+		file.stop();
+
+		MappedVectorFile reopened = open(DIMENSIONS * 2);
+
+		assertThat(scannedIds(reopened)).isEmpty();
+		assertThat(reopened.catchUpCursor()).isEqualTo(VectorCatchUpCursor.initial());
+	}
+
+	@Test
+	void 코사인_유사도가_높은_순으로_찾는다() {
+		MappedVectorFile file = open(DIMENSIONS);
+		file.appendAll(List.of(1L, 2L, 3L),
+			List.of(new float[] {1, 0, 0, 0}, new float[] {0, 1, 0, 0}, new float[] {1, 1, 0, 0}));
+
+		List<VectorSearchResult> results = file.findNearest(new float[] {2, 0, 0, 0}, 2);
+
+		assertThat(results).extracting(VectorSearchResult::articleId).containsExactly(1L, 3L);
+	}
+
+	private MappedVectorFile open(int dimensions) {
+		EmbeddingProfile profile = new EmbeddingProfile("text-embedding-3-small", dimensions,
+			VectorStorageFormat.FLOAT32);
+		MappedVectorFile file = new MappedVectorFile(true, directory, profile, SEGMENT_RECORDS);
+		file.start();
+		assertThat(file.isRunning()).isTrue();
+		return file;
+	}
+
+	private List<Long> scannedIds(MappedVectorFile file) {
+		List<Long> ids = new ArrayList<>();
+		file.scan((articleId, vectors, offset) -> ids.add(articleId));
+		return ids;
+	}
+
+	private float[] vector(int seed) {
+		return new float[] {seed, seed * 0.5f, -seed, seed * 0.25f};
+	}
+}